@@ -0,0 +1,24 @@
+package ai.bluefields.podcastgen.config;
+
+import ai.bluefields.podcastgen.model.EncodingProfile;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encoding of the final podcast audio.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audio.encoding")
+@Getter
+@Setter
+public class AudioEncodingProperties {
+    // Profile of podcasts that have not chosen one
+    private EncodingProfile defaultProfile = EncodingProfile.STANDARD;
+    // Extra renditions encoded alongside the main audio of every podcast, e.g. MOBILE
+    private List<EncodingProfile> renditions = new ArrayList<>();
+}
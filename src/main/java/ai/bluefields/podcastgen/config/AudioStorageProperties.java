@@ -0,0 +1,24 @@
+package ai.bluefields.podcastgen.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Volumes generated podcast audio is stored on.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.storage.audio")
+@Getter
+@Setter
+public class AudioStorageProperties {
+    // Root directories in order of preference, e.g. a fast disk first; empty means the uploads base path
+    private List<String> roots = new ArrayList<>();
+    // A root is skipped for new files when writing would leave it with less free space than this
+    private DataSize minFreeSpace = DataSize.ofGigabytes(1);
+}
@@ -0,0 +1,71 @@
+package ai.bluefields.podcastgen.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.time.Duration;
+
+/**
+ * Caches for the read-mostly voice library. Shared voice queries (the seeded STANDARD
+ * voices, defaults, tag and gender lookups) live long; per-user queries over GENERATED
+ * voices expire sooner. Writes evict explicitly, and evictions are deferred until the
+ * surrounding transaction commits so a concurrent read cannot re-cache the old state.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String VOICES = "voices";
+    public static final String VOICE_BY_ID = "voiceById";
+    public static final String USER_VOICES = "userVoices";
+
+    @Bean
+    public CacheManager cacheManager(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.voices.ttl:1h}") Duration voicesTtl,
+            @Value("${app.cache.voices.max-size:1000}") long voicesMaxSize,
+            @Value("${app.cache.user-voices.ttl:10m}") Duration userVoicesTtl,
+            @Value("${app.cache.user-voices.max-size:5000}") long userVoicesMaxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        register(cacheManager, meterRegistry, VOICES, voicesTtl, voicesMaxSize);
+        register(cacheManager, meterRegistry, VOICE_BY_ID, voicesTtl, voicesMaxSize);
+        register(cacheManager, meterRegistry, USER_VOICES, userVoicesTtl, userVoicesMaxSize);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Adds ETags to voice responses and answers conditional requests with 304.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> voiceEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+            new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/voices/*");
+        registration.setName("voiceEtagFilter");
+        return registration;
+    }
+
+    private static void register(CaffeineCacheManager cacheManager, MeterRegistry meterRegistry,
+                                 String name, Duration ttl, long maxSize) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        cacheManager.registerCustomCache(name, cache);
+        Gauge.builder("app.cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .description("Share of lookups served from the cache")
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+}
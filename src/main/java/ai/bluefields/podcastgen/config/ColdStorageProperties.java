@@ -0,0 +1,32 @@
+package ai.bluefields.podcastgen.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Moving old podcast outputs off the audio storage into a compressed cold directory.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.storage.cold")
+@Getter
+@Setter
+public class ColdStorageProperties {
+    private boolean enabled = false;
+    // Directory for cold files, typically on a cheaper volume; empty means "cold" below the uploads base path
+    private String path = "";
+    // Outputs created, or last restored, longer ago than this are moved to the cold directory
+    private Duration minAge = Duration.ofDays(90);
+    // Outputs selected per chunk, and how long one cycle may keep starting new chunks
+    private int chunkSize = 50;
+    private Duration timeBudget = Duration.ofMinutes(5);
+    // Concurrent restores of cold files requested by playback
+    private int restoreThreads = 2;
+    // Sent as Retry-After while a requested file is being restored
+    private Duration retryAfter = Duration.ofSeconds(5);
+    // Stream a cold file while it is restored instead of answering 202; such responses cannot seek
+    private boolean streamWhileRestoring = false;
+}
@@ -0,0 +1,29 @@
+package ai.bluefields.podcastgen.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeout settings for the shared ElevenLabs HTTP client.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "elevenlabs.client")
+@Getter
+@Setter
+public class ElevenLabsClientProperties {
+    private String baseUrl = "https://api.elevenlabs.io";
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(120);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(30);
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 20;
+    // Shared limit on in-flight API calls (generation, previews and imports together)
+    private int maxConcurrentRequests = 10;
+    // How long a call waits for a free slot before failing
+    private Duration permitTimeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,44 @@
+package ai.bluefields.podcastgen.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Tail-latency and failure protection settings for ElevenLabs text-to-speech calls.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "elevenlabs.resilience")
+@Getter
+@Setter
+public class ElevenLabsResilienceProperties {
+    private Hedging hedging = new Hedging();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class Hedging {
+        private boolean enabled = true;
+        // Latency percentile after which a second, identical request is sent
+        private double percentile = 0.95;
+        private int windowSize = 200;
+        private int minimumSamples = 20;
+        private Duration minDelay = Duration.ofMillis(500);
+        private Duration maxDelay = Duration.ofSeconds(30);
+        private int maxConcurrentRequests = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(60);
+        private int halfOpenCalls = 3;
+    }
+}
@@ -0,0 +1,24 @@
+package ai.bluefields.podcastgen.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Worker pool and fairness settings for podcast generation jobs.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.generation.scheduler")
+@Getter
+@Setter
+public class GenerationSchedulerProperties {
+    private int workers = 5;
+    // Maximum number of jobs a single user can have running at the same time
+    private int perUserInFlightLimit = 2;
+    // Within a user's queue, start shorter podcasts first
+    private boolean shortestFirst = true;
+    // Used to estimate start times, in seconds of work per minute of podcast
+    private int secondsPerPodcastMinute = 30;
+    private int defaultLengthMinutes = 5;
+}
@@ -1,42 +1,302 @@
 package ai.bluefields.podcastgen.config;
 
 import ai.bluefields.podcastgen.model.GenerationStatus;
+import ai.bluefields.podcastgen.service.ProgressEventBus;
+import ai.bluefields.podcastgen.service.impl.GenerationProgressBuffer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Pushes generation progress from the {@link ProgressEventBus} to every browser
+ * subscribed to a podcast on this node. Each session keeps only the latest update that
+ * is not sent yet, so a slow client skips intermediate progress instead of queueing it,
+ * and at most one send per session runs at a time on the shared fan-out pool. Sessions
+ * stuck in a send longer than the send time limit, or idle for longer than the idle
+ * timeout, are closed by a periodic sweep. New subscribers are first sent the recent
+ * history held by {@link GenerationProgressBuffer}.
+ */
 @Component
-public class PodcastGenerationWebSocketHandler extends TextWebSocketHandler {
-    private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+public class PodcastGenerationWebSocketHandler extends TextWebSocketHandler implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(PodcastGenerationWebSocketHandler.class);
+
+    private record Outgoing(Long eventId, TextMessage message) {
+    }
+
+    private final ConcurrentHashMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Subscriber> subscribersBySessionId = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
+    private final GenerationProgressBuffer progressBuffer;
+    private final ExecutorService fanOutExecutor;
+    private final long sendTimeLimitMillis;
+    private final Duration idleTimeout;
 
-    public PodcastGenerationWebSocketHandler(ObjectMapper objectMapper) {
+    public PodcastGenerationWebSocketHandler(
+            ObjectMapper objectMapper,
+            GenerationProgressBuffer progressBuffer,
+            ProgressEventBus progressEventBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.send-time-limit:5s}") Duration sendTimeLimit,
+            @Value("${app.websocket.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${app.websocket.fan-out-threads:4}") int fanOutThreads) {
         this.objectMapper = objectMapper;
+        this.progressBuffer = progressBuffer;
+        this.sendTimeLimitMillis = sendTimeLimit.toMillis();
+        this.idleTimeout = idleTimeout;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.fanOutExecutor = Executors.newFixedThreadPool(Math.max(1, fanOutThreads), runnable -> {
+            Thread thread = new Thread(runnable, "websocket-fan-out-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        progressEventBus.subscribe((podcastId, status) -> sendUpdate(podcastId.toString(), status));
+
+        Gauge.builder("podcast.generation.websocket.sessions", subscribersBySessionId, ConcurrentHashMap::size)
+            .description("Open WebSocket sessions subscribed to generation progress")
+            .register(meterRegistry);
     }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         String podcastId = extractPodcastId(session);
-        sessions.put(podcastId, session);
+        Subscriber subscriber = new Subscriber(podcastId, session);
+        // Subscribe before taking the history, so no update falls between the two
+        subscribers.computeIfAbsent(podcastId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscribersBySessionId.put(session.getId(), subscriber);
+        log.debug("WebSocket session {} subscribed to podcast {}", session.getId(), podcastId);
+
+        queueReplay(subscriber);
+        // Live updates received so far wait behind the history
+        subscriber.ready = true;
+        schedule(subscriber);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        log.debug("WebSocket session {} closed: {}", session.getId(), status);
+        unsubscribe(session.getId());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("WebSocket transport error on session {}: {}", session.getId(), exception.getMessage());
+        unsubscribe(session.getId());
     }
 
     public void sendUpdate(String podcastId, GenerationStatus status) {
-        WebSocketSession session = sessions.get(podcastId);
-        if (session != null && session.isOpen()) {
-            try {
-                String message = objectMapper.writeValueAsString(status);
-                session.sendMessage(new TextMessage(message));
-            } catch (Exception e) {
-                // Handle error
+        Set<Subscriber> podcastSubscribers = subscribers.get(podcastId);
+        if (podcastSubscribers == null || podcastSubscribers.isEmpty()) {
+            return;
+        }
+
+        TextMessage message = toMessage(podcastId, status);
+        if (message == null) {
+            return;
+        }
+
+        Outgoing update = new Outgoing(status.getEventId(), message);
+        for (Subscriber subscriber : podcastSubscribers) {
+            // Replaces an update the session has not been sent yet
+            subscriber.latest.accumulateAndGet(update, PodcastGenerationWebSocketHandler::newer);
+            if (subscriber.ready) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    public int getActiveSessionCount() {
+        return subscribersBySessionId.size();
+    }
+
+    /**
+     * Closes sessions that are stuck in a send or have been idle for too long.
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.sweep-interval:PT30S}")
+    public void removeIdleSessions() {
+        long now = System.currentTimeMillis();
+        long idleBefore = now - idleTimeout.toMillis();
+        for (Subscriber subscriber : subscribersBySessionId.values()) {
+            long sendingSince = subscriber.sendingSince;
+            if (!subscriber.session.isOpen()) {
+                unsubscribe(subscriber.session.getId());
+            } else if (sendingSince > 0 && now - sendingSince > sendTimeLimitMillis) {
+                log.debug("Closing WebSocket session {}, a send is taking longer than {} ms",
+                    subscriber.session.getId(), sendTimeLimitMillis);
+                close(subscriber, CloseStatus.SESSION_NOT_RELIABLE);
+            } else if (subscriber.lastActivity < idleBefore) {
+                log.debug("Closing idle WebSocket session {}", subscriber.session.getId());
+                close(subscriber, CloseStatus.GOING_AWAY);
+            }
+        }
+    }
+
+    private void queueReplay(Subscriber subscriber) {
+        Long podcastId;
+        try {
+            podcastId = Long.valueOf(subscriber.podcastId);
+        } catch (NumberFormatException e) {
+            log.warn("Not replaying progress for invalid podcast id {}", subscriber.podcastId);
+            return;
+        }
+        for (GenerationStatus status : progressBuffer.snapshot(podcastId)) {
+            TextMessage message = toMessage(subscriber.podcastId, status);
+            if (message != null) {
+                subscriber.replay.add(new Outgoing(status.getEventId(), message));
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            // The running drain picks the update up
+            return;
+        }
+        try {
+            fanOutExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Outgoing next;
+            while ((next = subscriber.next()) != null) {
+                if (!send(subscriber, next)) {
+                    // Unsubscribed; leave it marked as draining so nothing is scheduled any more
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // An update may have arrived after the last poll but before the flag was cleared
+        } while (subscriber.hasPending() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, Outgoing outgoing) {
+        WebSocketSession session = subscriber.session;
+        if (!session.isOpen()) {
+            unsubscribe(session.getId());
+            return false;
+        }
+        // Events of the history may also arrive live, only send them once
+        if (outgoing.eventId() != null) {
+            if (outgoing.eventId() <= subscriber.lastSentEventId) {
+                return true;
             }
+            subscriber.lastSentEventId = outgoing.eventId();
+        }
+        subscriber.sendingSince = System.currentTimeMillis();
+        try {
+            session.sendMessage(outgoing.message());
+            subscriber.lastActivity = System.currentTimeMillis();
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to send progress to session {} for podcast {}: {}",
+                session.getId(), subscriber.podcastId, e.getMessage());
+            unsubscribe(session.getId());
+            return false;
+        } finally {
+            subscriber.sendingSince = 0;
+        }
+    }
+
+    private TextMessage toMessage(String podcastId, GenerationStatus status) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(status));
+        } catch (Exception e) {
+            log.error("Failed to serialize generation status for podcast {}: {}", podcastId, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void close(Subscriber subscriber, CloseStatus status) {
+        try {
+            subscriber.session.close(status);
+        } catch (Exception e) {
+            log.debug("Failed to close session {}: {}", subscriber.session.getId(), e.getMessage());
+        }
+        unsubscribe(subscriber.session.getId());
+    }
+
+    private void unsubscribe(String sessionId) {
+        Subscriber subscriber = subscribersBySessionId.remove(sessionId);
+        if (subscriber == null) {
+            return;
         }
+        subscribers.computeIfPresent(subscriber.podcastId, (key, podcastSubscribers) -> {
+            podcastSubscribers.remove(subscriber);
+            return podcastSubscribers.isEmpty() ? null : podcastSubscribers;
+        });
     }
 
     private String extractPodcastId(WebSocketSession session) {
         String path = session.getUri().getPath();
         return path.substring(path.lastIndexOf('/') + 1);
     }
+
+    private static Outgoing newer(Outgoing current, Outgoing update) {
+        if (current == null || current.eventId() == null || update.eventId() == null) {
+            return update;
+        }
+        // Updates relayed from other nodes can overtake each other
+        return update.eventId() >= current.eventId() ? update : current;
+    }
+
+    @Override
+    public void destroy() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        private final String podcastId;
+        private final WebSocketSession session;
+        private final Queue<Outgoing> replay = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Outgoing> latest = new AtomicReference<>();
+        // Set while a drain is scheduled or running, so sends to one session never overlap
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean ready;
+        private volatile long lastActivity = System.currentTimeMillis();
+        // Start of the send in progress, 0 if none
+        private volatile long sendingSince;
+        // Only touched by the running drain
+        private long lastSentEventId;
+
+        private Subscriber(String podcastId, WebSocketSession session) {
+            this.podcastId = podcastId;
+            this.session = session;
+        }
+
+        private Outgoing next() {
+            Outgoing next = replay.poll();
+            return next != null ? next : latest.getAndSet(null);
+        }
+
+        private boolean hasPending() {
+            return !replay.isEmpty() || latest.get() != null;
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package ai.bluefields.podcastgen.config;
+
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Rules for deleting old podcasts. A podcast is deleted when any enabled rule matches;
+ * podcasts that are being generated are never touched.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.retention")
+@Getter
+@Setter
+public class RetentionProperties {
+    private boolean enabled = false;
+    // Podcasts created longer ago than this are deleted; null disables the rule
+    private Duration maxAge;
+    // Failed or cancelled podcasts are deleted sooner; null disables the rule
+    private Duration failedMaxAge = Duration.ofDays(7);
+    private Set<PodcastGenerationStatus> failedGenerationStatuses =
+        EnumSet.of(PodcastGenerationStatus.ERROR, PodcastGenerationStatus.CANCELLED);
+    // Only the newest podcasts of each user are kept; 0 disables the rule
+    private int maxPodcastsPerUser = 0;
+    // Podcasts deleted per transaction
+    private int chunkSize = 200;
+    // A cycle stops starting new chunks once this much time has passed
+    private Duration timeBudget = Duration.ofSeconds(30);
+}
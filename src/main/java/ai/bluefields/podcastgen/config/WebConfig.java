@@ -5,7 +5,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -15,15 +14,9 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Existing uploads handler
+        // Existing uploads handler; generated podcast audio is served by AudioStreamController
         registry.addResourceHandler("/api/uploads/**")
-                .addResourceLocations("file:uploads/")
-                .setCacheControl(CacheControl.noCache());
-
-        // Add audio files handler
-        registry.addResourceHandler("/api/audio/**")
                 .addResourceLocations("file:" + appProperties.getBasePath() + "/")
-                .setCacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
-                .resourceChain(true);
+                .setCacheControl(CacheControl.noCache());
     }
 }
@@ -2,8 +2,11 @@ package ai.bluefields.podcastgen.config.hibernate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.ParameterizedType;
 import org.hibernate.usertype.UserType;
 
 import java.io.Serializable;
@@ -11,9 +14,32 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Properties;
+
+/**
+ * Maps a {@link JsonNode} to a jsonb column.
+ *
+ * <p>By default values are treated as mutable and copied structurally for Hibernate's
+ * loaded-state snapshot. With the {@code immutable} parameter set to {@code true} no
+ * snapshot copy is made at all: entities must assign a new node instead of modifying
+ * the loaded one in place. Content hashes of immutable nodes are cached per instance,
+ * so dirty checking a replaced value only walks both trees when the hashes match.
+ */
+public class JsonNodeType implements UserType<JsonNode>, ParameterizedType {
+    public static final String IMMUTABLE = "immutable";
 
-public class JsonNodeType implements UserType<JsonNode> {
     private static final ObjectMapper mapper = new ObjectMapper();
+    // Identity keyed, entries disappear together with the node
+    private static final Cache<JsonNode, Integer> HASHES = Caffeine.newBuilder()
+        .weakKeys()
+        .build();
+
+    private boolean immutable;
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        immutable = Boolean.parseBoolean(parameters.getProperty(IMMUTABLE, "false"));
+    }
 
     @Override
     public int getSqlType() {
@@ -33,11 +59,17 @@ public class JsonNodeType implements UserType<JsonNode> {
         if (x == null || y == null) {
             return false;
         }
+        if (immutable && hashCode(x) != hashCode(y)) {
+            return false;
+        }
         return x.equals(y);
     }
 
     @Override
     public int hashCode(JsonNode x) {
+        if (immutable) {
+            return HASHES.get(x, JsonNode::hashCode);
+        }
         return x.hashCode();
     }
 
@@ -71,19 +103,15 @@ public class JsonNodeType implements UserType<JsonNode> {
 
     @Override
     public JsonNode deepCopy(JsonNode value) {
-        if (value == null) {
-            return null;
-        }
-        try {
-            return mapper.readTree(value.toString());
-        } catch (Exception e) {
-            throw new HibernateException("Could not deep copy JsonNode", e);
+        if (value == null || immutable) {
+            return value;
         }
+        return value.deepCopy();
     }
 
     @Override
     public boolean isMutable() {
-        return true;
+        return !immutable;
     }
 
     @Override
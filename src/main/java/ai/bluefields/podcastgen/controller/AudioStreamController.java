@@ -0,0 +1,98 @@
+package ai.bluefields.podcastgen.controller;
+
+import ai.bluefields.podcastgen.config.ColdStorageProperties;
+import ai.bluefields.podcastgen.service.AudioStorage;
+import ai.bluefields.podcastgen.service.impl.AudioTieringService;
+import ai.bluefields.podcastgen.service.impl.ColdAudioStore;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams generated podcast audio from the {@link AudioStorage}. Range requests are
+ * answered with partial content, so players can seek without downloading the whole file.
+ * <p>
+ * Audio that was moved to the cold tier is restored in the background on first request.
+ * Until then the response is {@code 202 Accepted} with a {@code Retry-After} header, or,
+ * when enabled, the decompressed cold file without range support.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AudioStreamController {
+
+    private static final Logger log = LoggerFactory.getLogger(AudioStreamController.class);
+    private static final String AUDIO_PATTERN = "/api/audio/**";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private final AudioStorage audioStorage;
+    private final AudioTieringService audioTieringService;
+    private final ColdAudioStore coldAudioStore;
+    private final ColdStorageProperties coldStorageProperties;
+
+    @GetMapping(AUDIO_PATTERN)
+    public ResponseEntity<Resource> streamAudio(HttpServletRequest request) throws IOException {
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        String key = PATH_MATCHER.extractPathWithinPattern(AUDIO_PATTERN, path);
+        Optional<Resource> hot = audioStorage.stream(key);
+        if (hot.isPresent()) {
+            return serve(key, hot.get());
+        }
+
+        switch (audioTieringService.requestRestore(key)) {
+            case HOT:
+                // Restored since the first lookup
+                return audioStorage.stream(key)
+                        .map(resource -> serve(key, resource))
+                        .orElseGet(() -> ResponseEntity.notFound().build());
+            case RESTORING:
+                // A cold file cannot seek, so range requests wait for the restore
+                if (coldStorageProperties.isStreamWhileRestoring()
+                        && request.getHeader(HttpHeaders.RANGE) == null) {
+                    Optional<InputStream> cold = coldAudioStore.open(key);
+                    if (cold.isPresent()) {
+                        return ResponseEntity.ok()
+                                .contentType(mediaType(key))
+                                .header(HttpHeaders.ACCEPT_RANGES, "none")
+                                .cacheControl(CacheControl.noStore())
+                                .body(new InputStreamResource(cold.get()));
+                    }
+                }
+                log.debug("Audio {} is being restored from the cold tier", key);
+                return ResponseEntity.accepted()
+                        .header(HttpHeaders.RETRY_AFTER,
+                                String.valueOf(Math.max(1, coldStorageProperties.getRetryAfter().toSeconds())))
+                        .cacheControl(CacheControl.noStore())
+                        .build();
+            default:
+                log.warn("Audio not found: {}", key);
+                return ResponseEntity.notFound().build();
+        }
+    }
+
+    private static ResponseEntity<Resource> serve(String key, Resource resource) {
+        return ResponseEntity.ok()
+                .contentType(mediaType(key))
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
+                .body(resource);
+    }
+
+    private static MediaType mediaType(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
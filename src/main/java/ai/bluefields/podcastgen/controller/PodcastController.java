@@ -1,17 +1,22 @@
 package ai.bluefields.podcastgen.controller;
 
+import ai.bluefields.podcastgen.dto.KeysetPageDTO;
 import ai.bluefields.podcastgen.dto.PodcastDTO;
+import ai.bluefields.podcastgen.dto.PodcastGenerationStatusDTO;
 import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import ai.bluefields.podcastgen.model.GenerationOutcome;
 import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
 import ai.bluefields.podcastgen.service.AIService;
 import ai.bluefields.podcastgen.service.PodcastGenerationService;
+import ai.bluefields.podcastgen.service.impl.GenerationSseBroadcaster;
 import com.fasterxml.jackson.databind.JsonNode;
 import ai.bluefields.podcastgen.dto.TranscriptGenerationRequest;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 
 import ai.bluefields.podcastgen.dto.PageResponseDTO;
@@ -23,9 +28,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -39,6 +46,7 @@ public class PodcastController {
     private final PodcastService podcastService;
     private final AIService aiService;
     private final PodcastGenerationService podcastGenerationService;
+    private final GenerationSseBroadcaster generationSseBroadcaster;
     
     @Value("${app.features.load-sample-data:false}")
     private boolean loadSampleDataEnabled;
@@ -49,12 +57,10 @@ public class PodcastController {
             @AuthenticationPrincipal OidcUser oidcUser) {
         log.info("REST request to get all podcasts with pagination for user: {}", oidcUser.getSubject());
         try {
-            Page<Podcast> podcastPage = podcastService.getAllPodcasts(oidcUser.getSubject(), pageable);
+            Page<PodcastDTO> podcastPage = podcastService.getPodcastSummaries(oidcUser.getSubject(), pageable);
             
             PageResponseDTO<PodcastDTO> response = new PageResponseDTO<>();
-            response.setContent(podcastPage.getContent().stream()
-                .map(this::convertToDTO)
-                .toList());
+            response.setContent(podcastPage.getContent());
             response.setTotalPages(podcastPage.getTotalPages());
             response.setTotalElements(podcastPage.getTotalElements());
             response.setSize(podcastPage.getSize());
@@ -68,6 +74,22 @@ public class PodcastController {
         }
     }
 
+    @GetMapping("/keyset")
+    public ResponseEntity<KeysetPageDTO<PodcastDTO>> getPodcastsAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal OidcUser oidcUser) {
+        log.info("REST request to get podcasts after cursor {} for user: {}", after, oidcUser.getSubject());
+        try {
+            KeysetPageDTO<PodcastDTO> page = podcastService.getPodcastSummariesAfter(oidcUser.getSubject(), after, size);
+            log.info("Successfully retrieved {} podcasts for user {}", page.getSize(), oidcUser.getSubject());
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            log.error("Error retrieving podcasts after cursor {}: {}", after, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Podcast> getPodcastById(
             @PathVariable @Positive(message = "ID must be positive") Long id,
@@ -227,11 +249,26 @@ public class PodcastController {
     }
 
     @PostMapping("/{id}/generate")
-    public ResponseEntity<Void> generatePodcast(@PathVariable Long id) {
+    public ResponseEntity<PodcastGenerationStatusDTO> generatePodcast(
+            @PathVariable Long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.info("REST request to generate podcast with id: {}", id);
         try {
-            podcastGenerationService.generatePodcast(id);
-            return ResponseEntity.accepted().build();
+            CompletableFuture<GenerationOutcome> generation =
+                podcastGenerationService.generatePodcast(id, idempotencyKey);
+            GenerationOutcome outcome = generation.isDone() && !generation.isCompletedExceptionally()
+                ? generation.join()
+                : null;
+            PodcastGenerationStatusDTO status = podcastGenerationService.getGenerationStatus(id);
+            if (outcome == GenerationOutcome.PARKED) {
+                // Starts by itself once the speech provider recovers
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(status);
+            }
+            if (outcome != null) {
+                // Nothing left to do, e.g. the output is already up to date
+                return ResponseEntity.ok(status);
+            }
+            return ResponseEntity.accepted().body(status);
         } catch (Exception e) {
             log.error("Error starting podcast generation for {}: {}", id, e.getMessage(), e);
             throw e;
@@ -239,83 +276,46 @@ public class PodcastController {
     }
 
     @GetMapping("/{id}/generation-status")
-    public ResponseEntity<Podcast> getGenerationStatus(@PathVariable Long id) {
-        log.info("REST request to get generation status for podcast id: {}", id);
+    public ResponseEntity<PodcastGenerationStatusDTO> getGenerationStatus(@PathVariable Long id) {
+        log.debug("REST request to get generation status for podcast id: {}", id);
         try {
-            Podcast podcast = podcastGenerationService.getGenerationStatus(id);
-            return ResponseEntity.ok(podcast);
+            return ResponseEntity.ok(podcastGenerationService.getGenerationStatus(id));
         } catch (Exception e) {
             log.error("Error getting generation status for podcast {}: {}", id, e.getMessage(), e);
             throw e;
         }
     }
 
+    @GetMapping(value = "/{id}/generation-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGenerationEvents(
+            @PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        log.debug("REST request to stream generation events for podcast id: {} from event {}", id, lastEventId);
+        return generationSseBroadcaster.subscribe(id, lastEventId);
+    }
+
     @GetMapping("/validate-audio/{id}")
     public ResponseEntity<Map<String, Object>> validateAudioUrl(@PathVariable Long id) {
         log.debug("Validating audio URL for podcast {}", id);
         try {
-            return podcastService.getPodcastById(id)
-                .map(podcast -> {
-                    String audioUrl = podcast.getAudioUrl();
-                    boolean isValid = audioUrl != null && 
-                                    !audioUrl.isEmpty() && 
-                                    podcast.getGenerationStatus() == PodcastGenerationStatus.COMPLETED &&
-                                    podcast.getAudioOutputs() != null &&
-                                    !podcast.getAudioOutputs().isEmpty();
-                    
-                    Map<String, Object> response = new HashMap<>();
-                    response.put("valid", isValid);
-                    response.put("url", isValid ? audioUrl : null);
-                    
-                    log.debug("Audio URL validation result for podcast {}: {}", id, isValid);
-                    return ResponseEntity.ok(response);
-                })
-                .orElseGet(() -> {
-                    log.warn("Podcast not found during audio validation: {}", id);
-                    return ResponseEntity.notFound().build();
-                });
+            PodcastGenerationStatusDTO status = podcastGenerationService.getGenerationStatus(id);
+            String audioUrl = status.getAudioUrl();
+            boolean isValid = audioUrl != null &&
+                            !audioUrl.isEmpty() &&
+                            status.getGenerationStatus() == PodcastGenerationStatus.COMPLETED;
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("valid", isValid);
+            response.put("url", isValid ? audioUrl : null);
+
+            log.debug("Audio URL validation result for podcast {}: {}", id, isValid);
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            log.warn("Podcast not found during audio validation: {}", id);
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error checking audio status for podcast {}: {}", id, e.getMessage(), e);
             throw e;
         }
     }
-
-    private PodcastDTO convertToDTO(Podcast podcast) {
-        log.debug("Converting podcast to DTO - id: {}, status: {}", podcast.getId(), podcast.getStatus());
-        
-        PodcastDTO dto = new PodcastDTO();
-        dto.setId(podcast.getId());
-        dto.setTitle(podcast.getTitle());
-        dto.setDescription(podcast.getDescription());
-        dto.setLength(podcast.getLength());
-        dto.setStatus(podcast.getStatus());
-        dto.setCreatedAt(podcast.getCreatedAt());
-        dto.setUpdatedAt(podcast.getUpdatedAt());
-        dto.setUserId(podcast.getUserId());
-        
-        // Add new fields
-        dto.setGenerationStatus(podcast.getGenerationStatus());
-        dto.setGenerationProgress(podcast.getGenerationProgress());
-        dto.setGenerationMessage(podcast.getGenerationMessage());
-        
-        // Add debug logging for audio status
-        String audioUrl = podcast.getAudioUrl();
-        log.debug("Podcast {} - Raw audioUrl: {}", podcast.getId(), audioUrl);
-        
-        boolean hasAudio = audioUrl != null && 
-                          !audioUrl.isEmpty() && 
-                          podcast.getGenerationStatus() == PodcastGenerationStatus.COMPLETED;
-        
-        log.debug("Podcast {} - hasAudio: {}, generationStatus: {}, audioUrl: {}", 
-            podcast.getId(), 
-            hasAudio, 
-            podcast.getGenerationStatus(),
-            audioUrl
-        );
-        
-        dto.setHasAudio(hasAudio);
-        dto.setAudioUrl(hasAudio ? audioUrl : null);
-
-        return dto;
-    }
 }
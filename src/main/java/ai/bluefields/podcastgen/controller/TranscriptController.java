@@ -5,12 +5,16 @@ import ai.bluefields.podcastgen.service.TranscriptService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import ai.bluefields.podcastgen.dto.TranscriptCreateRequest;
+import ai.bluefields.podcastgen.dto.TranscriptPatchResultDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import java.util.List;
@@ -45,7 +49,9 @@ public class TranscriptController {
             return transcriptService.getTranscriptById(id)
                     .map(transcript -> {
                         log.info("Successfully retrieved transcript with id: {}", id);
-                        return ResponseEntity.ok(transcript);
+                        return ResponseEntity.ok()
+                            .eTag(String.valueOf(transcript.getVersion()))
+                            .body(transcript);
                     })
                     .orElseGet(() -> {
                         log.warn("Transcript not found with id: {}", id);
@@ -109,6 +115,28 @@ public class TranscriptController {
         }
     }
 
+    /**
+     * Applies an RFC 6902 JSON Patch to the transcript content. The If-Match header must
+     * carry the current version (as returned in the ETag); the response carries the new
+     * one. Rapid successive patches are coalesced into a single database write.
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/json-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TranscriptPatchResultDTO> patchTranscript(
+            @PathVariable @Positive(message = "ID must be positive") Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        log.info("REST request to patch transcript with id: {}", id);
+        if (ifMatch == null || ifMatch.isBlank()) {
+            log.warn("Rejected patch of transcript {} without If-Match", id);
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        TranscriptPatchResultDTO result = transcriptService.patchTranscript(id, parseVersion(ifMatch), patch);
+        log.info("Successfully patched transcript with id: {} to version {}", id, result.getVersion());
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(result.getVersion()))
+            .body(result);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTranscript(
             @PathVariable @Positive(message = "ID must be positive") Long id) {
@@ -122,4 +150,19 @@ public class TranscriptController {
             throw e;
         }
     }
+
+    private static long parseVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must carry a transcript version, got: " + ifMatch);
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package ai.bluefields.podcastgen.controller;
 
+import ai.bluefields.podcastgen.dto.VoiceImportStatusDTO;
+import ai.bluefields.podcastgen.dto.VoiceSearchCriteria;
 import ai.bluefields.podcastgen.model.Voice;
+import ai.bluefields.podcastgen.service.VoiceImportService;
 import ai.bluefields.podcastgen.service.VoiceService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -23,6 +27,7 @@ public class VoiceController {
     private static final Logger log = LoggerFactory.getLogger(VoiceController.class);
     
     private final VoiceService voiceService;
+    private final VoiceImportService voiceImportService;
 
     /**
      * Creates a new voice profile.
@@ -37,6 +42,33 @@ public class VoiceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Starts a bulk import of voices from a CSV file in the standard voice list format.
+     *
+     * @param file The CSV file
+     * @return The import job, to be polled for progress
+     */
+    @PostMapping("/import")
+    public ResponseEntity<VoiceImportStatusDTO> importVoices(@RequestParam("file") MultipartFile file) {
+        log.info("REST request to import Voices from: {}", file.getOriginalFilename());
+        VoiceImportStatusDTO status = voiceImportService.startImport(file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    /**
+     * Retrieves the progress of a voice import.
+     *
+     * @param jobId The import job ID
+     * @return The import job status
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<VoiceImportStatusDTO> getImportStatus(@PathVariable String jobId) {
+        log.debug("REST request to get Voice import status: {}", jobId);
+        return voiceImportService.getImportStatus(jobId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Updates an existing voice profile.
      *
@@ -117,6 +149,44 @@ public class VoiceController {
         return ResponseEntity.ok(voices);
     }
 
+    /**
+     * Searches voices by a combination of tags and attributes.
+     *
+     * @param tags Comma separated tags
+     * @param match Whether a voice needs ALL or ANY of the tags
+     * @param prefix Whether tags also match as prefixes
+     * @param fuzzy Whether tags also match with one typo
+     * @param characteristics Free text to rank results by, e.g. a participant's voice characteristics
+     * @param participantId Participant whose voice characteristics rank the results
+     * @return Matching voices, best match first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Voice>> searchVoices(
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "ALL") VoiceSearchCriteria.TagMatch match,
+            @RequestParam(defaultValue = "false") boolean prefix,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) Voice.Gender gender,
+            @RequestParam(required = false) Voice.VoiceType type,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String characteristics,
+            @RequestParam(required = false) Long participantId,
+            @RequestParam(defaultValue = "50") int limit) {
+        VoiceSearchCriteria criteria = new VoiceSearchCriteria();
+        criteria.setTags(tags);
+        criteria.setMatch(match);
+        criteria.setPrefix(prefix);
+        criteria.setFuzzy(fuzzy);
+        criteria.setGender(gender);
+        criteria.setVoiceType(type);
+        criteria.setUserId(userId);
+        criteria.setCharacteristics(characteristics);
+        criteria.setParticipantId(participantId);
+        criteria.setLimit(limit);
+        log.debug("REST request to search Voices: {}", criteria);
+        return ResponseEntity.ok(voiceService.searchVoices(criteria));
+    }
+
     /**
      * Retrieves default voices.
      *
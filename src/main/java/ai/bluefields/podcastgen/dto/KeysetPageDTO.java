@@ -0,0 +1,13 @@
+package ai.bluefields.podcastgen.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class KeysetPageDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasMore;
+    // Opaque cursor to pass as "after" for the next page, null on the last page
+    private String nextCursor;
+}
@@ -3,9 +3,11 @@ package ai.bluefields.podcastgen.dto;
 import ai.bluefields.podcastgen.model.PodcastStatus;
 import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class PodcastDTO {
     private Long id;
     private String title;
@@ -21,4 +23,24 @@ public class PodcastDTO {
     private String generationMessage;
     private String audioUrl;
     private Boolean hasAudio;
+
+    // Used by the JPQL constructor expressions in PodcastRepository
+    public PodcastDTO(Long id, String title, String description, Integer length, PodcastStatus status,
+            LocalDateTime createdAt, LocalDateTime updatedAt, String userId,
+            PodcastGenerationStatus generationStatus, Integer generationProgress, String generationMessage,
+            String latestAudioPath) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.length = length;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.userId = userId;
+        this.generationStatus = generationStatus;
+        this.generationProgress = generationProgress;
+        this.generationMessage = generationMessage;
+        this.hasAudio = generationStatus == PodcastGenerationStatus.COMPLETED && latestAudioPath != null;
+        this.audioUrl = hasAudio ? "/api/audio/" + latestAudioPath : null;
+    }
 }
@@ -0,0 +1,27 @@
+package ai.bluefields.podcastgen.dto;
+
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PodcastGenerationStatusDTO {
+    private Long id;
+    private PodcastGenerationStatus generationStatus;
+    private Integer generationProgress;
+    private String generationMessage;
+    private String audioUrl;
+
+    // Used by the JPQL constructor expression in PodcastRepository
+    public PodcastGenerationStatusDTO(Long id, PodcastGenerationStatus generationStatus,
+            Integer generationProgress, String generationMessage, String latestAudioPath) {
+        this.id = id;
+        this.generationStatus = generationStatus;
+        this.generationProgress = generationProgress;
+        this.generationMessage = generationMessage;
+        if (generationStatus == PodcastGenerationStatus.COMPLETED && latestAudioPath != null) {
+            this.audioUrl = "/api/audio/" + latestAudioPath;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ai.bluefields.podcastgen.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranscriptPatchResultDTO {
+    private Long id;
+    // Version to send as If-Match with the next patch
+    private long version;
+}
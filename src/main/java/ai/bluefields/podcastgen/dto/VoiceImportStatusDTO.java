@@ -0,0 +1,28 @@
+package ai.bluefields.podcastgen.dto;
+
+import lombok.Data;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Data
+public class VoiceImportStatusDTO {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String jobId;
+    private Status status;
+    private int rowsRead;
+    private int voicesUpserted;
+    private int rowsSkipped;
+    private int previewsGenerated;
+    private int previewsFailed;
+    // First problems encountered, e.g. "line 12: missing external_voice_id"
+    private List<String> errors;
+    private ZonedDateTime startedAt;
+    private ZonedDateTime finishedAt;
+}
@@ -0,0 +1,31 @@
+package ai.bluefields.podcastgen.dto;
+
+import ai.bluefields.podcastgen.model.Voice;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class VoiceSearchCriteria {
+
+    public enum TagMatch {
+        ALL,
+        ANY
+    }
+
+    private List<String> tags = new ArrayList<>();
+    private TagMatch match = TagMatch.ALL;
+    // Also match tags starting with a query tag, e.g. "warm" matches "warmth"
+    private boolean prefix;
+    // Also match tags within one edit of a query tag, e.g. "britsh" matches "british"
+    private boolean fuzzy;
+    private Voice.Gender gender;
+    private Voice.VoiceType voiceType;
+    private String userId;
+    // Ranks results by how many of their tags occur in these characteristics
+    private String characteristics;
+    // Takes the characteristics from this participant when none are given
+    private Long participantId;
+    private int limit = 50;
+}
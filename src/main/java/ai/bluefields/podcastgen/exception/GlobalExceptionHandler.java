@@ -35,6 +35,16 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionConflictException(VersionConflictException ex) {
+        log.warn("Version conflict: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.PRECONDITION_FAILED)
+            .eTag(String.valueOf(ex.getCurrentVersion()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(errorBody(HttpStatus.PRECONDITION_FAILED.value(), ex.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
         log.warn("Invalid argument: {}", ex.getMessage());
@@ -114,15 +124,18 @@ public class GlobalExceptionHandler {
     }
 
     private ResponseEntity<Map<String, Object>> createErrorBody(int status, String message) {
+        return ResponseEntity
+            .status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(errorBody(status, message));
+    }
+
+    private Map<String, Object> errorBody(int status, String message) {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", status);
         body.put("error", HttpStatus.valueOf(status).getReasonPhrase());
         body.put("message", message);
-        
-        return ResponseEntity
-            .status(status)
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(body);
+        return body;
     }
 }
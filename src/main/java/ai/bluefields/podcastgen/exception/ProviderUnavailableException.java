@@ -0,0 +1,15 @@
+package ai.bluefields.podcastgen.exception;
+
+/**
+ * Thrown when an external provider is considered unhealthy and calls are being
+ * rejected without being attempted.
+ */
+public class ProviderUnavailableException extends RuntimeException {
+    public ProviderUnavailableException(String message) {
+        super(message);
+    }
+
+    public ProviderUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package ai.bluefields.podcastgen.exception;
+
+/**
+ * Thrown when no local slot for a call to an external provider became free in time.
+ * The provider itself was never called, so this says nothing about its health.
+ */
+public class RequestSlotTimeoutException extends RuntimeException {
+    public RequestSlotTimeoutException(String message) {
+        super(message);
+    }
+
+    public RequestSlotTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package ai.bluefields.podcastgen.exception;
+
+/**
+ * Thrown when a conditional write was based on a version that is no longer current.
+ */
+public class VersionConflictException extends RuntimeException {
+    private final long currentVersion;
+
+    public VersionConflictException(String resourceName, Object id, long expectedVersion, long currentVersion) {
+        super(String.format("%s %s was modified: expected version %d but is %d",
+            resourceName, id, expectedVersion, currentVersion));
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
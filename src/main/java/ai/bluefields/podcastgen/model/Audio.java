@@ -6,6 +6,8 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import ai.bluefields.podcastgen.config.hibernate.JsonNodeType;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.Type;
 
 @Entity
@@ -14,7 +16,9 @@ import org.hibernate.annotations.Type;
 @Setter
 public class Audio {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so inserts can be batched; allocationSize must match INCREMENT BY in V22
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audios_id_seq")
+    @SequenceGenerator(name = "audios_id_seq", sequenceName = "audios_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "file_path")
@@ -30,7 +34,23 @@ public class Audio {
 
     private String format;
 
-    @Type(ai.bluefields.podcastgen.config.hibernate.JsonNodeType.class)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_tier")
+    private StorageTier storageTier = StorageTier.HOT;
+
+    @Column(name = "tier_changed_at")
+    private LocalDateTime tierChangedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "encoding_profile")
+    private EncodingProfile encodingProfile;
+
+    // An extra encoding of a generation run, not the podcast's main audio
+    @Column(name = "rendition")
+    private boolean rendition;
+
+    // Immutable: assign a new node rather than modifying the loaded one in place
+    @Type(value = JsonNodeType.class, parameters = @Parameter(name = JsonNodeType.IMMUTABLE, value = "true"))
     @Column(name = "quality_metrics", columnDefinition = "jsonb")
     private JsonNode qualityMetrics;
 
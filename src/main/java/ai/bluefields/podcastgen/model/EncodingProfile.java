@@ -0,0 +1,27 @@
+package ai.bluefields.podcastgen.model;
+
+import ai.bluefields.podcastgen.util.AudioUtils.AudioFormatConfig;
+
+/**
+ * How a podcast's final audio is encoded.
+ */
+public enum EncodingProfile {
+    // Mono 64 kbps MP3, plenty for spoken word
+    SPEECH(AudioFormatConfig.SPEECH),
+    // Mono 96 kbps MP3
+    STANDARD(AudioFormatConfig.STANDARD),
+    // Stereo 192 kbps MP3, what every podcast used before profiles existed
+    ARCHIVAL(AudioFormatConfig.ARCHIVAL),
+    // Mono 48 kbps AAC in an M4A container, for mobile playback
+    MOBILE(AudioFormatConfig.MOBILE);
+
+    private final AudioFormatConfig format;
+
+    EncodingProfile(AudioFormatConfig format) {
+        this.format = format;
+    }
+
+    public AudioFormatConfig getFormat() {
+        return format;
+    }
+}
@@ -0,0 +1,13 @@
+package ai.bluefields.podcastgen.model;
+
+/**
+ * How a podcast generation request ended.
+ */
+public enum GenerationOutcome {
+    // New audio was generated
+    GENERATED,
+    // The latest output already matches the transcript, voices and encoding
+    UP_TO_DATE,
+    // Held back until the speech provider recovers, then started again
+    PARKED
+}
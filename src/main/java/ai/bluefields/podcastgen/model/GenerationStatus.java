@@ -12,4 +12,18 @@ public class GenerationStatus {
     private int progress;
     private String message;
     private String audioUrl;
+    // Only set while the job waits for a generation worker
+    private Integer queuePosition;
+    private Long estimatedStartSeconds;
+    // Assigned when the event is recorded, increases per podcast
+    private Long eventId;
+
+    public GenerationStatus(String status, int progress, String message, String audioUrl) {
+        this(status, progress, message, audioUrl, null, null, null);
+    }
+
+    public GenerationStatus(String status, int progress, String message, String audioUrl,
+            Integer queuePosition, Long estimatedStartSeconds) {
+        this(status, progress, message, audioUrl, queuePosition, estimatedStartSeconds, null);
+    }
 }
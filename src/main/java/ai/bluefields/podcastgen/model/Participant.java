@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @Setter
 public class Participant {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so inserts can be batched; allocationSize must match INCREMENT BY in V22
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participants_id_seq")
+    @SequenceGenerator(name = "participants_id_seq", sequenceName = "participants_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +17,10 @@ import org.slf4j.LoggerFactory;
 @Setter
 public class Podcast {
     private static final Logger log = LoggerFactory.getLogger(Podcast.class);
+    // Same rule as the latest-audio subquery in PodcastRepository; ids are not in creation order
+    private static final Comparator<Audio> CREATION_ORDER = Comparator
+        .comparing(Audio::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Audio::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -75,6 +81,11 @@ public class Podcast {
     @Column(name = "generation_message")
     private String generationMessage;
 
+    // Null uses the configured default profile
+    @Enumerated(EnumType.STRING)
+    @Column(name = "encoding_profile")
+    private EncodingProfile encodingProfile;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -92,14 +103,26 @@ public class Podcast {
             audioOutputs != null ? audioOutputs.size() : "null", 
             generationStatus);
         
-        if (audioOutputs != null && !audioOutputs.isEmpty() && 
-            generationStatus == PodcastGenerationStatus.COMPLETED) {
-            Audio latestAudio = audioOutputs.get(audioOutputs.size() - 1);
-            String url = latestAudio.getUrl();
+        Optional<Audio> latestAudio = latestMainAudio();
+        if (latestAudio.isPresent() && generationStatus == PodcastGenerationStatus.COMPLETED) {
+            String url = latestAudio.get().getUrl();
             log.debug("Returning audio URL: {}", url);
             return url;
         }
         log.debug("No audio URL available");
         return null;
     }
+
+    /**
+     * The newest main output by creation time. Renditions are extra encodings of a run
+     * and never the podcast's main audio.
+     */
+    public Optional<Audio> latestMainAudio() {
+        if (audioOutputs == null) {
+            return Optional.empty();
+        }
+        return audioOutputs.stream()
+            .filter(audio -> !audio.isRendition())
+            .max(CREATION_ORDER);
+    }
 }
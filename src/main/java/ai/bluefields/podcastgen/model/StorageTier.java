@@ -0,0 +1,6 @@
+package ai.bluefields.podcastgen.model;
+
+public enum StorageTier {
+    HOT,
+    COLD
+}
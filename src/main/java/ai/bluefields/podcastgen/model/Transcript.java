@@ -6,10 +6,15 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import java.time.LocalDateTime;
+import ai.bluefields.podcastgen.config.hibernate.JsonNodeType;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "transcripts")
+// Writes only changed columns, so touching last_edited does not rewrite the jsonb content
+@DynamicUpdate
 @Getter
 @Setter
 public class Transcript {
@@ -17,10 +22,15 @@ public class Transcript {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Type(ai.bluefields.podcastgen.config.hibernate.JsonNodeType.class)
+    // Immutable: assign a new node rather than modifying the loaded one in place
+    @Type(value = JsonNodeType.class, parameters = @Parameter(name = JsonNodeType.IMMUTABLE, value = "true"))
     @Column(name = "content", columnDefinition = "jsonb")
     private JsonNode content;
 
+    // Assigned by the service rather than @Version: coalesced patches advance it before they reach the database
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
     @Column(name = "last_edited")
     private LocalDateTime lastEdited;
 
@@ -0,0 +1,32 @@
+package ai.bluefields.podcastgen.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "transcript_messages")
+@Getter
+@Setter
+public class TranscriptMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transcript_id", nullable = false)
+    private Long transcriptId;
+
+    @Column(nullable = false)
+    private Integer ordinal;
+
+    @Column(name = "participant_id")
+    private Long participantId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String content;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    private Integer timing;
+}
@@ -26,7 +26,9 @@ public class Voice {
     }
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so inserts can be batched; allocationSize must match INCREMENT BY in V22
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voices_id_seq")
+    @SequenceGenerator(name = "voices_id_seq", sequenceName = "voices_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -63,6 +65,26 @@ public class Voice {
     @Column(name = "updated_at")
     private ZonedDateTime updatedAt;
     
+    /**
+     * Returns a detached field-by-field copy, for holders such as caches and the search
+     * index that must not share instances with callers who may modify them.
+     */
+    public Voice copy() {
+        Voice copy = new Voice();
+        copy.setId(id);
+        copy.setName(name);
+        copy.setTags(tags == null ? null : tags.clone());
+        copy.setExternalVoiceId(externalVoiceId);
+        copy.setVoiceType(voiceType);
+        copy.setUserId(userId);
+        copy.setGender(gender);
+        copy.setDefault(isDefault);
+        copy.setAudioPreviewPath(audioPreviewPath);
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        return copy;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = ZonedDateTime.now();
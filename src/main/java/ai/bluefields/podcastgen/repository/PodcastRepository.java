@@ -1,10 +1,16 @@
 package ai.bluefields.podcastgen.repository;
 
+import ai.bluefields.podcastgen.dto.PodcastDTO;
+import ai.bluefields.podcastgen.dto.PodcastGenerationStatusDTO;
 import ai.bluefields.podcastgen.model.Podcast;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +18,50 @@ public interface PodcastRepository extends JpaRepository<Podcast, Long> {
     Page<Podcast> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
     Optional<Podcast> findByIdAndUserId(Long id, String userId);
     boolean existsByIdAndUserId(Long id, String userId);
+
+    /**
+     * Generation status and latest audio file path of a podcast, without loading the
+     * transcript, participants or audio outputs. The latest audio is the newest main
+     * output by creation time.
+     */
+    @Query("""
+        SELECT new ai.bluefields.podcastgen.dto.PodcastGenerationStatusDTO(
+            p.id, p.generationStatus, p.generationProgress, p.generationMessage,
+            (SELECT a.filePath FROM Audio a WHERE a.podcast.id = p.id AND a.rendition = false
+                ORDER BY a.createdAt DESC, a.id DESC LIMIT 1))
+        FROM Podcast p
+        WHERE p.id = :id
+        """)
+    Optional<PodcastGenerationStatusDTO> findGenerationStatusById(@Param("id") Long id);
+
+    String SUMMARY_SELECT = """
+        SELECT new ai.bluefields.podcastgen.dto.PodcastDTO(
+            p.id, p.title, p.description, p.length, p.status, p.createdAt, p.updatedAt, p.userId,
+            p.generationStatus, p.generationProgress, p.generationMessage,
+            (SELECT a.filePath FROM Audio a WHERE a.podcast.id = p.id AND a.rendition = false
+                ORDER BY a.createdAt DESC, a.id DESC LIMIT 1))
+        FROM Podcast p
+        """;
+
+    /**
+     * Listing rows for a user, newest first, with the latest audio path joined in a
+     * single statement (plus the count query for the page metadata).
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE p.userId = :userId ORDER BY p.createdAt DESC, p.id DESC",
+        countQuery = "SELECT COUNT(p) FROM Podcast p WHERE p.userId = :userId")
+    Page<PodcastDTO> findSummariesByUserId(@Param("userId") String userId, Pageable pageable);
+
+    /**
+     * Keyset page of listing rows strictly after the given (createdAt, id) position.
+     */
+    @Query(SUMMARY_SELECT + """
+        WHERE p.userId = :userId
+          AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+        ORDER BY p.createdAt DESC, p.id DESC
+        """)
+    List<PodcastDTO> findSummariesByUserIdAfter(@Param("userId") String userId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.userId = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PodcastDTO> findLatestSummariesByUserId(@Param("userId") String userId, Pageable limit);
 }
@@ -0,0 +1,12 @@
+package ai.bluefields.podcastgen.repository;
+
+import ai.bluefields.podcastgen.model.TranscriptMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TranscriptMessageRepository extends JpaRepository<TranscriptMessage, Long> {
+    List<TranscriptMessage> findByTranscriptIdOrderByOrdinalAsc(Long transcriptId);
+}
@@ -2,6 +2,9 @@ package ai.bluefields.podcastgen.repository;
 
 import ai.bluefields.podcastgen.model.Transcript;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,14 @@ import java.util.List;
 @Repository
 public interface TranscriptRepository extends JpaRepository<Transcript, Long> {
     List<Transcript> findByPodcastId(Long podcastId);
+
+    /**
+     * Moves the version from {@code expectedVersion} to {@code version}, locking the row.
+     *
+     * @return 1 if the stored version was still {@code expectedVersion}, otherwise 0
+     */
+    @Modifying
+    @Query("UPDATE Transcript t SET t.version = :version WHERE t.id = :id AND t.version = :expectedVersion")
+    int advanceVersion(@Param("id") Long id, @Param("expectedVersion") long expectedVersion,
+            @Param("version") long version);
 }
@@ -0,0 +1,58 @@
+package ai.bluefields.podcastgen.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores generated podcast audio. Files are addressed by a key, which is the path saved in
+ * {@code audios.file_path} (e.g. {@code podcasts/42/output/podcast_42_20240101_120000.mp3});
+ * where the bytes physically live is up to the implementation.
+ */
+public interface AudioStorage {
+
+    record Entry(String key, long size, Instant lastModified) {
+    }
+
+    /**
+     * Stores a file, replacing any file with the same key.
+     * @param key the key to store the file under
+     * @param data the file's content
+     * @param size number of bytes in {@code data}, used to pick a location with enough space
+     */
+    void put(String key, InputStream data, long size) throws IOException;
+
+    /**
+     * Reads a whole file into memory.
+     * @param key the file's key
+     * @return the content, or empty if no file is stored under the key
+     */
+    Optional<byte[]> get(String key) throws IOException;
+
+    /**
+     * Opens a file for streaming, e.g. as an HTTP response body with range support.
+     * @param key the file's key
+     * @return the file as a resource, or empty if no file is stored under the key
+     */
+    Optional<Resource> stream(String key) throws IOException;
+
+    boolean exists(String key);
+
+    /**
+     * Deletes a file.
+     * @param key the file's key
+     * @return whether a file was deleted
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * Lists the files whose key starts with a prefix.
+     * @param prefix key prefix, e.g. {@code podcasts/42/}
+     * @return the matching files in no particular order
+     */
+    List<Entry> list(String prefix) throws IOException;
+}
@@ -1,22 +1,38 @@
 package ai.bluefields.podcastgen.service;
 
-import ai.bluefields.podcastgen.model.Podcast;
+import ai.bluefields.podcastgen.dto.PodcastGenerationStatusDTO;
+import ai.bluefields.podcastgen.model.GenerationOutcome;
 import java.util.concurrent.CompletableFuture;
 
 public interface PodcastGenerationService {
     /**
      * Starts the podcast generation process asynchronously
      * @param podcastId ID of the podcast to generate
-     * @return CompletableFuture that completes when generation is done
+     * @return CompletableFuture that completes with the outcome when generation is done
      */
-    CompletableFuture<Void> generatePodcast(Long podcastId);
+    CompletableFuture<GenerationOutcome> generatePodcast(Long podcastId);
+
+    /**
+     * Starts the podcast generation process asynchronously. A request for a podcast that is
+     * already generating attaches to the running job, and a request for an unchanged
+     * transcript with a completed output returns without re-synthesis. While the speech
+     * provider is unavailable the request is parked and started again once it recovers.
+     * @param podcastId ID of the podcast to generate
+     * @param idempotencyKey optional client supplied key; repeated requests with the same key
+     *                       return the original job
+     * @return CompletableFuture that completes with the outcome when generation is done;
+     *         already completed with {@link GenerationOutcome#UP_TO_DATE} or
+     *         {@link GenerationOutcome#PARKED} when nothing was started
+     */
+    CompletableFuture<GenerationOutcome> generatePodcast(Long podcastId, String idempotencyKey);
     
     /**
-     * Gets the current generation status for a podcast
+     * Gets the current generation status for a podcast, from the in-memory progress
+     * buffer while a run is going and otherwise from a projection query
      * @param podcastId ID of the podcast
-     * @return Current podcast with status information
+     * @return Status, progress, message and latest audio URL
      */
-    Podcast getGenerationStatus(Long podcastId);
+    PodcastGenerationStatusDTO getGenerationStatus(Long podcastId);
 
     /**
      * Cancels an ongoing podcast generation
@@ -1,6 +1,8 @@
 
 package ai.bluefields.podcastgen.service;
 
+import ai.bluefields.podcastgen.dto.KeysetPageDTO;
+import ai.bluefields.podcastgen.dto.PodcastDTO;
 import ai.bluefields.podcastgen.model.Podcast;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +19,26 @@ public interface PodcastService {
      */
     Page<Podcast> getAllPodcasts(String userId, Pageable pageable);
 
+    /**
+     * Get listing rows for a user's podcasts with pagination, without loading entities
+     *
+     * @param userId the ID of the user
+     * @param pageable pagination information
+     * @return Page of podcast DTOs, newest first
+     */
+    Page<PodcastDTO> getPodcastSummaries(String userId, Pageable pageable);
+
+    /**
+     * Get listing rows for a user's podcasts using keyset pagination
+     *
+     * @param userId the ID of the user
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param size maximum number of rows to return
+     * @return the page together with the cursor for the next one
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    KeysetPageDTO<PodcastDTO> getPodcastSummariesAfter(String userId, String cursor, int size);
+
     /**
      * Get a specific podcast by ID
      * Note: Service layer will not filter by user ID - this should be done at controller level
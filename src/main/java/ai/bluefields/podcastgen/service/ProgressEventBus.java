@@ -0,0 +1,27 @@
+package ai.bluefields.podcastgen.service;
+
+import ai.bluefields.podcastgen.model.GenerationStatus;
+
+/**
+ * Distributes generation status events to every application node, so progress reaches
+ * clients regardless of which instance they are connected to.
+ */
+public interface ProgressEventBus {
+
+    interface Listener {
+        void onEvent(Long podcastId, GenerationStatus status);
+    }
+
+    /**
+     * Publishes a status event for a podcast. Local listeners are notified immediately.
+     * @param podcastId ID of the podcast the event belongs to
+     * @param status the status to publish
+     */
+    void publish(Long podcastId, GenerationStatus status);
+
+    /**
+     * Registers a listener that receives events published on any node.
+     * @param listener the listener to register
+     */
+    void subscribe(Listener listener);
+}
@@ -0,0 +1,57 @@
+package ai.bluefields.podcastgen.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Stores the audio segments of a podcast between synthesis and stitching. Segments are
+ * addressed by the reference returned when they are written, which is what gets saved
+ * in {@code podcast_audio_segments.segment_path}.
+ */
+public interface SegmentStore {
+
+    /**
+     * Writes the segments of one generation run, in order.
+     */
+    interface Writer extends Closeable {
+        /**
+         * Stores the next segment.
+         * @param audio the encoded audio of the segment
+         * @return the reference to read the segment back with
+         */
+        String append(byte[] audio) throws IOException;
+
+        /**
+         * Flushes the written segments to disk. References are only valid after closing.
+         */
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * Starts writing the segments of a podcast.
+     * @param podcastId ID of the podcast the segments belong to
+     * @return a writer that must be closed once all segments are appended
+     */
+    Writer openWriter(Long podcastId) throws IOException;
+
+    /**
+     * Reads a segment as a read-only memory-mapped buffer. References written by any
+     * store implementation can be read, so switching stores keeps existing podcasts working.
+     * @param segmentRef reference returned by {@link Writer#append(byte[])}
+     * @return the segment's audio
+     */
+    ByteBuffer read(String segmentRef) throws IOException;
+
+    /**
+     * Returns a file holding exactly the segment, for tools that read files. A segment
+     * stored in its own file is returned as is; a segment that is part of a larger file
+     * is copied into {@code spoolDir}, which the caller deletes when done.
+     * @param segmentRef reference returned by {@link Writer#append(byte[])}
+     * @param spoolDir directory for copies of segments that have no file of their own
+     * @return the segment's file
+     */
+    Path toFile(String segmentRef, Path spoolDir) throws IOException;
+}
@@ -1,6 +1,8 @@
 package ai.bluefields.podcastgen.service;
 
+import ai.bluefields.podcastgen.dto.TranscriptPatchResultDTO;
 import ai.bluefields.podcastgen.model.Transcript;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +12,6 @@ public interface TranscriptService {
     List<Transcript> getTranscriptsByPodcastId(Long podcastId);
     Transcript createTranscript(Transcript transcript);
     Transcript updateTranscript(Long id, Transcript transcript);
+    TranscriptPatchResultDTO patchTranscript(Long id, long expectedVersion, JsonNode patch);
     void deleteTranscript(Long id);
 }
@@ -0,0 +1,31 @@
+package ai.bluefields.podcastgen.service;
+
+import ai.bluefields.podcastgen.dto.VoiceImportStatusDTO;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+
+/**
+ * Bulk import of voice library entries from CSV files in the
+ * {@code scripts/standard-voices-list.csv} format.
+ */
+public interface VoiceImportService {
+
+    /**
+     * Starts importing the given CSV file in the background. Voices are matched on their
+     * external voice ID, so importing the same file twice updates instead of duplicating.
+     *
+     * @param file The uploaded CSV file
+     * @return The initial status of the import job
+     * @throws IllegalArgumentException if the file is empty
+     */
+    VoiceImportStatusDTO startImport(MultipartFile file);
+
+    /**
+     * Returns the progress of an import job.
+     *
+     * @param jobId The ID returned by {@link #startImport(MultipartFile)}
+     * @return The job status, or empty if the job is unknown or expired
+     */
+    Optional<VoiceImportStatusDTO> getImportStatus(String jobId);
+}
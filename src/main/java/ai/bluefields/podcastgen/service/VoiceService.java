@@ -1,5 +1,6 @@
 package ai.bluefields.podcastgen.service;
 
+import ai.bluefields.podcastgen.dto.VoiceSearchCriteria;
 import ai.bluefields.podcastgen.model.Voice;
 import java.util.List;
 import java.util.Optional;
@@ -153,4 +154,16 @@ public interface VoiceService {
      * @throws IllegalArgumentException if userId is null/empty or gender is null
      */
     List<Voice> getUserDefaultVoicesByGender(String userId, Voice.Gender gender);
+
+    /**
+     * Searches voices by any combination of tags, gender, type and owner. Results are
+     * ranked by how well their tags match the requested characteristics (taken from the
+     * participant when only a participant ID is given).
+     *
+     * @param criteria The search criteria
+     * @return Matching voices, best match first, at most {@code criteria.limit} of them
+     * @throws IllegalArgumentException if criteria is null
+     * @throws jakarta.persistence.EntityNotFoundException if the given participant doesn't exist
+     */
+    List<Voice> searchVoices(VoiceSearchCriteria criteria);
 }
@@ -1,39 +1,60 @@
 package ai.bluefields.podcastgen.service.impl;
 
+import ai.bluefields.podcastgen.exception.ProviderUnavailableException;
+import ai.bluefields.podcastgen.exception.RequestSlotTimeoutException;
 import ai.bluefields.podcastgen.service.AIService;
 import ai.bluefields.podcastgen.model.Participant;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatResponse;
-import org.springframework.http.*;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import ai.bluefields.podcastgen.util.WebPageValidator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 
 @Service
 @RequiredArgsConstructor
-public class AIServiceImpl implements AIService {
+public class AIServiceImpl implements AIService, DisposableBean {
     private static final Logger log = LoggerFactory.getLogger(AIServiceImpl.class);
 
+    // Upper bound on concurrent section prompts for long transcripts
+    private static final int SECTION_CONCURRENCY = 4;
+    // A section whose response is not a usable transcript is requested again this often
+    private static final int SECTION_ATTEMPTS = 2;
+    // Rough speaking rate used when a generated segment lacks a duration
+    private static final double WORDS_PER_SECOND = 2.5;
+
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final ElevenLabsClient elevenLabsClient;
+    private final ElevenLabsCircuitBreaker circuitBreaker;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final VoicePreviewCache voicePreviewCache;
+    private final AtomicInteger sectionThreadCount = new AtomicInteger();
+    private final ExecutorService sectionExecutor = Executors.newFixedThreadPool(SECTION_CONCURRENCY, runnable -> {
+        Thread thread = new Thread(runnable, "transcript-section-" + sectionThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
     
-    @Value("${elevenlabs.api.key}")
-    private String elevenLabsApiKey;
-
     @Value("${elevenlabs.api.voice-settings.stability:0.5}")
     private double voiceStability;
 
@@ -52,6 +73,12 @@ public class AIServiceImpl implements AIService {
     @Value("${app.uploads.voice-previews-path}")
     private String voicePreviewsPath;
 
+    @Value("${app.transcript.sectioned-threshold-minutes:10}")
+    private int sectionedThresholdMinutes;
+
+    @Value("${app.transcript.section-length-minutes:3}")
+    private int sectionLengthMinutes;
+
     private JsonNode generateInitialTranscript(String podcastTitle, String podcastDescription, String contextDescription, List<Participant> participants, int lengthInMinutes) {
         String promptText = String.format("""
             You are an expert podcast writer known for creating engaging, dynamic conversations.
@@ -129,6 +156,222 @@ public class AIServiceImpl implements AIService {
         return parseAndValidateResponse(response);
     }
 
+    /**
+     * Generates long transcripts outline-first: a short outline is requested, then every
+     * section's dialogue is generated concurrently with the neighbouring section summaries
+     * as context, and the results are merged with continuous time offsets. This keeps
+     * wall-clock latency roughly flat as the target length grows and avoids truncated
+     * single-shot responses.
+     */
+    private JsonNode generateSectionedTranscript(String podcastTitle, String podcastDescription, String contextDescription,
+            List<Participant> participants, int lengthInMinutes) {
+        int sectionCount = Math.max(2, (int) Math.ceil((double) lengthInMinutes / sectionLengthMinutes));
+        log.info("Generating sectioned transcript: {} minutes in {} sections", lengthInMinutes, sectionCount);
+
+        JsonNode outline = generateTranscriptOutline(podcastTitle, podcastDescription, contextDescription,
+            participants, lengthInMinutes, sectionCount);
+        JsonNode sections = outline.get("sections");
+        if (sections == null || !sections.isArray() || sections.isEmpty()) {
+            log.warn("Outline contained no sections, falling back to single-pass transcript generation");
+            return generateInitialTranscript(podcastTitle, podcastDescription, contextDescription, participants, lengthInMinutes);
+        }
+
+        int defaultSectionSeconds = lengthInMinutes * 60 / sections.size();
+        List<CompletableFuture<JsonNode>> sectionFutures = new ArrayList<>();
+        for (int i = 0; i < sections.size(); i++) {
+            JsonNode section = sections.get(i);
+            String previousSummary = i > 0 ? sections.get(i - 1).path("summary").asText() : null;
+            String nextSummary = i < sections.size() - 1 ? sections.get(i + 1).path("summary").asText() : null;
+            int sectionSeconds = section.path("durationSeconds").asInt(defaultSectionSeconds);
+            int sectionNumber = i + 1;
+
+            sectionFutures.add(CompletableFuture.supplyAsync(() -> generateTranscriptSection(
+                podcastTitle, participants, section, previousSummary, nextSummary,
+                sectionNumber, sections.size(), sectionSeconds), sectionExecutor));
+        }
+
+        CompletableFuture.allOf(sectionFutures.toArray(new CompletableFuture[0])).join();
+        return mergeTranscriptSections(sectionFutures.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList()));
+    }
+
+    private JsonNode generateTranscriptOutline(String podcastTitle, String podcastDescription, String contextDescription,
+            List<Participant> participants, int lengthInMinutes, int sectionCount) {
+        String promptText = String.format("""
+            You are an expert podcast writer. Plan the structure of an interview podcast between:
+            1. An interviewer: %s - %s
+            2. An expert guest: %s - %s
+            
+            Topic Details:
+            Title: %s
+            Description: %s
+            Context: %s
+            Target Duration: %d minutes
+            
+            Split the episode into exactly %d consecutive sections. The first section opens the show
+            with a catchy introduction and the last section ends with impactful closing thoughts.
+            Each section needs a short title, a 2-3 sentence summary of what is discussed, and a
+            duration in seconds. The durations must add up to %d seconds.
+            
+            Generate in this JSON format:
+            {
+                "sections": [
+                    {
+                        "title": "section title",
+                        "summary": "what is discussed in this section",
+                        "durationSeconds": seconds
+                    }
+                ]
+            }
+            
+            IMPORTANT: Return ONLY the JSON object, no markdown formatting or additional text.
+            """,
+            participants.get(0).getName(),
+            participants.get(0).getRoleDescription(),
+            participants.get(1).getName(),
+            participants.get(1).getRoleDescription(),
+            podcastTitle,
+            podcastDescription,
+            contextDescription,
+            lengthInMinutes,
+            sectionCount,
+            lengthInMinutes * 60
+        );
+
+        ChatResponse response = chatClient.prompt()
+            .user(promptText)
+            .call()
+            .chatResponse();
+
+        try {
+            return parseStrict(response, "sections");
+        } catch (RuntimeException e) {
+            // The caller falls back to single-pass generation
+            log.warn("Unusable transcript outline: {}", e.getMessage());
+            return objectMapper.createObjectNode();
+        }
+    }
+
+    private JsonNode generateTranscriptSection(String podcastTitle, List<Participant> participants, JsonNode section,
+            String previousSummary, String nextSummary, int sectionNumber, int sectionCount, int sectionSeconds) {
+        log.debug("Generating transcript section {} of {} ({} seconds)", sectionNumber, sectionCount, sectionSeconds);
+
+        String openingRule = sectionNumber == 1
+            ? "Open the show with a catchy introduction of the topic and the guest."
+            : "Do not greet the listeners or introduce the guest again; continue the conversation naturally.";
+        String closingRule = sectionNumber == sectionCount
+            ? "End the episode with impactful closing thoughts and a goodbye."
+            : "Do not wrap up or say goodbye; lead naturally into the next section.";
+
+        String promptText = String.format("""
+            You are an expert podcast writer known for creating engaging, dynamic conversations.
+            
+            Write section %d of %d of the podcast "%s", an interview between:
+            1. An interviewer: %s - %s
+            2. An expert guest: %s - %s
+            
+            This section:
+            Title: %s
+            Summary: %s
+            Target Duration: %d seconds
+            
+            Previous section (already written, for continuity only): %s
+            Next section (will be written separately, for continuity only): %s
+            
+            Writing Guidelines:
+            - The host asks insightful, sometimes provocative questions (20-30 words each)
+            - The expert gives detailed answers (100-200 words each) with examples and anecdotes
+            - The expert speaks roughly 70%% of the time, the host roughly 30%%
+            - %s
+            - %s
+            
+            Generate in this JSON format:
+            {
+                "transcript": [
+                    {
+                        "speakerName": "name",
+                        "timeOffset": seconds,
+                        "duration": seconds,
+                        "text": "dialogue"
+                    }
+                ]
+            }
+            
+            IMPORTANT: Return ONLY the JSON object, no markdown formatting or additional text.
+            """,
+            sectionNumber,
+            sectionCount,
+            podcastTitle,
+            participants.get(0).getName(),
+            participants.get(0).getRoleDescription(),
+            participants.get(1).getName(),
+            participants.get(1).getRoleDescription(),
+            section.path("title").asText(),
+            section.path("summary").asText(),
+            sectionSeconds,
+            previousSummary != null ? previousSummary : "none, this is the opening section",
+            nextSummary != null ? nextSummary : "none, this is the closing section",
+            openingRule,
+            closingRule
+        );
+
+        // A made-up transcript would end up in the episode, so a section is retried or fails
+        for (int attempt = 1; ; attempt++) {
+            ChatResponse response = chatClient.prompt()
+                .user(promptText)
+                .call()
+                .chatResponse();
+            try {
+                return parseStrict(response, "transcript");
+            } catch (RuntimeException e) {
+                if (attempt >= SECTION_ATTEMPTS) {
+                    throw new RuntimeException(String.format("Failed to generate transcript section %d of %d: %s",
+                        sectionNumber, sectionCount, e.getMessage()), e);
+                }
+                log.warn("Unusable response for transcript section {} of {}, retrying: {}",
+                    sectionNumber, sectionCount, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Concatenates section transcripts in order and rewrites every timeOffset so the merged
+     * transcript runs continuously from zero.
+     */
+    private JsonNode mergeTranscriptSections(List<JsonNode> sectionTranscripts) {
+        ObjectNode merged = objectMapper.createObjectNode();
+        ArrayNode mergedSegments = merged.putArray("transcript");
+        int timeOffset = 0;
+
+        for (JsonNode sectionTranscript : sectionTranscripts) {
+            JsonNode segments = sectionTranscript.get("transcript");
+            if (segments == null || !segments.isArray()) {
+                log.warn("Skipping transcript section without segments");
+                continue;
+            }
+            for (JsonNode segment : segments) {
+                if (!segment.isObject()) {
+                    continue;
+                }
+                ObjectNode mergedSegment = segment.deepCopy();
+                int duration = segment.path("duration").asInt(0);
+                if (duration <= 0) {
+                    int words = segment.path("text").asText().split("\\s+").length;
+                    duration = (int) Math.ceil(words / WORDS_PER_SECOND);
+                }
+                mergedSegment.put("timeOffset", timeOffset);
+                mergedSegment.put("duration", duration);
+                mergedSegments.add(mergedSegment);
+                timeOffset += duration;
+            }
+        }
+
+        log.info("Merged {} transcript sections into {} segments ({} seconds)",
+            sectionTranscripts.size(), mergedSegments.size(), timeOffset);
+        return merged;
+    }
+
     private JsonNode editTranscript(JsonNode initialTranscript, int targetLengthMinutes) {
         String promptText = String.format("""
             You are an expert podcast editor. Review and improve this transcript to match our requirements.
@@ -175,8 +418,10 @@ public class AIServiceImpl implements AIService {
     @Override
     public JsonNode generateTranscript(String podcastTitle, String podcastDescription, String contextDescription, List<Participant> participants, int lengthInMinutes) {
         try {
-            // Step 1: Generate initial creative transcript
-            JsonNode initialTranscript = generateInitialTranscript(podcastTitle, podcastDescription, contextDescription, participants, lengthInMinutes);
+            // Step 1: Generate initial creative transcript, outline-first for long episodes
+            JsonNode initialTranscript = lengthInMinutes > sectionedThresholdMinutes
+                ? generateSectionedTranscript(podcastTitle, podcastDescription, contextDescription, participants, lengthInMinutes)
+                : generateInitialTranscript(podcastTitle, podcastDescription, contextDescription, participants, lengthInMinutes);
             
             // Step 2: Edit and refine the transcript - DISABLED
             // JsonNode finalTranscript = editTranscript(initialTranscript, lengthInMinutes);
@@ -207,30 +452,27 @@ public class AIServiceImpl implements AIService {
         return transcript; // Return the transcript instead of throwing exception
     }
 
-    private JsonNode parseAndValidateResponse(ChatResponse response) {
-        String aiResponse = Optional.ofNullable(response)
-            .map(ChatResponse::getResult)
-            .map(result -> result.getOutput().getContent())
-            .orElseThrow(() -> new RuntimeException("No response received from AI service"));
-
-        log.debug("Raw AI response: {}", aiResponse);
-
-        // If response starts with "Here is" or similar text, try to find the JSON part
-        if (aiResponse.contains("{")) {
-            aiResponse = aiResponse.substring(aiResponse.indexOf("{"));
-            if (aiResponse.contains("}")) {
-                aiResponse = aiResponse.substring(0, aiResponse.lastIndexOf("}") + 1);
-            }
+    /**
+     * Parses a response that must be a JSON object with a non-empty array under
+     * {@code field}; there is no fallback for anything else.
+     */
+    private JsonNode parseStrict(ChatResponse response, String field) {
+        String cleanedResponse = extractJson(response);
+        JsonNode parsed;
+        try {
+            parsed = objectMapper.readTree(cleanedResponse);
+        } catch (Exception e) {
+            throw new IllegalStateException("AI response is not valid JSON: " + e.getMessage(), e);
+        }
+        JsonNode items = parsed.get(field);
+        if (items == null || !items.isArray() || items.isEmpty()) {
+            throw new IllegalStateException("AI response has no " + field);
         }
+        return parsed;
+    }
 
-        // Clean up the response by removing markdown formatting
-        String cleanedResponse = aiResponse
-            .replaceAll("```json\\s*", "") // Remove opening markdown
-            .replaceAll("```\\s*$", "")    // Remove closing markdown
-            .trim();                       // Remove any extra whitespace
-                
-        log.debug("Cleaned AI response: {}", cleanedResponse);
-        
+    private JsonNode parseAndValidateResponse(ChatResponse response) {
+        String cleanedResponse = extractJson(response);
         try {
             return objectMapper.readTree(cleanedResponse);
         } catch (Exception e) {
@@ -260,6 +502,32 @@ public class AIServiceImpl implements AIService {
         }
     }
 
+    private String extractJson(ChatResponse response) {
+        String aiResponse = Optional.ofNullable(response)
+            .map(ChatResponse::getResult)
+            .map(result -> result.getOutput().getContent())
+            .orElseThrow(() -> new RuntimeException("No response received from AI service"));
+
+        log.debug("Raw AI response: {}", aiResponse);
+
+        // If response starts with "Here is" or similar text, try to find the JSON part
+        if (aiResponse.contains("{")) {
+            aiResponse = aiResponse.substring(aiResponse.indexOf("{"));
+            if (aiResponse.contains("}")) {
+                aiResponse = aiResponse.substring(0, aiResponse.lastIndexOf("}") + 1);
+            }
+        }
+
+        // Clean up the response by removing markdown formatting
+        String cleanedResponse = aiResponse
+            .replaceAll("```json\\s*", "") // Remove opening markdown
+            .replaceAll("```\\s*$", "")    // Remove closing markdown
+            .trim();                       // Remove any extra whitespace
+                
+        log.debug("Cleaned AI response: {}", cleanedResponse);
+        return cleanedResponse;
+    }
+
     @Override
     public JsonNode generateParticipantSuggestions(String podcastTitle, String podcastDescription, String contextDescription) {
         String promptText = String.format("""
@@ -507,7 +775,14 @@ public class AIServiceImpl implements AIService {
     @Override
     public JsonNode generateVoicePreview(String gender, int age, String voiceCharacteristics) {
         log.info("Generating voice preview for gender: {}, age: {}", gender, age);
-        
+
+        // A previous request for the same description may have returned more previews than were shown
+        Optional<VoicePreviewCache.Preview> cached = voicePreviewCache.take(gender, age, voiceCharacteristics);
+        if (cached.isPresent()) {
+            log.info("Using cached voice preview {}", cached.get().previewId());
+            return previewResult(cached.get());
+        }
+
         try {
             // Compose voice description from participant attributes
             String voiceDescription = String.format(
@@ -533,61 +808,28 @@ public class AIServiceImpl implements AIService {
             validateJson(requestJson);
             log.debug("Request JSON: {}", requestJson);
 
-            // Set up headers with API key
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("xi-api-key", elevenLabsApiKey);
-            
-            // Create HTTP entity with the JSON string
-            HttpEntity<String> requestEntity = new HttpEntity<>(requestJson, headers);
-            
             // Make API call to ElevenLabs
-            RestTemplate restTemplate = new RestTemplate();
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                "https://api.elevenlabs.io/v1/text-to-voice/create-previews",
-                requestEntity,
-                String.class
-            );
-            
-            // Log response for debugging
-            //log.debug("ElevenLabs API Response: {}", response.getBody());
+            String response = elevenLabsClient.createVoicePreviews(requestJson);
             
             // Parse response
-            JsonNode responseJson = objectMapper.readTree(response.getBody());
+            JsonNode responseJson = objectMapper.readTree(response);
             JsonNode previews = responseJson.get("previews");
             
             if (previews == null || !previews.isArray() || previews.isEmpty()) {
                 throw new RuntimeException("No voice previews received from API");
             }
             
-            // Get the first preview
-            JsonNode firstPreview = previews.get(0);
-            String audioBase64 = firstPreview.get("audio_base_64").asText();
-            String generatedVoiceId = firstPreview.get("generated_voice_id").asText();
-            
-            // Decode base64 and save as audio file
-            byte[] audioData = Base64.getDecoder().decode(audioBase64);
-            
             // Create directory if it doesn't exist
             Files.createDirectories(Paths.get(voicePreviewsPath));
-            
-            // Generate unique filename
-            String filename = String.format("voice-preview-%s-%s.mp3", 
-                UUID.randomUUID(),
-                generatedVoiceId);
-            
-            Path filePath = Paths.get(voicePreviewsPath, filename);
-            Files.write(filePath, audioData);
-            
-            // Create URL for the saved file
-            String fileUrl = String.format("/api/uploads/voice-previews/%s", filename);
-            
-            // Create response with file URL and preview ID
-            ObjectNode result = objectMapper.createObjectNode();
-            result.put("preview_id", generatedVoiceId);
-            result.put("preview_url", fileUrl);
-            
-            return result;
+
+            // Save every preview; the first is returned and the others are kept for "next preview"
+            List<VoicePreviewCache.Preview> saved = new ArrayList<>();
+            for (JsonNode preview : previews) {
+                saved.add(savePreview(preview));
+            }
+            voicePreviewCache.put(gender, age, voiceCharacteristics, saved.subList(1, saved.size()));
+
+            return previewResult(saved.get(0));
             
         } catch (Exception e) {
             log.error("Failed to generate voice preview: {}", e.getMessage(), e);
@@ -595,6 +837,33 @@ public class AIServiceImpl implements AIService {
         }
     }
 
+    private VoicePreviewCache.Preview savePreview(JsonNode preview) throws IOException {
+        String generatedVoiceId = preview.get("generated_voice_id").asText();
+
+        // Decode base64 and save as audio file
+        byte[] audioData = Base64.getDecoder().decode(preview.get("audio_base_64").asText());
+
+        // Generate unique filename
+        String filename = String.format("voice-preview-%s-%s.mp3",
+            UUID.randomUUID(),
+            generatedVoiceId);
+
+        Path filePath = Paths.get(voicePreviewsPath, filename);
+        Files.write(filePath, audioData);
+
+        // Create URL for the saved file
+        String fileUrl = String.format("/api/uploads/voice-previews/%s", filename);
+        return new VoicePreviewCache.Preview(generatedVoiceId, fileUrl, filePath);
+    }
+
+    private JsonNode previewResult(VoicePreviewCache.Preview preview) {
+        // Create response with file URL and preview ID
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("preview_id", preview.previewId());
+        result.put("preview_url", preview.previewUrl());
+        return result;
+    }
+
     @Override
     public JsonNode createVoiceFromPreview(String name, String previewId) {
         log.info("Creating voice from preview ID: {} for name: {}", previewId, name);
@@ -606,27 +875,12 @@ public class AIServiceImpl implements AIService {
             requestBody.put("voice_description", "Generated voice for podcast participant " + name);
             requestBody.put("generated_voice_id", previewId);
             
-            // Set up headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("xi-api-key", elevenLabsApiKey);
-            
-            // Create HTTP entity
-            HttpEntity<String> requestEntity = new HttpEntity<>(
-                objectMapper.writeValueAsString(requestBody), 
-                headers
-            );
-            
-            // Make API call to ElevenLabs using the correct endpoint
-            RestTemplate restTemplate = new RestTemplate();
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                "https://api.elevenlabs.io/v1/text-to-voice/create-voice-from-preview",
-                requestEntity,
-                String.class
-            );
+            // Make API call to ElevenLabs
+            String response = elevenLabsClient.createVoiceFromPreview(
+                objectMapper.writeValueAsString(requestBody));
             
             // Parse and return response
-            return objectMapper.readTree(response.getBody());
+            return objectMapper.readTree(response);
         } catch (Exception e) {
             log.error("Failed to create voice from preview: {}", e.getMessage(), e);
             throw new RuntimeException("Voice creation failed", e);
@@ -662,22 +916,23 @@ public class AIServiceImpl implements AIService {
                 requestBody.put("next_text", nextText);
             }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("xi-api-key", elevenLabsApiKey);
-            
-            HttpEntity<String> requestEntity = new HttpEntity<>(
-                objectMapper.writeValueAsString(requestBody), 
-                headers
-            );
-            
-            RestTemplate restTemplate = new RestTemplate();
-            ResponseEntity<byte[]> response = restTemplate.exchange(
-                String.format("https://api.elevenlabs.io/v1/text-to-speech/%s", voiceId),
-                HttpMethod.POST,
-                requestEntity,
-                byte[].class
-            );
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new ProviderUnavailableException("ElevenLabs is currently unavailable, circuit is open");
+            }
+
+            String requestJson = objectMapper.writeValueAsString(requestBody);
+            ResponseEntity<byte[]> response;
+            try {
+                response = hedgedRequestExecutor.execute(() -> elevenLabsClient.textToSpeech(voiceId, requestJson));
+                circuitBreaker.recordSuccess();
+            } catch (RequestSlotTimeoutException e) {
+                // Never reached ElevenLabs
+                circuitBreaker.releasePermission();
+                throw e;
+            } catch (RuntimeException e) {
+                circuitBreaker.recordFailure(e);
+                throw e;
+            }
             
             // Return response metadata including request-id
             ObjectNode result = objectMapper.createObjectNode();
@@ -685,6 +940,8 @@ public class AIServiceImpl implements AIService {
             result.put("audio_data", Base64.getEncoder().encodeToString(response.getBody()));
             
             return result;
+        } catch (ProviderUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to generate audio segment: {}", e.getMessage(), e);
             throw new RuntimeException("Audio generation failed", e);
@@ -937,4 +1194,9 @@ public class AIServiceImpl implements AIService {
             };
         }
     }
+
+    @Override
+    public void destroy() {
+        sectionExecutor.shutdownNow();
+    }
 }
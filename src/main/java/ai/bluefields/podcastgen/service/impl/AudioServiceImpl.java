@@ -21,6 +21,8 @@ public class AudioServiceImpl implements AudioService {
 
     private static final Logger log = LoggerFactory.getLogger(AudioServiceImpl.class);
     private final AudioRepository audioRepository;
+    private final OrphanFileReconciler orphanFileReconciler;
+    private final GenerationProgressBuffer progressBuffer;
 
     @Override
     @Transactional(readOnly = true)
@@ -108,11 +110,19 @@ public class AudioServiceImpl implements AudioService {
     public void deleteAudio(Long id) {
         log.info("Deleting audio with id: {}", id);
         try {
-            if (!audioRepository.existsById(id)) {
-                log.warn("Failed to delete - audio not found with id: {}", id);
-                throw new ResourceNotFoundException("Audio", "id", id);
-            }
+            Audio audio = audioRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Failed to delete - audio not found with id: {}", id);
+                    return new ResourceNotFoundException("Audio", "id", id);
+                });
             audioRepository.deleteById(id);
+            if (audio.getFilePath() != null) {
+                orphanFileReconciler.deleteAfterCommit(audio.getFilePath());
+            }
+            if (audio.getPodcast() != null) {
+                // The buffered COMPLETED event would keep pointing at the deleted file
+                progressBuffer.clear(audio.getPodcast().getId());
+            }
             log.info("Successfully deleted audio with id: {}", id);
         } catch (DataAccessException e) {
             log.error("Database error while deleting audio {}: {}", id, e.getMessage(), e);
@@ -0,0 +1,273 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ColdStorageProperties;
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
+import ai.bluefields.podcastgen.model.StorageTier;
+import ai.bluefields.podcastgen.service.AudioStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves old podcast outputs from the {@link AudioStorage} to the {@link ColdAudioStore}
+ * on a schedule and brings them back when they are played again. Moving an output also
+ * drops the segments of its podcast once no hot output is left, since segments are only
+ * used while a generation stitches them.
+ * <p>
+ * Restores run in the background. Concurrent requests for the same file share one restore.
+ */
+@Component
+public class AudioTieringService implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(AudioTieringService.class);
+
+    private static final List<String> ACTIVE_GENERATION_STATUSES = List.of(
+        PodcastGenerationStatus.QUEUED.name(),
+        PodcastGenerationStatus.GENERATING_VOICES.name(),
+        PodcastGenerationStatus.GENERATING_SEGMENTS.name(),
+        PodcastGenerationStatus.STITCHING.name());
+
+    private static final String CANDIDATES_SQL = """
+        SELECT a.id, a.file_path, a.podcast_id FROM audios a
+        JOIN podcasts p ON p.id = a.podcast_id
+        WHERE a.storage_tier = 'HOT'
+          AND a.file_path IS NOT NULL
+          AND a.id > ?
+          AND a.created_at < ?
+          AND (a.tier_changed_at IS NULL OR a.tier_changed_at < ?)
+          AND (p.generation_status IS NULL OR p.generation_status <> ALL(?))
+        ORDER BY a.id
+        LIMIT ?
+        """;
+    private static final String MARK_COLD_SQL =
+        "UPDATE audios SET storage_tier = 'COLD', tier_changed_at = ? WHERE id = ? AND storage_tier = 'HOT'";
+    private static final String MARK_HOT_SQL =
+        "UPDATE audios SET storage_tier = 'HOT', tier_changed_at = ? WHERE file_path = ? AND storage_tier = 'COLD'";
+    // Only once the podcast has no hot output left; a running generation keeps its podcast out of the candidates
+    private static final String DELETE_SEGMENTS_SQL = """
+        DELETE FROM podcast_audio_segments s
+        WHERE s.podcast_id = ?
+          AND NOT EXISTS (SELECT 1 FROM audios a WHERE a.podcast_id = s.podcast_id AND a.storage_tier = 'HOT')
+        RETURNING s.segment_path
+        """;
+
+    public enum Availability {
+        // In the audio storage, stream it from there
+        HOT,
+        // Only in the cold directory, a restore is running
+        RESTORING,
+        MISSING
+    }
+
+    public record Result(int archived, int skipped, boolean budgetExhausted) {
+    }
+
+    record Candidate(long id, String key, long podcastId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AudioStorage audioStorage;
+    private final ColdAudioStore coldAudioStore;
+    private final OrphanFileReconciler orphanFileReconciler;
+    private final ColdStorageProperties properties;
+    private final ExecutorService restoreExecutor;
+    private final Set<String> restoring = ConcurrentHashMap.newKeySet();
+    private final Counter archivedFiles;
+    private final Counter restoredFiles;
+
+    public AudioTieringService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            AudioStorage audioStorage,
+            ColdAudioStore coldAudioStore,
+            OrphanFileReconciler orphanFileReconciler,
+            ColdStorageProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.audioStorage = audioStorage;
+        this.coldAudioStore = coldAudioStore;
+        this.orphanFileReconciler = orphanFileReconciler;
+        this.properties = properties;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.restoreExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getRestoreThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "audio-restore-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.archivedFiles = tieredFiles(meterRegistry, StorageTier.COLD);
+        this.restoredFiles = tieredFiles(meterRegistry, StorageTier.HOT);
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.cold.interval:PT6H}",
+        initialDelayString = "${app.storage.cold.initial-delay:PT15M}")
+    public void scheduledArchive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            archive();
+        } catch (Exception e) {
+            log.error("Audio tiering cycle failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs one tiering cycle: moves chunks of old outputs to the cold directory until none
+     * are left or the time budget is used up. At least one chunk is always attempted.
+     * Outputs whose file cannot be read are skipped and retried by the next cycle.
+     */
+    public Result archive() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp cutoff = Timestamp.valueOf(now.minus(properties.getMinAge()));
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+        long lastId = 0;
+        int archived = 0;
+        int skipped = 0;
+        boolean more;
+        do {
+            List<Candidate> chunk = jdbcTemplate.query(CANDIDATES_SQL,
+                (rs, rowNum) -> new Candidate(rs.getLong("id"), rs.getString("file_path"), rs.getLong("podcast_id")),
+                lastId, cutoff, cutoff, ACTIVE_GENERATION_STATUSES.toArray(new String[0]), chunkSize);
+            for (Candidate candidate : chunk) {
+                if (archive(candidate, now)) {
+                    archived++;
+                } else {
+                    skipped++;
+                }
+                lastId = candidate.id();
+            }
+            more = chunk.size() == chunkSize;
+        } while (more && System.nanoTime() < deadline);
+
+        if (archived > 0 || skipped > 0) {
+            log.info("Moved {} outputs to the cold tier, skipped {}{}", archived, skipped,
+                more ? ", stopping at the time budget" : "");
+        }
+        return new Result(archived, skipped, more);
+    }
+
+    private boolean archive(Candidate candidate, LocalDateTime now) {
+        // Copy first, outside the transaction: the row only turns cold once the cold copy is complete
+        try {
+            Optional<Resource> hot = audioStorage.stream(candidate.key());
+            if (hot.isEmpty()) {
+                log.warn("Output {} of podcast {} is missing, not moving it to the cold tier",
+                    candidate.key(), candidate.podcastId());
+                return false;
+            }
+            try (InputStream in = hot.get().getInputStream()) {
+                coldAudioStore.archive(candidate.key(), in);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to move output {} to the cold tier: {}", candidate.key(), e.getMessage());
+            return false;
+        }
+        Boolean moved = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(MARK_COLD_SQL, Timestamp.valueOf(now), candidate.id()) == 0) {
+                // Moved by another node in the meantime
+                return false;
+            }
+            Set<String> segmentFiles = new LinkedHashSet<>();
+            for (String segmentRef : jdbcTemplate.queryForList(DELETE_SEGMENTS_SQL, String.class,
+                    candidate.podcastId())) {
+                segmentFiles.add(SegmentRef.parse(segmentRef).file());
+            }
+            segmentFiles.forEach(orphanFileReconciler::deleteAfterCommit);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(moved)) {
+            return false;
+        }
+        archivedFiles.increment();
+        try {
+            audioStorage.delete(candidate.key());
+        } catch (IOException e) {
+            // Still referenced by the row, so it is served as is until deleted by hand
+            log.warn("Moved {} to the cold tier but failed to delete the hot copy: {}",
+                candidate.key(), e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Tells where an output can be played from, and starts restoring it when it is only
+     * in the cold directory.
+     *
+     * @param key the output's key, as stored in {@code audios.file_path}
+     */
+    public Availability requestRestore(String key) {
+        if (audioStorage.exists(key)) {
+            return Availability.HOT;
+        }
+        if (!coldAudioStore.exists(key)) {
+            return restoring.contains(key) ? Availability.RESTORING : Availability.MISSING;
+        }
+        if (restoring.add(key)) {
+            restoreExecutor.execute(() -> {
+                try {
+                    restore(key);
+                } finally {
+                    restoring.remove(key);
+                }
+            });
+        }
+        // The restore may have finished between the checks
+        return audioStorage.exists(key) ? Availability.HOT : Availability.RESTORING;
+    }
+
+    private void restore(String key) {
+        try {
+            long size = coldAudioStore.compressedSize(key);
+            Optional<InputStream> cold = coldAudioStore.open(key);
+            if (size < 0 || cold.isEmpty()) {
+                return;
+            }
+            // MP3 barely compresses, so the compressed size is close enough for picking a volume
+            try (InputStream in = cold.get()) {
+                audioStorage.put(key, in, size);
+            }
+            int rows = jdbcTemplate.update(MARK_HOT_SQL, Timestamp.valueOf(LocalDateTime.now()), key);
+            coldAudioStore.delete(key);
+            restoredFiles.increment();
+            log.info("Restored {} from the cold tier ({} rows updated)", key, rows);
+        } catch (Exception e) {
+            // The cold copy is kept, the next request starts another attempt
+            log.error("Failed to restore {} from the cold tier: {}", key, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        restoreExecutor.shutdownNow();
+    }
+
+    private static Counter tieredFiles(MeterRegistry meterRegistry, StorageTier tier) {
+        return Counter.builder("app.storage.tiered.files")
+            .description("Podcast outputs moved between the hot and the cold tier")
+            .tag("tier", tier.name().toLowerCase())
+            .register(meterRegistry);
+    }
+}
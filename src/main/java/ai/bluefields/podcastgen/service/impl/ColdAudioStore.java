@@ -0,0 +1,133 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.config.ColdStorageProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps podcast outputs that were moved off the audio storage. A file is stored gzipped at
+ * {@code <cold>/<key>.gz}, where the key is the value of {@code audios.file_path}.
+ */
+@Component
+public class ColdAudioStore {
+
+    private static final String SUFFIX = ".gz";
+    private static final String TEMP_PREFIX = ".archive-";
+
+    private final Path root;
+
+    public ColdAudioStore(AppProperties appProperties, ColdStorageProperties properties) {
+        String path = properties.getPath() == null || properties.getPath().isBlank()
+            ? Paths.get(appProperties.getBasePath(), "cold").toString()
+            : properties.getPath();
+        this.root = Paths.get(path).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Compresses a file into the cold directory, replacing an earlier copy.
+     */
+    public void archive(String key, InputStream data) throws IOException {
+        Path target = resolve(key + SUFFIX);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                data.transferTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Opens a cold file for reading its original, uncompressed content.
+     *
+     * @return the content, or empty if there is no cold copy of the key
+     */
+    public Optional<InputStream> open(String key) throws IOException {
+        Path file = resolve(key + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))));
+    }
+
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key + SUFFIX));
+    }
+
+    /**
+     * Size of the compressed cold file, or -1 if there is none.
+     */
+    public long compressedSize(String key) throws IOException {
+        Path file = resolve(key + SUFFIX);
+        return Files.isRegularFile(file) ? Files.size(file) : -1;
+    }
+
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key + SUFFIX));
+    }
+
+    /**
+     * Deletes the cold copies of a key and of all keys below it, e.g. everything of
+     * {@code podcasts/42}.
+     *
+     * @return number of files and bytes deleted
+     */
+    public long[] deleteTree(String prefix) throws IOException {
+        long[] reclaimed = new long[2];
+        Path file = resolve(prefix + SUFFIX);
+        if (Files.isRegularFile(file)) {
+            reclaimed[1] += Files.size(file);
+            Files.delete(file);
+            reclaimed[0]++;
+        }
+        Path dir = resolve(prefix);
+        if (!Files.isDirectory(dir)) {
+            return reclaimed;
+        }
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) throws IOException {
+                Files.delete(path);
+                reclaimed[0]++;
+                reclaimed[1] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path path, IOException e) throws IOException {
+                if (e != null) {
+                    throw e;
+                }
+                Files.delete(path);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return reclaimed;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (key.isEmpty() || key.startsWith("/") || !path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid audio key: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,248 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ElevenLabsResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Count-based circuit breaker for ElevenLabs text-to-speech calls. Once the failure
+ * rate over the last calls crosses the configured threshold the circuit opens and
+ * calls are rejected until the open duration has passed; a few trial calls then
+ * decide whether it closes again. Recovery listeners are told when the circuit turns
+ * half-open or closed, so work held back while it was open can be resumed.
+ */
+@Component
+public class ElevenLabsCircuitBreaker implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ElevenLabsCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ElevenLabsResilienceProperties.CircuitBreaker settings;
+    private final boolean[] outcomes;
+    private final Counter rejectedCalls;
+    private final List<Consumer<State>> recoveryListeners = new CopyOnWriteArrayList<>();
+    // Moves an open circuit to half-open on time even when no call asks, and runs the listeners
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "elevenlabs-circuit-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public ElevenLabsCircuitBreaker(ElevenLabsResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getCircuitBreaker();
+        this.outcomes = new boolean[Math.max(1, settings.getWindowSize())];
+        this.rejectedCalls = Counter.builder("elevenlabs.circuit.rejected")
+            .description("Text-to-speech calls rejected while the circuit was open")
+            .register(meterRegistry);
+
+        Gauge.builder("elevenlabs.circuit.state", this, breaker -> breaker.getState().ordinal())
+            .description("Circuit state: 0 closed, 1 open, 2 half-open")
+            .register(meterRegistry);
+        Gauge.builder("elevenlabs.circuit.failure.rate", this, ElevenLabsCircuitBreaker::getFailureRate)
+            .register(meterRegistry);
+        Gauge.builder("elevenlabs.circuit.failure.rate.threshold", settings,
+                ElevenLabsResilienceProperties.CircuitBreaker::getFailureRateThreshold)
+            .register(meterRegistry);
+        Gauge.builder("elevenlabs.circuit.minimum.calls", settings,
+                ElevenLabsResilienceProperties.CircuitBreaker::getMinimumCalls)
+            .register(meterRegistry);
+        Gauge.builder("elevenlabs.circuit.open.duration", settings, s -> s.getOpenDuration().toMillis())
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registers a listener called with {@link State#HALF_OPEN} or {@link State#CLOSED}
+     * whenever the circuit leaves the open state or closes again. Listeners run on the
+     * breaker's own thread.
+     */
+    public void addRecoveryListener(Consumer<State> listener) {
+        recoveryListeners.add(listener);
+    }
+
+    /**
+     * Returns true when a call may be attempted. In the half-open state only a limited
+     * number of trial calls are let through.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (!settings.isEnabled()) {
+            return true;
+        }
+        transitionIfOpenDurationElapsed();
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        rejectedCalls.increment();
+        return false;
+    }
+
+    /**
+     * Whether new work should be held back. Unlike {@link #tryAcquirePermission()} this
+     * does not consume a half-open trial permit.
+     */
+    public synchronized boolean isOpen() {
+        if (!settings.isEnabled()) {
+            return false;
+        }
+        transitionIfOpenDurationElapsed();
+        return state == State.OPEN;
+    }
+
+    /**
+     * Gives back a permission for a call that was never made, e.g. because no local
+     * request slot became free. Nothing is recorded against the provider.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits + halfOpenSuccesses < settings.getHalfOpenCalls()) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= settings.getHalfOpenCalls()) {
+                log.info("ElevenLabs circuit closed after {} successful trial calls", halfOpenSuccesses);
+                reset(State.CLOSED);
+                notifyRecovery(State.CLOSED);
+            }
+            return;
+        }
+        recordOutcome(false);
+    }
+
+    /**
+     * Records a failed call. Client errors other than rate limiting mean the provider
+     * answered correctly, so they do not count against its health.
+     */
+    public synchronized void recordFailure(Throwable error) {
+        if (error instanceof HttpClientErrorException clientError
+                && clientError.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
+            recordSuccess();
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            log.warn("ElevenLabs trial call failed, reopening circuit: {}", error.getMessage());
+            open();
+            return;
+        }
+        recordOutcome(true);
+        if (state == State.CLOSED
+                && outcomeCount >= settings.getMinimumCalls()
+                && getFailureRate() >= settings.getFailureRateThreshold()) {
+            log.warn("ElevenLabs failure rate {} exceeded threshold {}, opening circuit for {}",
+                getFailureRate(), settings.getFailureRateThreshold(), settings.getOpenDuration());
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        transitionIfOpenDurationElapsed();
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return outcomeCount == 0 ? 0.0 : (double) failureCount / outcomeCount;
+    }
+
+    private void recordOutcome(boolean failed) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void transitionIfOpenDurationElapsed() {
+        if (state == State.OPEN
+                && System.currentTimeMillis() - openedAt >= settings.getOpenDuration().toMillis()) {
+            log.info("ElevenLabs circuit half-open, allowing {} trial calls", settings.getHalfOpenCalls());
+            state = State.HALF_OPEN;
+            halfOpenPermits = settings.getHalfOpenCalls();
+            halfOpenSuccesses = 0;
+            notifyRecovery(State.HALF_OPEN);
+        }
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAt = System.currentTimeMillis();
+        try {
+            timer.schedule(this::getState, settings.getOpenDuration().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    private void notifyRecovery(State newState) {
+        if (recoveryListeners.isEmpty()) {
+            return;
+        }
+        try {
+            // Outside the breaker's lock
+            timer.execute(() -> {
+                for (Consumer<State> listener : recoveryListeners) {
+                    try {
+                        listener.accept(newState);
+                    } catch (Exception e) {
+                        log.warn("ElevenLabs circuit recovery listener failed: {}", e.getMessage(), e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+    }
+
+    private void reset(State newState) {
+        state = newState;
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        failureCount = 0;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+    }
+}
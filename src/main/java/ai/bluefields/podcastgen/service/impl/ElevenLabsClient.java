@@ -0,0 +1,188 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ElevenLabsClientProperties;
+import ai.bluefields.podcastgen.exception.RequestSlotTimeoutException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single entry point for all ElevenLabs API calls.
+ * Backed by one pooled Apache HttpClient so connections (and their TLS sessions) are kept
+ * alive and reused across voice previews, voice creation and every TTS segment, with
+ * configurable connect/read timeouts and per-route connection limits.
+ * Pool usage is exported under the "elevenlabs" pool name and call latency as the
+ * "elevenlabs.client.requests" timer.
+ * <p>
+ * All callers share one limit on in-flight calls, so a bulk job such as a voice import
+ * cannot exceed the provider's concurrency limit or starve podcast generation.
+ */
+@Component
+public class ElevenLabsClient implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ElevenLabsClient.class);
+
+    private static final String API_KEY_HEADER = "xi-api-key";
+    private static final String REQUEST_TIMER = "elevenlabs.client.requests";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final String apiKey;
+    private final Semaphore permits;
+    private final long permitTimeoutMillis;
+
+    public ElevenLabsClient(ElevenLabsClientProperties properties, MeterRegistry meterRegistry,
+            @Value("${elevenlabs.api.key}") String apiKey) {
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = properties.getBaseUrl();
+        this.apiKey = apiKey;
+        this.permits = new Semaphore(Math.max(1, properties.getMaxConcurrentRequests()), true);
+        this.permitTimeoutMillis = properties.getPermitTimeout().toMillis();
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+
+        TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive().toMillis());
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy((response, context) -> keepAlive)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(
+                    Timeout.ofMilliseconds(properties.getConnectionRequestTimeout().toMillis()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAlive)
+            .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "elevenlabs").bindTo(meterRegistry);
+        Gauge.builder("elevenlabs.client.available.permits", permits, Semaphore::availablePermits)
+            .description("Free slots under the shared ElevenLabs concurrency limit")
+            .register(meterRegistry);
+
+        log.info("Initialized ElevenLabs client for {} (max connections: {}, per route: {})",
+            baseUrl, properties.getMaxConnections(), properties.getMaxConnectionsPerRoute());
+    }
+
+    /**
+     * Requests voice previews for a voice description.
+     *
+     * @param requestJson JSON body for the create-previews endpoint
+     * @return Raw JSON response containing the generated previews
+     */
+    public String createVoicePreviews(String requestJson) {
+        return execute("create-previews", "/v1/text-to-voice/create-previews",
+            HttpMethod.POST, requestJson, String.class).getBody();
+    }
+
+    /**
+     * Persists a previously generated voice preview as a voice.
+     *
+     * @param requestJson JSON body for the create-voice-from-preview endpoint
+     * @return Raw JSON response containing the new voice ID
+     */
+    public String createVoiceFromPreview(String requestJson) {
+        return execute("create-voice", "/v1/text-to-voice/create-voice-from-preview",
+            HttpMethod.POST, requestJson, String.class).getBody();
+    }
+
+    /**
+     * Synthesizes speech for a single transcript segment.
+     *
+     * @param voiceId The ElevenLabs voice ID
+     * @param requestJson JSON body for the text-to-speech endpoint
+     * @return Response with the MP3 bytes and the request-id header
+     */
+    public ResponseEntity<byte[]> textToSpeech(String voiceId, String requestJson) {
+        return execute("text-to-speech", "/v1/text-to-speech/" + voiceId,
+            HttpMethod.POST, requestJson, byte[].class);
+    }
+
+    /**
+     * Deletes a generated voice from ElevenLabs.
+     *
+     * @param externalVoiceId The ElevenLabs voice ID
+     */
+    public void deleteVoice(String externalVoiceId) {
+        execute("delete-voice", "/v1/voices/" + externalVoiceId, HttpMethod.DELETE, null, Void.class);
+    }
+
+    private <T> ResponseEntity<T> execute(String operation, String path, HttpMethod method,
+            String body, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(API_KEY_HEADER, apiKey);
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        acquirePermit(operation);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        try {
+            return restTemplate.exchange(baseUrl + path, method, new HttpEntity<>(body, headers), responseType);
+        } catch (RuntimeException e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            permits.release();
+            long nanos = sample.stop(Timer.builder(REQUEST_TIMER)
+                .description("Latency of ElevenLabs API calls")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+            log.debug("ElevenLabs {} call finished with outcome {} in {}ms", operation, outcome, nanos / 1_000_000);
+        }
+    }
+
+    private void acquirePermit(String operation) {
+        try {
+            if (!permits.tryAcquire(permitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RequestSlotTimeoutException(
+                    "Timed out waiting for a free ElevenLabs request slot for " + operation);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestSlotTimeoutException("Interrupted while waiting for an ElevenLabs request slot", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        log.info("Closing ElevenLabs HTTP client");
+        httpClient.close();
+    }
+}
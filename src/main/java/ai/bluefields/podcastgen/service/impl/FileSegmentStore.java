@@ -0,0 +1,78 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.service.SegmentStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores every segment in its own file, {@code podcasts/{id}/segments/segment_NNN.mp3}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.segments.store", havingValue = "file", matchIfMissing = true)
+public class FileSegmentStore implements SegmentStore {
+
+    protected final AppProperties appProperties;
+
+    public FileSegmentStore(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    public Writer openWriter(Long podcastId) throws IOException {
+        String segmentsDir = segmentsDir(podcastId);
+        Files.createDirectories(basePath().resolve(segmentsDir));
+        return new Writer() {
+            private int index;
+
+            @Override
+            public String append(byte[] audio) throws IOException {
+                String segmentPath = String.format("%s/segment_%03d.mp3", segmentsDir, index++);
+                Files.write(basePath().resolve(segmentPath), audio);
+                return segmentPath;
+            }
+
+            @Override
+            public void close() {
+                // Each segment is complete once written
+            }
+        };
+    }
+
+    @Override
+    public ByteBuffer read(String segmentRef) throws IOException {
+        return SegmentRef.parse(segmentRef).map(basePath());
+    }
+
+    @Override
+    public Path toFile(String segmentRef, Path spoolDir) throws IOException {
+        SegmentRef ref = SegmentRef.parse(segmentRef);
+        if (!ref.isPacked()) {
+            return basePath().resolve(ref.file());
+        }
+        Path spooled = Files.createTempFile(spoolDir, "segment_", ".mp3");
+        try (FileChannel channel = FileChannel.open(spooled, StandardOpenOption.WRITE)) {
+            ByteBuffer segment = read(segmentRef);
+            while (segment.hasRemaining()) {
+                channel.write(segment);
+            }
+        }
+        return spooled;
+    }
+
+    protected Path basePath() {
+        return Paths.get(appProperties.getBasePath());
+    }
+
+    protected static String segmentsDir(Long podcastId) {
+        return String.format("podcasts/%d/segments", podcastId);
+    }
+}
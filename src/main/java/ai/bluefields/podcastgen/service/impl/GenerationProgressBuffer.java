@@ -0,0 +1,150 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.GenerationStatus;
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the most recent generation status events per podcast, so clients that subscribe
+ * late still receive the current state and recent history. Event ids are seeded from
+ * the clock so they keep increasing across restarts.
+ */
+@Component
+public class GenerationProgressBuffer {
+
+    private static final Set<String> TERMINAL_STATES = Set.of(
+        PodcastGenerationStatus.COMPLETED.toString(),
+        PodcastGenerationStatus.ERROR.toString(),
+        PodcastGenerationStatus.CANCELLED.toString());
+
+    private final ConcurrentHashMap<Long, PodcastEvents> buffers = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final Duration retention;
+    private volatile long lastEviction = System.currentTimeMillis();
+
+    public GenerationProgressBuffer(
+            @Value("${app.generation.progress-buffer.capacity:50}") int capacity,
+            @Value("${app.generation.progress-buffer.retention:1h}") Duration retention) {
+        this.capacity = Math.max(1, capacity);
+        this.retention = retention;
+    }
+
+    /**
+     * Stores the status, assigning the next event id unless it already carries one
+     * (events relayed from another node keep the id given by the publishing node).
+     *
+     * @return the recorded status, carrying its event id
+     */
+    public GenerationStatus record(Long podcastId, GenerationStatus status) {
+        PodcastEvents events = buffers.computeIfAbsent(podcastId, key -> new PodcastEvents());
+        synchronized (events) {
+            if (status.getEventId() == null) {
+                status.setEventId(++events.lastEventId);
+            } else {
+                events.lastEventId = Math.max(events.lastEventId, status.getEventId());
+            }
+            events.events.addLast(status);
+            if (events.events.size() > capacity) {
+                events.events.removeFirst();
+            }
+            events.updatedAt = System.currentTimeMillis();
+        }
+        evictExpired();
+        return status;
+    }
+
+    public List<GenerationStatus> snapshot(Long podcastId) {
+        PodcastEvents events = buffers.get(podcastId);
+        if (events == null) {
+            return List.of();
+        }
+        synchronized (events) {
+            return new ArrayList<>(events.events);
+        }
+    }
+
+    /**
+     * Events recorded after the given id. If that id has already been evicted from the
+     * buffer, everything still held is returned.
+     */
+    public List<GenerationStatus> eventsAfter(Long podcastId, long lastEventId) {
+        return snapshot(podcastId).stream()
+            .filter(status -> status.getEventId() > lastEventId)
+            .toList();
+    }
+
+    /**
+     * Events of the latest generation run, i.e. everything after the last terminal event
+     * that ended an earlier run. A finished run is returned including its terminal event.
+     */
+    public List<GenerationStatus> currentRun(Long podcastId) {
+        List<GenerationStatus> events = snapshot(podcastId);
+        for (int i = events.size() - 2; i >= 0; i--) {
+            if (isTerminal(events.get(i))) {
+                return events.subList(i + 1, events.size());
+            }
+        }
+        return events;
+    }
+
+    public static boolean isTerminal(GenerationStatus status) {
+        return TERMINAL_STATES.contains(status.getStatus());
+    }
+
+    public Optional<GenerationStatus> latest(Long podcastId) {
+        PodcastEvents events = buffers.get(podcastId);
+        if (events == null) {
+            return Optional.empty();
+        }
+        synchronized (events) {
+            return Optional.ofNullable(events.events.peekLast());
+        }
+    }
+
+    /**
+     * Drops the events of earlier runs when a new generation run starts. Event ids keep
+     * increasing, so clients resuming from an older id still get every new event.
+     */
+    public void startRun(Long podcastId) {
+        PodcastEvents events = buffers.get(podcastId);
+        if (events != null) {
+            synchronized (events) {
+                events.events.clear();
+            }
+        }
+    }
+
+    /**
+     * Forgets a podcast completely, e.g. when it or one of its outputs is deleted.
+     */
+    public void clear(Long podcastId) {
+        buffers.remove(podcastId);
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        // Sweeping on every event would be wasteful, once a minute is plenty
+        if (now - lastEviction < 60_000) {
+            return;
+        }
+        lastEviction = now;
+        long expiredBefore = now - retention.toMillis();
+        buffers.entrySet().removeIf(entry -> entry.getValue().updatedAt < expiredBefore);
+    }
+
+    private static final class PodcastEvents {
+        private final Deque<GenerationStatus> events = new ArrayDeque<>();
+        private long lastEventId = System.currentTimeMillis();
+        private volatile long updatedAt = System.currentTimeMillis();
+    }
+}
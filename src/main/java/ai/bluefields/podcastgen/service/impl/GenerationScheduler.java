@@ -0,0 +1,307 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.GenerationSchedulerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Schedules podcast generation jobs onto a fixed pool of workers, keeping a queue per
+ * user and starting jobs round-robin across users so one user's batch cannot starve
+ * everybody else. Each user is limited to a number of concurrently running jobs.
+ * <p>
+ * Jobs held back while the ElevenLabs circuit is open are parked here and resumed once
+ * it recovers: one as a trial when the circuit turns half-open, all of them once it closes.
+ */
+@Component
+public class GenerationScheduler implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(GenerationScheduler.class);
+
+    public record QueuePosition(int position, long estimatedStartSeconds) {
+    }
+
+    private final GenerationSchedulerProperties properties;
+    private final ExecutorService workers;
+    private final Map<String, List<Job>> queues = new HashMap<>();
+    // Users with queued jobs, in the order they will next be served
+    private final Deque<String> rotation = new ArrayDeque<>();
+    private final Map<String, Integer> inFlightByUser = new HashMap<>();
+    private final Map<Long, Job> running = new LinkedHashMap<>();
+    // Resume callbacks of parked jobs, in the order they were parked
+    private final Map<Long, Runnable> parked = new LinkedHashMap<>();
+    private long sequence;
+
+    public GenerationScheduler(GenerationSchedulerProperties properties, ElevenLabsCircuitBreaker circuitBreaker) {
+        this.properties = properties;
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers());
+        circuitBreaker.addRecoveryListener(this::resumeParked);
+    }
+
+    /**
+     * Queues a job for a user. The returned future completes when the task has run.
+     *
+     * @param onQueueUpdate called with the job's position whenever it changes while queued
+     */
+    public CompletableFuture<Void> submit(String userId, Long podcastId, Integer lengthMinutes,
+            Runnable task, Consumer<QueuePosition> onQueueUpdate) {
+        Job job = new Job(userId != null ? userId : "", podcastId, lengthMinutes, task, onQueueUpdate);
+        List<Runnable> notifications;
+        synchronized (this) {
+            job.sequence = sequence++;
+            List<Job> queue = queues.computeIfAbsent(job.userId, key -> new ArrayList<>());
+            if (queue.isEmpty()) {
+                rotation.addLast(job.userId);
+            }
+            queue.add(job);
+            if (properties.isShortestFirst()) {
+                queue.sort(Comparator.comparingLong((Job queued) -> queued.estimatedSeconds)
+                    .thenComparingLong(queued -> queued.sequence));
+            }
+            log.debug("Queued generation of podcast {} for user {}", podcastId, job.userId);
+            notifications = dispatch();
+        }
+        notifications.forEach(Runnable::run);
+        return job.future;
+    }
+
+    /**
+     * Holds a job back until the ElevenLabs circuit recovers. The callback should submit
+     * the job again; parking the same podcast twice keeps the newer callback.
+     */
+    public synchronized void park(Long podcastId, Runnable resume) {
+        parked.remove(podcastId);
+        parked.put(podcastId, resume);
+        log.debug("Parked generation of podcast {} until the speech provider recovers ({} parked)",
+            podcastId, parked.size());
+    }
+
+    /**
+     * Removes a job that has not started yet. Running jobs are left alone.
+     *
+     * @return true if the job was still queued or parked
+     */
+    public boolean cancel(Long podcastId) {
+        Job cancelled;
+        List<Runnable> notifications;
+        synchronized (this) {
+            if (parked.remove(podcastId) != null) {
+                return true;
+            }
+            cancelled = findQueued(podcastId);
+            if (cancelled == null) {
+                return false;
+            }
+            List<Job> queue = queues.get(cancelled.userId);
+            queue.remove(cancelled);
+            if (queue.isEmpty()) {
+                queues.remove(cancelled.userId);
+                rotation.remove(cancelled.userId);
+            }
+            notifications = queueNotifications();
+        }
+        cancelled.future.cancel(false);
+        notifications.forEach(Runnable::run);
+        return true;
+    }
+
+    public synchronized QueuePosition getQueuePosition(Long podcastId) {
+        return queuePositions().get(podcastId);
+    }
+
+    public synchronized int getParkedCount() {
+        return parked.size();
+    }
+
+    private void resumeParked(ElevenLabsCircuitBreaker.State state) {
+        List<Map.Entry<Long, Runnable>> resumed = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<Long, Runnable>> iterator = parked.entrySet().iterator();
+            // A half-open circuit only lets a few trial calls through, so send a single job
+            while (iterator.hasNext() && (state == ElevenLabsCircuitBreaker.State.CLOSED || resumed.isEmpty())) {
+                Map.Entry<Long, Runnable> entry = iterator.next();
+                resumed.add(Map.entry(entry.getKey(), entry.getValue()));
+                iterator.remove();
+            }
+        }
+        if (!resumed.isEmpty()) {
+            log.info("Speech provider circuit is {}, resuming {} parked generations", state, resumed.size());
+        }
+        for (Map.Entry<Long, Runnable> entry : resumed) {
+            try {
+                entry.getValue().run();
+            } catch (Exception e) {
+                log.warn("Failed to resume generation of podcast {}: {}", entry.getKey(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Starts as many queued jobs as there are free workers and returns the queue position
+     * updates to publish once the lock has been released.
+     */
+    private List<Runnable> dispatch() {
+        while (running.size() < properties.getWorkers()) {
+            Job next = pollNextEligible();
+            if (next == null) {
+                break;
+            }
+            start(next);
+        }
+        return queueNotifications();
+    }
+
+    /**
+     * Walks the rotation once, taking the head of the first user's queue that is below
+     * its in-flight limit. Users that are served or skipped move to the back.
+     */
+    private Job pollNextEligible() {
+        for (int i = 0; i < rotation.size(); i++) {
+            String userId = rotation.pollFirst();
+            List<Job> queue = queues.get(userId);
+            if (inFlightByUser.getOrDefault(userId, 0) < properties.getPerUserInFlightLimit()) {
+                Job job = queue.remove(0);
+                if (queue.isEmpty()) {
+                    queues.remove(userId);
+                } else {
+                    rotation.addLast(userId);
+                }
+                return job;
+            }
+            rotation.addLast(userId);
+        }
+        return null;
+    }
+
+    private void start(Job job) {
+        job.startedAt = System.currentTimeMillis();
+        running.put(job.podcastId, job);
+        inFlightByUser.merge(job.userId, 1, Integer::sum);
+        log.info("Starting generation of podcast {} for user {} ({} running)",
+            job.podcastId, job.userId, running.size());
+
+        CompletableFuture.runAsync(job.task, workers).whenComplete((result, error) -> {
+            List<Runnable> notifications;
+            synchronized (this) {
+                running.remove(job.podcastId);
+                inFlightByUser.computeIfPresent(job.userId, (key, count) -> count > 1 ? count - 1 : null);
+                notifications = dispatch();
+            }
+            notifications.forEach(Runnable::run);
+            if (error != null) {
+                job.future.completeExceptionally(error);
+            } else {
+                job.future.complete(null);
+            }
+        });
+    }
+
+    private List<Runnable> queueNotifications() {
+        List<Runnable> notifications = new ArrayList<>();
+        queuePositions().forEach((podcastId, position) -> {
+            Job job = findQueued(podcastId);
+            if (job != null && job.onQueueUpdate != null) {
+                notifications.add(() -> {
+                    try {
+                        job.onQueueUpdate.accept(position);
+                    } catch (Exception e) {
+                        log.warn("Failed to publish queue position for podcast {}: {}", podcastId, e.getMessage());
+                    }
+                });
+            }
+        });
+        return notifications;
+    }
+
+    /**
+     * Replays the round-robin order over a copy of the queues to find out when each
+     * queued job will start. Per-user limits are ignored, so this is an estimate.
+     */
+    private Map<Long, QueuePosition> queuePositions() {
+        Map<Long, QueuePosition> positions = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        List<Long> workerFreeAt = new ArrayList<>();
+        for (Job job : running.values()) {
+            workerFreeAt.add(Math.max(0, job.estimatedSeconds - (now - job.startedAt) / 1000));
+        }
+        while (workerFreeAt.size() < properties.getWorkers()) {
+            workerFreeAt.add(0L);
+        }
+
+        Map<String, Deque<Job>> remaining = new HashMap<>();
+        queues.forEach((userId, queue) -> remaining.put(userId, new ArrayDeque<>(queue)));
+        Deque<String> order = new ArrayDeque<>(rotation);
+        int position = 1;
+        while (!order.isEmpty()) {
+            String userId = order.pollFirst();
+            Deque<Job> queue = remaining.get(userId);
+            Job job = queue.pollFirst();
+            if (!queue.isEmpty()) {
+                order.addLast(userId);
+            }
+
+            int earliest = 0;
+            for (int i = 1; i < workerFreeAt.size(); i++) {
+                if (workerFreeAt.get(i) < workerFreeAt.get(earliest)) {
+                    earliest = i;
+                }
+            }
+            long startsIn = workerFreeAt.get(earliest);
+            workerFreeAt.set(earliest, startsIn + job.estimatedSeconds);
+            positions.put(job.podcastId, new QueuePosition(position++, startsIn));
+        }
+        return positions;
+    }
+
+    private Job findQueued(Long podcastId) {
+        for (List<Job> queue : queues.values()) {
+            for (Job job : queue) {
+                if (job.podcastId.equals(podcastId)) {
+                    return job;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    private final class Job {
+        private final String userId;
+        private final Long podcastId;
+        private final long estimatedSeconds;
+        private final Runnable task;
+        private final Consumer<QueuePosition> onQueueUpdate;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private long sequence;
+        private long startedAt;
+
+        private Job(String userId, Long podcastId, Integer lengthMinutes, Runnable task,
+                Consumer<QueuePosition> onQueueUpdate) {
+            this.userId = userId;
+            this.podcastId = podcastId;
+            int minutes = lengthMinutes != null && lengthMinutes > 0
+                ? lengthMinutes : properties.getDefaultLengthMinutes();
+            this.estimatedSeconds = (long) minutes * properties.getSecondsPerPodcastMinute();
+            this.task = task;
+            this.onQueueUpdate = onQueueUpdate;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.GenerationStatus;
+import ai.bluefields.podcastgen.service.ProgressEventBus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams generation status events to Server-Sent Events subscribers. Emitters are
+ * completed asynchronously, so idle listeners hold no servlet thread; events are
+ * written from striped fan-out threads to keep per-podcast ordering. A new subscriber
+ * is registered and sent the current run's history in one step on its podcast's
+ * fan-out thread, and never gets an event twice.
+ */
+@Component
+public class GenerationSseBroadcaster implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(GenerationSseBroadcaster.class);
+
+    private final GenerationProgressBuffer progressBuffer;
+    private final ConcurrentHashMap<Long, Set<Subscriber>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService[] fanOutExecutors;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor();
+    private final long timeoutMillis;
+
+    public GenerationSseBroadcaster(
+            GenerationProgressBuffer progressBuffer,
+            ProgressEventBus progressEventBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.sse.timeout:30m}") Duration timeout,
+            @Value("${app.sse.heartbeat-interval:25s}") Duration heartbeatInterval,
+            @Value("${app.sse.fan-out-threads:4}") int fanOutThreads) {
+        this.progressBuffer = progressBuffer;
+        this.timeoutMillis = timeout.toMillis();
+        this.fanOutExecutors = new ExecutorService[Math.max(1, fanOutThreads)];
+        for (int i = 0; i < fanOutExecutors.length; i++) {
+            fanOutExecutors[i] = Executors.newSingleThreadExecutor();
+        }
+
+        progressEventBus.subscribe(this::broadcast);
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats,
+            heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("podcast.generation.sse.subscribers", emitters,
+                map -> map.values().stream().mapToInt(Set::size).sum())
+            .description("Open Server-Sent Events streams for generation progress")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for a podcast. The current run's buffered events after
+     * {@code lastEventId} are sent first, or all of them when no id is given.
+     */
+    public SseEmitter subscribe(Long podcastId, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(newEmitter());
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(podcastId, subscriber));
+        emitter.onTimeout(() -> remove(podcastId, subscriber));
+        emitter.onError(error -> remove(podcastId, subscriber));
+
+        executorFor(podcastId).execute(() -> {
+            // Events recorded before this point are in the history, later ones are broadcast to it
+            emitters.computeIfAbsent(podcastId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            for (GenerationStatus status : progressBuffer.currentRun(podcastId)) {
+                if (lastEventId == null || status.getEventId() > lastEventId) {
+                    send(podcastId, subscriber, status);
+                }
+            }
+        });
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void broadcast(Long podcastId, GenerationStatus status) {
+        Set<Subscriber> podcastEmitters = emitters.get(podcastId);
+        if (podcastEmitters == null || podcastEmitters.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = executorFor(podcastId);
+        for (Subscriber subscriber : podcastEmitters) {
+            executor.execute(() -> send(podcastId, subscriber, status));
+        }
+    }
+
+    private void send(Long podcastId, Subscriber subscriber, GenerationStatus status) {
+        SseEmitter emitter = subscriber.emitter;
+        if (status.getEventId() != null) {
+            // Broadcast while the history was sent, or already completed
+            if (status.getEventId() <= subscriber.lastSentEventId) {
+                return;
+            }
+            subscriber.lastSentEventId = status.getEventId();
+        }
+        try {
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .name("status")
+                .data(status, MediaType.APPLICATION_JSON);
+            if (status.getEventId() != null) {
+                event.id(status.getEventId().toString());
+            }
+            emitter.send(event);
+            if (GenerationProgressBuffer.isTerminal(status)) {
+                // Nothing is sent after the end of the run
+                subscriber.lastSentEventId = Long.MAX_VALUE;
+                remove(podcastId, subscriber);
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            log.debug("Dropping SSE subscriber of podcast {}: {}", podcastId, e.getMessage());
+            remove(podcastId, subscriber);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendHeartbeats() {
+        emitters.forEach((podcastId, podcastEmitters) -> {
+            ExecutorService executor = executorFor(podcastId);
+            for (Subscriber subscriber : podcastEmitters) {
+                executor.execute(() -> {
+                    try {
+                        // Comment lines keep proxies from closing idle streams
+                        subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+                    } catch (Exception e) {
+                        remove(podcastId, subscriber);
+                    }
+                });
+            }
+        });
+    }
+
+    private void remove(Long podcastId, Subscriber subscriber) {
+        emitters.computeIfPresent(podcastId, (key, podcastEmitters) -> {
+            podcastEmitters.remove(subscriber);
+            return podcastEmitters.isEmpty() ? null : podcastEmitters;
+        });
+    }
+
+    private ExecutorService executorFor(Long podcastId) {
+        return fanOutExecutors[Math.floorMod(podcastId.hashCode(), fanOutExecutors.length)];
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        for (ExecutorService executor : fanOutExecutors) {
+            executor.shutdownNow();
+        }
+        emitters.values().forEach(podcastEmitters ->
+            podcastEmitters.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        // Only touched from the podcast's fan-out thread
+        private long lastSentEventId;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ElevenLabsResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs idempotent provider calls with request hedging: when a call is still running
+ * after the observed latency percentile, an identical second call is sent and
+ * whichever succeeds first wins. The slower call is cancelled and its result dropped.
+ */
+@Component
+public class HedgedRequestExecutor implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(HedgedRequestExecutor.class);
+
+    private final ElevenLabsResilienceProperties.Hedging settings;
+    private final ExecutorService executor;
+    private final long[] latencies;
+    private final Counter hedgedRequests;
+    private final Counter hedgeWins;
+    private int latencyIndex;
+    private int latencyCount;
+
+    public HedgedRequestExecutor(ElevenLabsResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getHedging();
+        this.executor = Executors.newFixedThreadPool(Math.max(2, settings.getMaxConcurrentRequests()));
+        this.latencies = new long[Math.max(1, settings.getWindowSize())];
+        this.hedgedRequests = Counter.builder("elevenlabs.hedging.requests")
+            .description("Second requests sent because the first exceeded the hedge delay")
+            .register(meterRegistry);
+        this.hedgeWins = Counter.builder("elevenlabs.hedging.wins")
+            .description("Hedged requests that finished before the original")
+            .register(meterRegistry);
+
+        Gauge.builder("elevenlabs.hedging.delay", this, HedgedRequestExecutor::currentHedgeDelayMillis)
+            .description("Current hedge delay, -1 while too few samples are available")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder("elevenlabs.hedging.percentile", settings, ElevenLabsResilienceProperties.Hedging::getPercentile)
+            .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        long hedgeDelay = settings.isEnabled() ? currentHedgeDelayMillis() : -1;
+        if (hedgeDelay < 0) {
+            return timed(call);
+        }
+
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Future<T> primary = completion.submit(() -> timed(call));
+        Future<T> hedge = null;
+        try {
+            Future<T> done = completion.poll(hedgeDelay, TimeUnit.MILLISECONDS);
+            if (done == null) {
+                log.debug("Request exceeded hedge delay of {}ms, sending hedged request", hedgeDelay);
+                hedgedRequests.increment();
+                hedge = completion.submit(() -> timed(call));
+                done = completion.take();
+            }
+
+            int pending = hedge == null ? 0 : 1;
+            while (true) {
+                try {
+                    T result = done.get();
+                    if (done == hedge) {
+                        hedgeWins.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    if (pending == 0) {
+                        throw unwrap(e);
+                    }
+                    log.debug("One of the hedged requests failed, waiting for the other: {}", e.getCause().getMessage());
+                    pending--;
+                    done = completion.take();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for provider response", e);
+        } finally {
+            // Cancelling a completed future is a no-op, so this only affects the loser
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Latency percentile of recent successful calls, clamped to the configured bounds,
+     * or -1 while fewer than the minimum number of samples have been recorded.
+     */
+    public long currentHedgeDelayMillis() {
+        long[] sample;
+        synchronized (this) {
+            if (latencyCount < settings.getMinimumSamples()) {
+                return -1;
+            }
+            sample = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(sample);
+        int index = (int) Math.ceil(settings.getPercentile() * sample.length) - 1;
+        long percentile = sample[Math.max(0, Math.min(index, sample.length - 1))];
+        return Math.max(settings.getMinDelay().toMillis(), Math.min(percentile, settings.getMaxDelay().toMillis()));
+    }
+
+    private <T> T timed(Supplier<T> call) {
+        long start = System.nanoTime();
+        T result = call.get();
+        recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private synchronized void recordLatency(long millis) {
+        latencies[latencyIndex] = millis;
+        latencyIndex = (latencyIndex + 1) % latencies.length;
+        if (latencyCount < latencies.length) {
+            latencyCount++;
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(cause.getMessage(), cause);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,49 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.GenerationStatus;
+import ai.bluefields.podcastgen.service.ProgressEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single node progress event bus. Events are recorded in the progress buffer and handed
+ * straight to the local listeners.
+ */
+@Component
+@ConditionalOnProperty(name = "app.progress.bus", havingValue = "in-process", matchIfMissing = true)
+public class InProcessProgressEventBus implements ProgressEventBus {
+    private static final Logger log = LoggerFactory.getLogger(InProcessProgressEventBus.class);
+
+    protected final GenerationProgressBuffer progressBuffer;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public InProcessProgressEventBus(GenerationProgressBuffer progressBuffer) {
+        this.progressBuffer = progressBuffer;
+    }
+
+    @Override
+    public void publish(Long podcastId, GenerationStatus status) {
+        deliver(podcastId, status);
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    protected void deliver(Long podcastId, GenerationStatus status) {
+        GenerationStatus recorded = progressBuffer.record(podcastId, status);
+        for (Listener listener : listeners) {
+            try {
+                listener.onEvent(podcastId, recorded);
+            } catch (Exception e) {
+                log.warn("Progress listener failed for podcast {}: {}", podcastId, e.getMessage(), e);
+            }
+        }
+    }
+}
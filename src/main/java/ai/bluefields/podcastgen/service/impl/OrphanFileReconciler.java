@@ -0,0 +1,372 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.service.AudioStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Removes files under the uploads directory that no database row refers to any more:
+ * podcast outputs and segments ({@code audios.file_path}, {@code podcast_audio_segments})
+ * and voice previews ({@code participants.voice_preview_url}, {@code voices.audio_preview_path}).
+ * Podcast audio kept in {@link AudioStorage} is reconciled through the storage as well.
+ * Files younger than the grace period are left alone, since they may belong to a
+ * generation that has not saved its rows yet or to a cached, not yet shown preview.
+ * <p>
+ * Deletes that are known up front, such as the directory of a deleted podcast, are done
+ * right after the deleting transaction commits via {@link #deleteAfterCommit(String)}.
+ */
+@Component
+public class OrphanFileReconciler {
+    private static final Logger log = LoggerFactory.getLogger(OrphanFileReconciler.class);
+
+    private static final String PODCASTS_DIR = "podcasts";
+    private static final String PODCAST_IDS_SQL = "SELECT id FROM podcasts";
+    private static final String AUDIO_PATHS_SQL = "SELECT file_path FROM audios WHERE file_path IS NOT NULL";
+    private static final String SEGMENT_PATHS_SQL = "SELECT segment_path FROM podcast_audio_segments";
+    private static final String PREVIEW_URLS_SQL = """
+        SELECT voice_preview_url FROM participants WHERE voice_preview_url IS NOT NULL
+        UNION
+        SELECT audio_preview_path FROM voices WHERE audio_preview_path IS NOT NULL
+        """;
+
+    public record Result(int filesDeleted, long bytesReclaimed) {
+    }
+
+    // Either a file below the uploads directory or a key in the audio storage
+    private record Candidate(Path file, String storageKey, long size) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+    private final AudioStorage audioStorage;
+    private final ColdAudioStore coldAudioStore;
+    private final boolean enabled;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Counter reconcilerBytes;
+    private final Counter reconcilerFiles;
+    private final Counter deleteBytes;
+    private final Counter deleteFiles;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrphanFileReconciler(
+            JdbcTemplate jdbcTemplate,
+            AppProperties appProperties,
+            AudioStorage audioStorage,
+            ColdAudioStore coldAudioStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.storage.reconciler.enabled:true}") boolean enabled,
+            @Value("${app.storage.reconciler.grace-period:24h}") Duration gracePeriod,
+            @Value("${app.storage.reconciler.batch-size:100}") int batchSize,
+            @Value("${app.storage.reconciler.batch-pause:200ms}") Duration batchPause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.appProperties = appProperties;
+        this.audioStorage = audioStorage;
+        this.coldAudioStore = coldAudioStore;
+        this.enabled = enabled;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchPause = batchPause;
+        this.reconcilerBytes = reclaimedBytes(meterRegistry, "reconciler");
+        this.reconcilerFiles = deletedFiles(meterRegistry, "reconciler");
+        this.deleteBytes = reclaimedBytes(meterRegistry, "delete");
+        this.deleteFiles = deletedFiles(meterRegistry, "delete");
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.reconciler.interval:PT1H}",
+        initialDelayString = "${app.storage.reconciler.initial-delay:PT5M}")
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Orphan file reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Walks the uploads directory once and deletes unreferenced files older than the
+     * grace period, in batches with a pause in between to limit the I/O load.
+     */
+    public Result reconcile() throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Orphan file reconciliation already running, skipping");
+            return new Result(0, 0);
+        }
+        try {
+            Path base = basePath();
+            if (!Files.isDirectory(base)) {
+                return new Result(0, 0);
+            }
+            Path podcastsDir = base.resolve(PODCASTS_DIR);
+            Path previewsDir = Paths.get(appProperties.getVoicePreviewsPath()).toAbsolutePath().normalize();
+
+            // Load references before walking, so a file created during the walk is never seen without its row
+            Set<Long> podcastIds = new HashSet<>(jdbcTemplate.queryForList(PODCAST_IDS_SQL, Long.class));
+            Set<Path> referenced = new HashSet<>();
+            for (String path : jdbcTemplate.queryForList(AUDIO_PATHS_SQL, String.class)) {
+                referenced.add(base.resolve(path).normalize());
+            }
+            for (String segmentRef : jdbcTemplate.queryForList(SEGMENT_PATHS_SQL, String.class)) {
+                // Packed segments reference a range of a pack file
+                referenced.add(base.resolve(SegmentRef.parse(segmentRef).file()).normalize());
+            }
+            Set<String> previewNames = new HashSet<>();
+            for (String url : jdbcTemplate.queryForList(PREVIEW_URLS_SQL, String.class)) {
+                previewNames.add(url.substring(url.lastIndexOf('/') + 1));
+            }
+
+            Instant cutoff = Instant.now().minus(gracePeriod);
+            List<Candidate> orphans = new ArrayList<>();
+            List<Path> deletedPodcastDirs = new ArrayList<>();
+            Files.walkFileTree(base, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && attrs.lastModifiedTime().toInstant().isBefore(cutoff)) {
+                        boolean orphan;
+                        if (file.startsWith(previewsDir)) {
+                            orphan = !previewNames.contains(file.getFileName().toString());
+                        } else if (file.startsWith(podcastsDir)) {
+                            orphan = !referenced.contains(file);
+                        } else {
+                            // Not a location this application manages
+                            orphan = false;
+                        }
+                        if (orphan) {
+                            orphans.add(new Candidate(file, null, attrs.size()));
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+                    // Directories below podcasts/{id} of podcasts that no longer exist, deepest first
+                    if (dir.startsWith(podcastsDir) && dir.getNameCount() > podcastsDir.getNameCount()) {
+                        Long podcastId = parseId(dir.getName(podcastsDir.getNameCount()).toString());
+                        if (podcastId != null && !podcastIds.contains(podcastId)) {
+                            deletedPodcastDirs.add(dir);
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    log.warn("Skipping unreadable path {}: {}", file, e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+
+            Set<Path> walkedOrphans = new HashSet<>();
+            orphans.forEach(orphan -> walkedOrphans.add(orphan.file()));
+            for (AudioStorage.Entry entry : audioStorage.list(PODCASTS_DIR + "/")) {
+                Path legacyPath = base.resolve(entry.key()).normalize();
+                if (entry.lastModified().isBefore(cutoff) && !referenced.contains(legacyPath)
+                        && !walkedOrphans.contains(legacyPath)) {
+                    orphans.add(new Candidate(null, entry.key(), entry.size()));
+                }
+            }
+
+            Result result = deleteInBatches(orphans);
+            for (Path dir : deletedPodcastDirs) {
+                try {
+                    Files.deleteIfExists(dir);
+                } catch (DirectoryNotEmptyException e) {
+                    // Still holds files inside the grace period
+                }
+            }
+            if (result.filesDeleted() > 0) {
+                log.info("Deleted {} orphaned files, reclaimed {} bytes",
+                    result.filesDeleted(), result.bytesReclaimed());
+            }
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Deletes a file or directory below the uploads directory, and the podcast audio
+     * stored under the same key in the audio storage or the cold tier, once the current
+     * transaction commits (immediately when there is none). Nothing is deleted when the
+     * transaction rolls back.
+     *
+     * @param relativePath Path relative to the uploads base path, e.g. {@code podcasts/42}
+     */
+    public void deleteAfterCommit(String relativePath) {
+        Path base = basePath();
+        Path target = base.resolve(relativePath).normalize();
+        if (!target.startsWith(base) || target.equals(base)) {
+            log.warn("Refusing to delete {} outside of {}", relativePath, base);
+            return;
+        }
+        Runnable delete = () -> {
+            try {
+                long[] reclaimed = deleteTree(target);
+                String key = base.relativize(target).toString().replace('\\', '/');
+                deleteStoredAudio(key, reclaimed);
+                long[] cold = coldAudioStore.deleteTree(key);
+                reclaimed[0] += cold[0];
+                reclaimed[1] += cold[1];
+                deleteFiles.increment(reclaimed[0]);
+                deleteBytes.increment(reclaimed[1]);
+                log.debug("Deleted {} ({} files, {} bytes)", target, reclaimed[0], reclaimed[1]);
+            } catch (IOException e) {
+                // The reconciler removes whatever is left
+                log.warn("Failed to delete {}: {}", target, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete.run();
+                }
+            });
+        } else {
+            delete.run();
+        }
+    }
+
+    private Result deleteInBatches(List<Candidate> orphans) {
+        int deleted = 0;
+        long bytes = 0;
+        for (int i = 0; i < orphans.size(); i++) {
+            Candidate orphan = orphans.get(i);
+            try {
+                boolean removed = orphan.storageKey() != null
+                    ? audioStorage.delete(orphan.storageKey())
+                    : Files.deleteIfExists(orphan.file());
+                if (removed) {
+                    deleted++;
+                    bytes += orphan.size();
+                    reconcilerFiles.increment();
+                    reconcilerBytes.increment(orphan.size());
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete orphaned file {}: {}",
+                    orphan.storageKey() != null ? orphan.storageKey() : orphan.file(), e.getMessage());
+            }
+            if ((i + 1) % batchSize == 0 && i + 1 < orphans.size() && !pause()) {
+                break;
+            }
+        }
+        return new Result(deleted, bytes);
+    }
+
+    /**
+     * Deletes the stored audio under a key, or below it when the key names a directory.
+     */
+    private void deleteStoredAudio(String key, long[] reclaimed) throws IOException {
+        List<AudioStorage.Entry> entries = new ArrayList<>(audioStorage.list(key + "/"));
+        Optional<Resource> file = audioStorage.stream(key);
+        if (file.isPresent()) {
+            entries.add(new AudioStorage.Entry(key, file.get().contentLength(), null));
+        }
+        for (AudioStorage.Entry entry : entries) {
+            if (audioStorage.delete(entry.key())) {
+                reclaimed[0]++;
+                reclaimed[1] += entry.size();
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Deletes a file or a directory with everything below it.
+     *
+     * @return number of files and bytes deleted
+     */
+    private static long[] deleteTree(Path target) throws IOException {
+        long[] reclaimed = new long[2];
+        if (!Files.exists(target)) {
+            return reclaimed;
+        }
+        Files.walkFileTree(target, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                reclaimed[0]++;
+                reclaimed[1] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                if (e != null) {
+                    throw e;
+                }
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return reclaimed;
+    }
+
+    private Path basePath() {
+        return Paths.get(appProperties.getBasePath()).toAbsolutePath().normalize();
+    }
+
+    private static Long parseId(String name) {
+        try {
+            return Long.valueOf(name);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Counter reclaimedBytes(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("app.storage.reclaimed")
+            .description("Bytes freed by deleting files no longer referenced by the database")
+            .baseUnit("bytes")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    private static Counter deletedFiles(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("app.storage.deleted.files")
+            .description("Files deleted because they are no longer referenced by the database")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,106 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Appends all segments of a generation run to a single pack file,
+ * {@code podcasts/{id}/segments/segments_<millis>.pack}, so a podcast leaves one file
+ * instead of one per transcript message. The offset and length of every segment are
+ * kept in its reference in the database. Reads slice a memory mapping of the whole
+ * pack, which is shared between the segments of the same pack while it stays cached.
+ * <p>
+ * Every generation run writes a new pack, so the previous segments stay readable until
+ * their references are replaced; the old pack is then removed by the orphan file reconciler.
+ */
+@Component
+@ConditionalOnProperty(name = "app.segments.store", havingValue = "packed")
+public class PackedSegmentStore extends FileSegmentStore {
+    private static final Logger log = LoggerFactory.getLogger(PackedSegmentStore.class);
+
+    private final Cache<String, MappedByteBuffer> mappedPacks;
+
+    public PackedSegmentStore(
+            AppProperties appProperties,
+            @Value("${app.segments.packed.mapped-packs:64}") long mappedPacks,
+            @Value("${app.segments.packed.mapping-ttl:10m}") Duration mappingTtl) {
+        super(appProperties);
+        this.mappedPacks = Caffeine.newBuilder()
+            .maximumSize(mappedPacks)
+            .expireAfterAccess(mappingTtl)
+            .build();
+    }
+
+    @Override
+    public Writer openWriter(Long podcastId) throws IOException {
+        String packPath = String.format("%s/segments_%d.pack", segmentsDir(podcastId), System.currentTimeMillis());
+        Path packFile = basePath().resolve(packPath);
+        Files.createDirectories(packFile.getParent());
+        FileChannel channel = FileChannel.open(packFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return new Writer() {
+            private long position;
+
+            @Override
+            public String append(byte[] audio) throws IOException {
+                ByteBuffer buffer = ByteBuffer.wrap(audio);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                SegmentRef ref = new SegmentRef(packPath, position, audio.length);
+                position += audio.length;
+                return ref.toString();
+            }
+
+            @Override
+            public void close() throws IOException {
+                try (channel) {
+                    channel.force(true);
+                }
+                if (position == 0) {
+                    Files.deleteIfExists(packFile);
+                }
+                log.debug("Wrote segment pack {} ({} bytes)", packPath, position);
+            }
+        };
+    }
+
+    @Override
+    public ByteBuffer read(String segmentRef) throws IOException {
+        SegmentRef ref = SegmentRef.parse(segmentRef);
+        if (!ref.isPacked()) {
+            return super.read(segmentRef);
+        }
+        MappedByteBuffer pack;
+        try {
+            pack = mappedPacks.get(ref.file(), file -> {
+                try {
+                    return new SegmentRef(file, 0, -1).map(basePath());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (ref.offset() + ref.length() > pack.capacity()) {
+            throw new IOException("Segment " + segmentRef + " lies beyond the end of its pack");
+        }
+        return pack.slice((int) ref.offset(), (int) ref.length());
+    }
+}
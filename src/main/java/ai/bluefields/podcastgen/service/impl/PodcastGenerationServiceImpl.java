@@ -1,51 +1,80 @@
 package ai.bluefields.podcastgen.service.impl;
 
-import ai.bluefields.podcastgen.config.AppProperties;
-import ai.bluefields.podcastgen.config.PodcastGenerationWebSocketHandler;
+import ai.bluefields.podcastgen.config.AudioEncodingProperties;
+import ai.bluefields.podcastgen.dto.PodcastGenerationStatusDTO;
+import ai.bluefields.podcastgen.exception.ProviderUnavailableException;
+import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
 import ai.bluefields.podcastgen.model.*;
 import ai.bluefields.podcastgen.repository.PodcastRepository;
 import ai.bluefields.podcastgen.service.AIService;
+import ai.bluefields.podcastgen.service.AudioStorage;
 import ai.bluefields.podcastgen.service.PodcastGenerationService;
+import ai.bluefields.podcastgen.service.ProgressEventBus;
+import ai.bluefields.podcastgen.service.SegmentStore;
 import ai.bluefields.podcastgen.util.AudioUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import ai.bluefields.podcastgen.model.Voice;
 import ai.bluefields.podcastgen.service.VoiceService;
 import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PodcastGenerationServiceImpl implements PodcastGenerationService {
     private static final Logger log = LoggerFactory.getLogger(PodcastGenerationServiceImpl.class);
+    private static final String PROVIDER_UNAVAILABLE_MESSAGE =
+        "Speech provider is temporarily unavailable, please retry generation shortly";
     
     private final PodcastRepository podcastRepository;
     private final AIService aiService;
     private final VoiceService voiceService;
-    private final PodcastGenerationWebSocketHandler webSocketHandler;
-    private final AppProperties appProperties;
-    private final Executor executor = Executors.newFixedThreadPool(5);
+    private final ProgressEventBus progressEventBus;
+    private final GenerationProgressBuffer progressBuffer;
+    private final ElevenLabsCircuitBreaker circuitBreaker;
+    private final GenerationScheduler generationScheduler;
+    private final TranscriptMessageStore transcriptMessageStore;
+    private final SegmentStore segmentStore;
+    private final AudioStorage audioStorage;
+    private final AudioEncodingProperties encodingProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final ConcurrentHashMap<Long, CompletableFuture<GenerationOutcome>> inFlightGenerations =
+        new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, IdempotentRequest> idempotentRequests = new ConcurrentHashMap<>();
+
+    @Value("${app.generation.idempotency-key-ttl:24h}")
+    private Duration idempotencyKeyTtl;
 
     private String formatVoiceName(String fullName) {
         String[] nameParts = fullName.trim().split("\\s+");
@@ -61,9 +90,67 @@ public class PodcastGenerationServiceImpl implements PodcastGenerationService {
 
     @Override
     @Transactional
-    public CompletableFuture<Void> generatePodcast(Long podcastId) {
+    public CompletableFuture<GenerationOutcome> generatePodcast(Long podcastId) {
+        return generatePodcast(podcastId, null);
+    }
+
+    @Override
+    @Transactional
+    public CompletableFuture<GenerationOutcome> generatePodcast(Long podcastId, String idempotencyKey) {
         log.info("Starting podcast generation for podcast id: {}", podcastId);
-        
+
+        if (idempotencyKey != null) {
+            IdempotentRequest previous = findIdempotentRequest(idempotencyKey);
+            if (previous != null) {
+                if (!previous.podcastId().equals(podcastId)) {
+                    throw new IllegalArgumentException(
+                        "Idempotency-Key was already used for a different podcast");
+                }
+                log.info("Replaying generate request for podcast {} with idempotency key {}",
+                    podcastId, idempotencyKey);
+                CompletableFuture<GenerationOutcome> resumed = inFlightGenerations.get(podcastId);
+                if (resumed != null && previous.future().getNow(null) == GenerationOutcome.PARKED) {
+                    // The parked job has been resumed since
+                    return resumed;
+                }
+                return previous.future();
+            }
+        }
+
+        // Single-flight: a second request for the same podcast attaches to the running job
+        CompletableFuture<GenerationOutcome> job = new CompletableFuture<>();
+        CompletableFuture<GenerationOutcome> running = inFlightGenerations.putIfAbsent(podcastId, job);
+        if (running != null) {
+            log.info("Generation already in progress for podcast {}, attaching to running job", podcastId);
+            rememberIdempotencyKey(idempotencyKey, podcastId, running);
+            return running;
+        }
+        rememberIdempotencyKey(idempotencyKey, podcastId, job);
+        // Subscribers from now on should only see the new run
+        progressBuffer.startRun(podcastId);
+
+        try {
+            startGeneration(podcastId).whenComplete((result, error) -> {
+                inFlightGenerations.remove(podcastId, job);
+                if (error != null && isProviderUnavailable(error)) {
+                    // Parked only once the job is no longer in flight, so a resume starts a new one
+                    generationScheduler.park(podcastId, () -> resumeGeneration(podcastId));
+                    job.complete(GenerationOutcome.PARKED);
+                } else if (error != null) {
+                    job.completeExceptionally(error);
+                } else {
+                    job.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightGenerations.remove(podcastId, job);
+            job.completeExceptionally(e);
+            throw e;
+        }
+        return job;
+    }
+
+    private CompletableFuture<GenerationOutcome> startGeneration(Long podcastId) {
         // Fetch podcast with collections eagerly before async execution
         Podcast podcast = podcastRepository.findById(podcastId)
             .orElseThrow(() -> new RuntimeException("Podcast not found"));
@@ -71,22 +158,28 @@ public class PodcastGenerationServiceImpl implements PodcastGenerationService {
         // Force initialization of all lazy collections
         podcast.getParticipants().size();
         podcast.getAudioOutputs().size();
+
+        String contentHash = computeContentHash(podcast);
+        if (isUpToDate(podcast, contentHash)) {
+            log.info("Transcript of podcast {} is unchanged since the last generation, skipping synthesis",
+                podcastId);
+            updateGenerationStatus(podcast, PodcastGenerationStatus.COMPLETED, 100,
+                "Podcast is already up to date");
+            return CompletableFuture.completedFuture(GenerationOutcome.UP_TO_DATE);
+        }
+
+        // Don't start jobs that would only burn their timeouts against an unhealthy provider
+        if (circuitBreaker.isOpen()) {
+            log.warn("ElevenLabs circuit is open, leaving podcast {} queued", podcastId);
+            updateGenerationStatus(podcast, PodcastGenerationStatus.QUEUED, 0, PROVIDER_UNAVAILABLE_MESSAGE);
+            return CompletableFuture.failedFuture(new ProviderUnavailableException(PROVIDER_UNAVAILABLE_MESSAGE));
+        }
         
-        // Set initial status without sending WebSocket update
-        podcast.setGenerationStatus(PodcastGenerationStatus.QUEUED);
-        podcast.setGenerationProgress(0);
-        podcast.setGenerationMessage("Starting podcast generation...");
-        podcastRepository.save(podcast);
+        updateGenerationStatus(podcast, PodcastGenerationStatus.QUEUED, 0,
+            "Starting podcast generation...");
         
-        return CompletableFuture.runAsync(() -> {
+        return generationScheduler.submit(podcast.getUserId(), podcastId, podcast.getLength(), () -> {
             try {
-                // Small delay to ensure WebSocket connection is established
-                Thread.sleep(1000);
-                
-                // Now send the QUEUED status via WebSocket
-                updateGenerationStatus(podcast, PodcastGenerationStatus.QUEUED, 0, 
-                    "Starting podcast generation...");
-
                 // Generate voices for participants
                 updateGenerationStatus(podcast, PodcastGenerationStatus.GENERATING_VOICES, 20, 
                     "Generating voices for participants...");
@@ -100,26 +193,172 @@ public class PodcastGenerationServiceImpl implements PodcastGenerationService {
                 // Stitch segments together
                 updateGenerationStatus(podcast, PodcastGenerationStatus.STITCHING, 80, 
                     "Combining audio segments...");
-                stitchAudioSegments(podcast);
+                stitchAudioSegments(podcast, contentHash);
 
                 // Mark as completed
                 updateGenerationStatus(podcast, PodcastGenerationStatus.COMPLETED, 100, 
                     "Podcast generation completed successfully!");
 
             } catch (Exception e) {
+                if (isProviderUnavailable(e)) {
+                    log.warn("ElevenLabs circuit opened while generating podcast {}, returning it to the queue",
+                        podcastId);
+                    updateGenerationStatus(podcastId, PodcastGenerationStatus.QUEUED, 0,
+                        PROVIDER_UNAVAILABLE_MESSAGE);
+                    throw new ProviderUnavailableException(PROVIDER_UNAVAILABLE_MESSAGE, e);
+                }
                 log.error("Error generating podcast {}: {}", podcastId, e.getMessage(), e);
                 updateGenerationStatus(podcastId, PodcastGenerationStatus.ERROR, 0, 
                     "Error generating podcast: " + e.getMessage());
                 throw new RuntimeException("Failed to generate podcast", e);
             }
-        }, executor);
+        }, position -> sendQueuePosition(podcastId, position)).thenApply(ignored -> GenerationOutcome.GENERATED);
+    }
+
+    /**
+     * Starts a parked generation again once the speech provider has recovered.
+     */
+    private void resumeGeneration(Long podcastId) {
+        log.info("Resuming parked generation of podcast {}", podcastId);
+        try {
+            new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> generatePodcast(podcastId, null));
+        } catch (Exception e) {
+            log.warn("Failed to resume generation of podcast {}: {}", podcastId, e.getMessage());
+        }
+    }
+
+    private void sendQueuePosition(Long podcastId, GenerationScheduler.QueuePosition position) {
+        GenerationStatus update = new GenerationStatus(
+            PodcastGenerationStatus.QUEUED.toString(),
+            0,
+            String.format("Waiting for a free worker, position %d in queue", position.position()),
+            null,
+            position.position(),
+            position.estimatedStartSeconds()
+        );
+        publishStatus(podcastId, update);
+    }
+
+    private JsonNode transcriptContent(Podcast podcast) {
+        Transcript transcript = podcast.getTranscript();
+        if (transcript == null) {
+            return null;
+        }
+        return transcriptMessageStore.isEnabled()
+            ? transcriptMessageStore.resolveContent(transcript)
+            : transcript.getContent();
+    }
+
+    private void publishStatus(Long podcastId, GenerationStatus update) {
+        progressEventBus.publish(podcastId, update);
+    }
+
+    /**
+     * Hash over everything that determines the generated audio: the transcript and the
+     * voice selected for each participant.
+     */
+    private String computeContentHash(Podcast podcast) {
+        StringBuilder source = new StringBuilder();
+        JsonNode transcript = transcriptContent(podcast);
+        if (transcript != null) {
+            source.append(transcript.toString());
+        }
+        podcast.getParticipants().stream()
+            .sorted(Comparator.comparing(Participant::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+            .forEach(participant -> source.append('|')
+                .append(participant.getId())
+                .append(':')
+                .append(participant.getVoicePreviewId() != null
+                    ? participant.getVoicePreviewId()
+                    : participant.getSyntheticVoiceId()));
+        // A different encoding needs a new output as well
+        encodingProfiles(podcast).forEach(profile -> source.append('|').append(profile.name()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private boolean isUpToDate(Podcast podcast, String contentHash) {
+        if (podcast.getGenerationStatus() != PodcastGenerationStatus.COMPLETED) {
+            return false;
+        }
+        // The bag has no defined order, and pooled ids are not in creation order either
+        Audio latest = podcast.latestMainAudio().orElse(null);
+        if (latest == null) {
+            return false;
+        }
+        JsonNode metrics = latest.getQualityMetrics();
+        return metrics != null
+            && contentHash.equals(metrics.path("contentHash").asText(null))
+            // Cold outputs were verified when they were moved and are restored on first playback
+            && (latest.getStorageTier() == StorageTier.COLD || audioStorage.exists(latest.getFilePath()));
+    }
+
+    /**
+     * The podcast's own or the default profile, followed by the configured renditions.
+     */
+    private List<EncodingProfile> encodingProfiles(Podcast podcast) {
+        List<EncodingProfile> profiles = new ArrayList<>();
+        profiles.add(podcast.getEncodingProfile() != null
+            ? podcast.getEncodingProfile()
+            : encodingProperties.getDefaultProfile());
+        for (EncodingProfile rendition : encodingProperties.getRenditions()) {
+            if (!profiles.contains(rendition)) {
+                profiles.add(rendition);
+            }
+        }
+        return profiles;
+    }
+
+    private IdempotentRequest findIdempotentRequest(String idempotencyKey) {
+        long now = System.currentTimeMillis();
+        idempotentRequests.values().removeIf(request -> request.expiresAt() < now);
+        return idempotentRequests.get(idempotencyKey);
+    }
+
+    private void rememberIdempotencyKey(String idempotencyKey, Long podcastId,
+            CompletableFuture<GenerationOutcome> future) {
+        if (idempotencyKey != null) {
+            idempotentRequests.putIfAbsent(idempotencyKey, new IdempotentRequest(
+                podcastId, future, System.currentTimeMillis() + idempotencyKeyTtl.toMillis()));
+        }
+    }
+
+    private record IdempotentRequest(Long podcastId, CompletableFuture<GenerationOutcome> future, long expiresAt) {
+    }
+
+    private static boolean isProviderUnavailable(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ProviderUnavailableException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Podcast getGenerationStatus(Long podcastId) {
-        return podcastRepository.findById(podcastId)
-            .orElseThrow(() -> new RuntimeException("Podcast not found"));
+    public PodcastGenerationStatusDTO getGenerationStatus(Long podcastId) {
+        // The pipeline publishes every status change, so while a run is going the latest buffered
+        // event is current. A finished run can be changed without an event (e.g. its audio deleted).
+        Optional<GenerationStatus> latest = progressBuffer.latest(podcastId)
+            .filter(status -> !GenerationProgressBuffer.isTerminal(status));
+        if (latest.isPresent()) {
+            GenerationStatus status = latest.get();
+            PodcastGenerationStatusDTO dto = new PodcastGenerationStatusDTO();
+            dto.setId(podcastId);
+            dto.setGenerationStatus(PodcastGenerationStatus.valueOf(status.getStatus()));
+            dto.setGenerationProgress(status.getProgress());
+            dto.setGenerationMessage(status.getMessage());
+            dto.setAudioUrl(status.getAudioUrl());
+            return dto;
+        }
+        return podcastRepository.findGenerationStatusById(podcastId)
+            .orElseThrow(() -> new ResourceNotFoundException("Podcast", "id", podcastId));
     }
 
     private void updateGenerationStatus(Podcast podcast, PodcastGenerationStatus status, 
@@ -135,7 +374,7 @@ public class PodcastGenerationServiceImpl implements PodcastGenerationService {
             message,
             status == PodcastGenerationStatus.COMPLETED ? podcast.getAudioUrl() : null
         );
-        webSocketHandler.sendUpdate(podcast.getId().toString(), update);
+        publishStatus(podcast.getId(), update);
     }
 
     private void updateGenerationStatus(Long podcastId, PodcastGenerationStatus status, 
@@ -147,6 +386,9 @@ public class PodcastGenerationServiceImpl implements PodcastGenerationService {
 
     @Override
     public void cancelGeneration(Long podcastId) {
+        if (generationScheduler.cancel(podcastId)) {
+            log.info("Removed queued generation of podcast {}", podcastId);
+        }
         updateGenerationStatus(podcastId, PodcastGenerationStatus.CANCELLED, 0, 
             "Generation cancelled by user");
     }
@@ -252,126 +494,143 @@ public class PodcastGenerationServiceImpl implements PodcastGenerationService {
         
         List<String> previousRequestIds = new ArrayList<>();
         ArrayList<String> segmentPaths = new ArrayList<>();  // Changed to ArrayList explicitly
-        JsonNode transcript = podcast.getTranscript().getContent();
+        JsonNode transcript = transcriptContent(podcast);
         JsonNode messages = transcript.get("messages");
 
-        // Create directory for segments
-        String segmentsDir = String.format("%s/podcasts/%d/segments", 
-            appProperties.getBasePath(), 
-            podcast.getId());
-        try {
-            Files.createDirectories(Paths.get(segmentsDir));
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create segments directory", e);
-        }
+        try (SegmentStore.Writer segmentWriter = segmentStore.openWriter(podcast.getId())) {
+            for (int i = 0; i < messages.size(); i++) {
+                JsonNode message = messages.get(i);
+                Long participantId = message.get("participantId").asLong(); // Get participantId instead of speakerName
+                String content = message.get("content").asText();          // Get content instead of text
 
-        for (int i = 0; i < messages.size(); i++) {
-            JsonNode message = messages.get(i);
-            Long participantId = message.get("participantId").asLong(); // Get participantId instead of speakerName
-            String content = message.get("content").asText();          // Get content instead of text
-            
-            // Find participant for this ID
-            Participant speaker = podcast.getParticipants().stream()
-                .filter(p -> p.getId().equals(participantId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Participant not found with ID: " + participantId));
-            
-            // Get previous and next text for better prosody
-            String previousText = i > 0 ? messages.get(i-1).get("content").asText() : null;
-            String nextText = i < messages.size()-1 ? messages.get(i+1).get("content").asText() : null;
-            
-            try {
-                JsonNode response = aiService.generateAudioSegment(
-                    content,  // Use content instead of text
-                    speaker.getSyntheticVoiceId(),
-                    previousRequestIds,
-                    previousText,
-                    nextText
-                );
-                
-                // Store request ID for next iteration
-                previousRequestIds.add(response.get("request_id").asText());
-                
-                // Save audio segment to file
-                String segmentFileName = String.format("segment_%03d.mp3", i);
-                Path segmentPath = Paths.get(segmentsDir, segmentFileName);
-                byte[] audioData = Base64.getDecoder().decode(response.get("audio_data").asText());
-                Files.write(segmentPath, audioData);
-                
-                // Store relative path
-                segmentPaths.add(String.format("podcasts/%d/segments/%s", 
-                    podcast.getId(), 
-                    segmentFileName));
-                
-                // Update progress
-                updateGenerationStatus(podcast, PodcastGenerationStatus.GENERATING_SEGMENTS,
-                    40 + (40 * i / messages.size()),
-                    String.format("Generated audio for segment %d of %d", i + 1, messages.size()));
-                
-            } catch (Exception e) {
-                log.error("Failed to generate audio for segment {}: {}", i, e.getMessage(), e);
-                throw new RuntimeException("Failed to generate audio segments", e);
+                // Find participant for this ID
+                Participant speaker = podcast.getParticipants().stream()
+                    .filter(p -> p.getId().equals(participantId))
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("Participant not found with ID: " + participantId));
+
+                // Get previous and next text for better prosody
+                String previousText = i > 0 ? messages.get(i-1).get("content").asText() : null;
+                String nextText = i < messages.size()-1 ? messages.get(i+1).get("content").asText() : null;
+
+                try {
+                    JsonNode response = aiService.generateAudioSegment(
+                        content,  // Use content instead of text
+                        speaker.getSyntheticVoiceId(),
+                        previousRequestIds,
+                        previousText,
+                        nextText
+                    );
+
+                    // Store request ID for next iteration
+                    previousRequestIds.add(response.get("request_id").asText());
+
+                    // Save audio segment and keep its reference
+                    byte[] audioData = Base64.getDecoder().decode(response.get("audio_data").asText());
+                    segmentPaths.add(segmentWriter.append(audioData));
+
+                    // Update progress
+                    updateGenerationStatus(podcast, PodcastGenerationStatus.GENERATING_SEGMENTS,
+                        40 + (40 * i / messages.size()),
+                        String.format("Generated audio for segment %d of %d", i + 1, messages.size()));
+
+                } catch (Exception e) {
+                    log.error("Failed to generate audio for segment {}: {}", i, e.getMessage(), e);
+                    throw new RuntimeException("Failed to generate audio segments", e);
+                }
             }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store audio segments", e);
         }
-        
+
         // Store the segment paths in order
         podcast.setAudioSegmentPaths(new ArrayList<>(segmentPaths));  // Ensure we're using ArrayList
         podcastRepository.save(podcast);
     }
 
-    private void stitchAudioSegments(Podcast podcast) {
+    private void stitchAudioSegments(Podcast podcast, String contentHash) {
         log.info("Starting audio segment stitching for podcast {}", podcast.getId());
         
+        Path spoolDir = null;
         try {
-            // Create directory for final output
-            String outputDir = String.format("%s/podcasts/%d/output", 
-                appProperties.getBasePath(), 
-                podcast.getId());
-            Files.createDirectories(Paths.get(outputDir));
-            
-            // Generate unique filename
-            String outputFileName = String.format("podcast_%d_%s.mp3", 
-                podcast.getId(),
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")));
-            Path outputPath = Paths.get(outputDir, outputFileName);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
             
-            // Collect all segment paths
-            List<Path> segmentPaths = podcast.getAudioSegmentPaths().stream()
-                .map(segmentPath -> Paths.get(appProperties.getBasePath(), segmentPath))
-                .collect(Collectors.toList());
+            // Segment files are read in place; only segments inside a pack are copied out
+            spoolDir = Files.createTempDirectory("podcast-segments-");
+            List<Path> segments = new ArrayList<>();
+            for (String segmentRef : podcast.getAudioSegmentPaths()) {
+                segments.add(segmentStore.toFile(segmentRef, spoolDir));
+            }
             
             // Update status
             updateGenerationStatus(podcast, PodcastGenerationStatus.STITCHING, 80,
                 "Stitching audio segments...");
                 
-            // Perform the stitching
-            byte[] stitchedAudio = AudioUtils.concatenateMP3Files(segmentPaths);
-            
-            // Write the final file
-            Files.write(outputPath, stitchedAudio);
+            // Perform the stitching: one decode and concatenation, then every profile encoded in parallel
+            List<EncodingProfile> profiles = encodingProfiles(podcast);
+            List<AudioUtils.EncodedAudio> encoded = AudioUtils.concatenateMP3Files(segments,
+                profiles.stream().map(EncodingProfile::getFormat).toList(), null);
             
-            // Create new Audio entity
-            Audio audio = new Audio();
-            audio.setFilename(outputFileName);
-            audio.setFormat("mp3");
-            audio.setPodcast(podcast);
-            audio.setFilePath(String.format("podcasts/%d/output/%s", podcast.getId(), outputFileName));
-            audio.setFileSize((long) stitchedAudio.length);
-            audio.setCreatedAt(LocalDateTime.now());
-            audio.setUpdatedAt(LocalDateTime.now());
+            // The main audio lists every encoding of the run, for comparing profiles
+            ArrayNode encodings = new ObjectMapper().createArrayNode();
+            for (int i = 0; i < profiles.size(); i++) {
+                encodings.addObject()
+                    .put("encodingProfile", profiles.get(i).name())
+                    .put("totalSize", encoded.get(i).data().length)
+                    .put("encodeMillis", encoded.get(i).encodeMillis());
+            }
             
-            // Add quality metrics
-            ObjectNode metrics = new ObjectMapper().createObjectNode();
-            metrics.put("segmentCount", segmentPaths.size());
-            metrics.put("totalSize", stitchedAudio.length);
-            metrics.put("format", "mp3");
-            audio.setQualityMetrics(metrics);
+            List<Audio> outputs = new ArrayList<>();
+            for (int i = 0; i < profiles.size(); i++) {
+                EncodingProfile profile = profiles.get(i);
+                AudioUtils.EncodedAudio result = encoded.get(i);
+                boolean rendition = i > 0;
+                
+                // Generate unique filename; renditions carry their profile in the name
+                String extension = profile.getFormat().getFileExtension();
+                String outputFileName = rendition
+                    ? String.format("podcast_%d_%s_%s.%s", podcast.getId(), timestamp,
+                        profile.name().toLowerCase(), extension)
+                    : String.format("podcast_%d_%s.%s", podcast.getId(), timestamp, extension);
+                String outputKey = String.format("podcasts/%d/output/%s", podcast.getId(), outputFileName);
+                
+                // Store the final file
+                audioStorage.put(outputKey, new ByteArrayInputStream(result.data()), result.data().length);
+                
+                // Create new Audio entity
+                Audio audio = new Audio();
+                audio.setFilename(outputFileName);
+                audio.setFormat(extension);
+                audio.setPodcast(podcast);
+                audio.setFilePath(outputKey);
+                audio.setFileSize((long) result.data().length);
+                audio.setEncodingProfile(profile);
+                audio.setRendition(rendition);
+                audio.setCreatedAt(LocalDateTime.now());
+                audio.setUpdatedAt(LocalDateTime.now());
+                
+                // Add quality metrics
+                ObjectNode metrics = new ObjectMapper().createObjectNode();
+                metrics.put("segmentCount", segments.size());
+                metrics.put("totalSize", result.data().length);
+                metrics.put("format", extension);
+                metrics.put("contentHash", contentHash);
+                metrics.put("encodingProfile", profile.name());
+                metrics.put("bitRate", profile.getFormat().getBitRate());
+                metrics.put("channels", profile.getFormat().getChannels());
+                metrics.put("encodeMillis", result.encodeMillis());
+                if (!rendition) {
+                    metrics.set("encodings", encodings);
+                }
+                audio.setQualityMetrics(metrics);
+                outputs.add(audio);
+            }
             
             // Add to podcast's audio outputs
             if (podcast.getAudioOutputs() == null) {
                 podcast.setAudioOutputs(new ArrayList<>());
             }
-            podcast.getAudioOutputs().add(audio);
+            podcast.getAudioOutputs().addAll(outputs);
             
             // Save podcast
             podcastRepository.save(podcast);
@@ -386,6 +645,14 @@ public class PodcastGenerationServiceImpl implements PodcastGenerationService {
             updateGenerationStatus(podcast, PodcastGenerationStatus.ERROR, 0,
                 "Failed to stitch audio segments: " + e.getMessage());
             throw new RuntimeException("Failed to stitch audio segments", e);
+        } finally {
+            if (spoolDir != null) {
+                try {
+                    FileSystemUtils.deleteRecursively(spoolDir);
+                } catch (IOException e) {
+                    log.warn("Failed to delete spooled segments in {}: {}", spoolDir, e.getMessage());
+                }
+            }
         }
     }
 
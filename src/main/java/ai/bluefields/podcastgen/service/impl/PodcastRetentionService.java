@@ -0,0 +1,192 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.RetentionProperties;
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
+import ai.bluefields.podcastgen.model.PodcastStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deletes podcasts matched by the {@link RetentionProperties} rules on a schedule. Rows
+ * are removed with set-based deletes, one chunk of podcasts per transaction, and each
+ * cycle stops starting chunks once its time budget is used up; the rest is picked up by
+ * the next cycle. The podcast directories are removed after each chunk commits.
+ */
+@Component
+public class PodcastRetentionService {
+    private static final Logger log = LoggerFactory.getLogger(PodcastRetentionService.class);
+
+    private static final List<String> ACTIVE_GENERATION_STATUSES = List.of(
+        PodcastGenerationStatus.QUEUED.name(),
+        PodcastGenerationStatus.GENERATING_VOICES.name(),
+        PodcastGenerationStatus.GENERATING_SEGMENTS.name(),
+        PodcastGenerationStatus.STITCHING.name());
+
+    // Children first: the foreign keys added in V10 do not cascade
+    static final List<String> DELETE_SQL = List.of(
+        "DELETE FROM transcript_messages WHERE transcript_id IN "
+            + "(SELECT id FROM transcripts WHERE podcast_id = ANY(?))",
+        "DELETE FROM podcast_audio_segments WHERE podcast_id = ANY(?)",
+        "DELETE FROM audios WHERE podcast_id = ANY(?)",
+        "DELETE FROM participants WHERE podcast_id = ANY(?)",
+        "DELETE FROM transcripts WHERE podcast_id = ANY(?)",
+        "DELETE FROM contexts WHERE podcast_id = ANY(?)",
+        "DELETE FROM podcasts WHERE id = ANY(?)");
+
+    public record Result(int podcastsDeleted, int chunks, boolean budgetExhausted) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionProperties properties;
+    private final OrphanFileReconciler orphanFileReconciler;
+    private final GenerationProgressBuffer progressBuffer;
+    private final Counter deletedPodcasts;
+
+    public PodcastRetentionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            RetentionProperties properties,
+            OrphanFileReconciler orphanFileReconciler,
+            GenerationProgressBuffer progressBuffer,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.orphanFileReconciler = orphanFileReconciler;
+        this.progressBuffer = progressBuffer;
+        this.deletedPodcasts = Counter.builder("app.retention.deleted.podcasts")
+            .description("Podcasts deleted by the retention rules")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.retention.interval:PT6H}",
+        initialDelayString = "${app.retention.initial-delay:PT10M}")
+    public void scheduledPurge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            purge();
+        } catch (Exception e) {
+            log.error("Podcast retention cycle failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs one retention cycle: deletes chunks of matching podcasts until none are left
+     * or the time budget is used up. At least one chunk is always attempted.
+     */
+    public Result purge() {
+        CandidateQuery query = candidateQuery(LocalDateTime.now());
+        if (query == null) {
+            log.debug("No retention rules enabled");
+            return new Result(0, 0, false);
+        }
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+        int deleted = 0;
+        int chunks = 0;
+        boolean more;
+        do {
+            List<Long> ids = transactionTemplate.execute(status -> deleteChunk(query, chunkSize));
+            if (ids == null || ids.isEmpty()) {
+                more = false;
+                break;
+            }
+            deleted += ids.size();
+            chunks++;
+            deletedPodcasts.increment(ids.size());
+            more = ids.size() == chunkSize;
+        } while (more && System.nanoTime() < deadline);
+
+        if (deleted > 0) {
+            log.info("Retention deleted {} podcasts in {} chunks{}", deleted, chunks,
+                more ? ", stopping at the time budget" : "");
+        }
+        return new Result(deleted, chunks, more);
+    }
+
+    private List<Long> deleteChunk(CandidateQuery query, int chunkSize) {
+        List<Object> args = new ArrayList<>(query.args());
+        args.add(chunkSize);
+        List<Long> ids = jdbcTemplate.queryForList(query.sql(), Long.class, args.toArray());
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        Long[] idArray = ids.toArray(new Long[0]);
+        for (String sql : DELETE_SQL) {
+            jdbcTemplate.update(sql, (Object) idArray);
+        }
+        // Voice preview files of the deleted participants are left to the orphan file reconciler
+        for (Long id : ids) {
+            orphanFileReconciler.deleteAfterCommit("podcasts/" + id);
+            progressBuffer.clear(id);
+        }
+        return ids;
+    }
+
+    record CandidateQuery(String sql, List<Object> args) {
+    }
+
+    /**
+     * Builds the query selecting the next chunk of podcasts to delete from the enabled
+     * rules, or returns {@code null} when no rule is enabled. Rows are locked so that
+     * concurrent cycles on other nodes skip them.
+     */
+    CandidateQuery candidateQuery(LocalDateTime now) {
+        List<String> rules = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        args.add(PodcastStatus.PROCESSING.name());
+        args.add(ACTIVE_GENERATION_STATUSES.toArray(new String[0]));
+
+        if (isPositive(properties.getMaxAge())) {
+            rules.add("created_at < ?");
+            args.add(Timestamp.valueOf(now.minus(properties.getMaxAge())));
+        }
+        if (isPositive(properties.getFailedMaxAge())) {
+            rules.add("((status = ? OR generation_status = ANY(?)) AND created_at < ?)");
+            args.add(PodcastStatus.ERROR.name());
+            args.add(properties.getFailedGenerationStatuses().stream().map(Enum::name).toArray(String[]::new));
+            args.add(Timestamp.valueOf(now.minus(properties.getFailedMaxAge())));
+        }
+        if (properties.getMaxPodcastsPerUser() > 0) {
+            rules.add("""
+                id IN (SELECT id FROM (
+                    SELECT id, row_number() OVER (PARTITION BY user_id ORDER BY created_at DESC, id DESC) AS position
+                    FROM podcasts) ranked
+                  WHERE position > ?)""");
+            args.add(properties.getMaxPodcastsPerUser());
+        }
+        if (rules.isEmpty()) {
+            return null;
+        }
+        String sql = """
+            SELECT id FROM podcasts
+            WHERE status IS DISTINCT FROM ?
+              AND (generation_status IS NULL OR generation_status <> ALL(?))
+              AND (%s)
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """.formatted(String.join(" OR ", rules));
+        return new CandidateQuery(sql, args);
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+}
@@ -1,5 +1,7 @@
 package ai.bluefields.podcastgen.service.impl;
 
+import ai.bluefields.podcastgen.dto.KeysetPageDTO;
+import ai.bluefields.podcastgen.dto.PodcastDTO;
 import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
 import ai.bluefields.podcastgen.model.Context;
 import ai.bluefields.podcastgen.model.Podcast;
@@ -13,10 +15,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -25,8 +33,11 @@ import java.util.Optional;
 public class PodcastServiceImpl implements PodcastService {
     
     private static final Logger log = LoggerFactory.getLogger(PodcastServiceImpl.class);
+    private static final int MAX_KEYSET_PAGE_SIZE = 100;
     private final PodcastRepository podcastRepository;
     private final AIService aiService;
+    private final OrphanFileReconciler orphanFileReconciler;
+    private final GenerationProgressBuffer progressBuffer;
 
     @Override
     @Transactional(readOnly = true)
@@ -46,6 +57,76 @@ public class PodcastServiceImpl implements PodcastService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PodcastDTO> getPodcastSummaries(String userId, Pageable pageable) {
+        log.info("Fetching podcast summaries for user {} with pagination", userId);
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        try {
+            return podcastRepository.findSummariesByUserId(userId, pageable);
+        } catch (DataAccessException e) {
+            log.error("Database error while fetching podcast summaries for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch podcasts", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<PodcastDTO> getPodcastSummariesAfter(String userId, String cursor, int size) {
+        log.info("Fetching podcast summaries for user {} after cursor {}", userId, cursor);
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (size < 1 || size > MAX_KEYSET_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_KEYSET_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to know whether another page follows
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PodcastDTO> rows;
+        try {
+            if (cursor == null || cursor.isBlank()) {
+                rows = podcastRepository.findLatestSummariesByUserId(userId, limit);
+            } else {
+                PodcastDTO position = decodeCursor(cursor);
+                rows = podcastRepository.findSummariesByUserIdAfter(
+                    userId, position.getCreatedAt(), position.getId(), limit);
+            }
+        } catch (DataAccessException e) {
+            log.error("Database error while fetching podcast summaries for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch podcasts", e);
+        }
+
+        KeysetPageDTO<PodcastDTO> page = new KeysetPageDTO<>();
+        page.setHasMore(rows.size() > size);
+        page.setContent(page.isHasMore() ? new ArrayList<>(rows.subList(0, size)) : rows);
+        page.setSize(page.getContent().size());
+        if (page.isHasMore()) {
+            page.setNextCursor(encodeCursor(page.getContent().get(size - 1)));
+        }
+        return page;
+    }
+
+    private static String encodeCursor(PodcastDTO last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PodcastDTO decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+            PodcastDTO dto = new PodcastDTO();
+            dto.setCreatedAt(LocalDateTime.parse(position.substring(0, separator)));
+            dto.setId(Long.valueOf(position.substring(separator + 1)));
+            return dto;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Podcast> getPodcastById(Long id) {
@@ -115,6 +196,9 @@ public class PodcastServiceImpl implements PodcastService {
                 throw new ResourceNotFoundException("Podcast", "id", id);
             }
             podcastRepository.deleteById(id);
+            // Segments and outputs live below podcasts/{id}; remove them once the rows are gone
+            orphanFileReconciler.deleteAfterCommit("podcasts/" + id);
+            progressBuffer.clear(id);
             log.info("Successfully deleted podcast with id: {}", id);
         } catch (DataAccessException e) {
             log.error("Database error while deleting podcast {}: {}", id, e.getMessage(), e);
@@ -141,6 +225,7 @@ public class PodcastServiceImpl implements PodcastService {
         existing.setIcon(updated.getIcon());
         existing.setLength(updated.getLength());
         existing.setStatus(updated.getStatus());
+        existing.setEncodingProfile(updated.getEncodingProfile());
         // Don't update userId as it should remain the same
     }
 
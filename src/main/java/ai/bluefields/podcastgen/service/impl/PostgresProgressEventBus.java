@@ -0,0 +1,171 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.GenerationStatus;
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Progress event bus for multi-node deployments, relaying events between nodes with
+ * PostgreSQL LISTEN/NOTIFY. Local listeners are notified immediately; other nodes get
+ * at most one event per podcast per coalescing window, except for terminal states
+ * which are sent straight away. One pooled connection is held for listening.
+ */
+@Component
+@ConditionalOnProperty(name = "app.progress.bus", havingValue = "postgres")
+public class PostgresProgressEventBus extends InProcessProgressEventBus implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(PostgresProgressEventBus.class);
+
+    private static final String CHANNEL = "generation_progress";
+    private static final Set<String> TERMINAL_STATES = Set.of(
+        PodcastGenerationStatus.COMPLETED.toString(),
+        PodcastGenerationStatus.ERROR.toString(),
+        PodcastGenerationStatus.CANCELLED.toString());
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<Long, GenerationStatus> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+    private final Thread listenerThread;
+    private volatile boolean running = true;
+
+    public PostgresProgressEventBus(
+            GenerationProgressBuffer progressBuffer,
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.progress.coalesce-window:250ms}") Duration coalesceWindow) {
+        super(progressBuffer);
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+
+        long windowMillis = Math.max(10, coalesceWindow.toMillis());
+        flusher.scheduleWithFixedDelay(this::flushPending, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        listenerThread = new Thread(this::listen, "progress-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void publish(Long podcastId, GenerationStatus status) {
+        deliver(podcastId, status);
+        if (TERMINAL_STATES.contains(status.getStatus())) {
+            pending.remove(podcastId);
+            notifyNodes(podcastId, status);
+        } else {
+            pending.put(podcastId, status);
+        }
+    }
+
+    private void flushPending() {
+        for (Long podcastId : pending.keySet()) {
+            GenerationStatus status = pending.remove(podcastId);
+            if (status != null) {
+                notifyNodes(podcastId, status);
+            }
+        }
+    }
+
+    private void notifyNodes(Long podcastId, GenerationStatus status) {
+        try {
+            ObjectNode payload = objectMapper.createObjectNode();
+            payload.put("node", nodeId);
+            payload.put("podcastId", podcastId);
+            payload.set("status", objectMapper.valueToTree(status));
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                CHANNEL, objectMapper.writeValueAsString(payload));
+        } catch (Exception e) {
+            log.warn("Failed to relay progress of podcast {} to other nodes: {}", podcastId, e.getMessage());
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for generation progress on channel {}", CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handleNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Progress listener connection failed, reconnecting in {}ms: {}",
+                    RECONNECT_DELAY_MILLIS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handleNotification(String payload) {
+        try {
+            JsonNode event = objectMapper.readTree(payload);
+            if (nodeId.equals(event.path("node").asText())) {
+                return;
+            }
+            Long podcastId = event.get("podcastId").asLong();
+            GenerationStatus status = objectMapper.treeToValue(event.get("status"), GenerationStatus.class);
+
+            // A flushed update can race a terminal state, never move backwards
+            Optional<GenerationStatus> latest = progressBuffer.latest(podcastId);
+            if (latest.isPresent() && status.getEventId() != null
+                    && latest.get().getEventId() >= status.getEventId()) {
+                return;
+            }
+            deliver(podcastId, status);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed progress notification: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        flusher.shutdown();
+        flushPending();
+        listenerThread.interrupt();
+    }
+}
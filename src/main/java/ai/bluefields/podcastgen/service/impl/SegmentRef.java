@@ -0,0 +1,57 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Location of a stored audio segment. A plain reference is a file path relative to the
+ * uploads base path and covers the whole file; a pack reference
+ * ({@code pack:<file>#<offset>+<length>}) addresses a byte range inside a pack file.
+ *
+ * @param file   file holding the segment, relative to the uploads base path
+ * @param offset start of the segment within the file
+ * @param length length of the segment, or -1 for the rest of the file
+ */
+record SegmentRef(String file, long offset, long length) {
+    private static final String PACK_PREFIX = "pack:";
+
+    static SegmentRef parse(String segmentRef) {
+        if (!segmentRef.startsWith(PACK_PREFIX)) {
+            return new SegmentRef(segmentRef, 0, -1);
+        }
+        int hash = segmentRef.lastIndexOf('#');
+        int plus = segmentRef.lastIndexOf('+');
+        if (hash < 0 || plus < hash) {
+            throw new IllegalArgumentException("Malformed segment reference: " + segmentRef);
+        }
+        try {
+            return new SegmentRef(segmentRef.substring(PACK_PREFIX.length(), hash),
+                Long.parseLong(segmentRef.substring(hash + 1, plus)),
+                Long.parseLong(segmentRef.substring(plus + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed segment reference: " + segmentRef, e);
+        }
+    }
+
+    boolean isPacked() {
+        return length >= 0;
+    }
+
+    /**
+     * Maps the segment's bytes read-only. The mapping stays valid after the file is closed.
+     */
+    MappedByteBuffer map(Path basePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(basePath.resolve(file), StandardOpenOption.READ)) {
+            long size = isPacked() ? length : channel.size() - offset;
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isPacked() ? PACK_PREFIX + file + "#" + offset + "+" + length : file;
+    }
+}
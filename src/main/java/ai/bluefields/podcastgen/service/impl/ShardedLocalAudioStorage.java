@@ -0,0 +1,221 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.config.AudioStorageProperties;
+import ai.bluefields.podcastgen.service.AudioStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Stores audio on one or more local volumes. A file lives at
+ * {@code <root>/shards/<xx>/<key>}, where {@code xx} is derived from a hash of the key's
+ * first two path segments ({@code podcasts/42}), so a podcast's files share a shard and no
+ * single directory collects every podcast. New files go to the first configured root that
+ * keeps its minimum free space after the write; list a faster disk first to keep fresh
+ * audio on it.
+ * <p>
+ * Files written before sharding existed are still found under the uploads base path.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.audio.type", havingValue = "local", matchIfMissing = true)
+public class ShardedLocalAudioStorage implements AudioStorage {
+    private static final Logger log = LoggerFactory.getLogger(ShardedLocalAudioStorage.class);
+
+    private static final String SHARDS_DIR = "shards";
+    private static final String TEMP_PREFIX = ".upload-";
+
+    private final List<Path> roots;
+    private final Path legacyRoot;
+    private final long minFreeBytes;
+
+    public ShardedLocalAudioStorage(AppProperties appProperties, AudioStorageProperties properties) {
+        List<String> configured = properties.getRoots().isEmpty()
+            ? List.of(appProperties.getBasePath())
+            : properties.getRoots();
+        this.roots = configured.stream()
+            .map(root -> Paths.get(root).toAbsolutePath().normalize().resolve(SHARDS_DIR))
+            .toList();
+        this.legacyRoot = Paths.get(appProperties.getBasePath()).toAbsolutePath().normalize();
+        this.minFreeBytes = properties.getMinFreeSpace().toBytes();
+    }
+
+    @Override
+    public void put(String key, InputStream data, long size) throws IOException {
+        validateKey(key);
+        Path target = placementRoot(size).resolve(shard(key)).resolve(key);
+        Files.createDirectories(target.getParent());
+        // Write next to the target and move it in place, so readers never see a partial file
+        Path temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, ".tmp");
+        try {
+            Files.copy(data, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        // Copies on other volumes would shadow or outlive the new file
+        for (Path location : locations(key)) {
+            if (!location.equals(target)) {
+                Files.deleteIfExists(location);
+            }
+        }
+        log.debug("Stored audio {} at {}", key, target);
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) throws IOException {
+        Optional<Path> file = locate(key);
+        return file.isPresent() ? Optional.of(Files.readAllBytes(file.get())) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Resource> stream(String key) {
+        return locate(key).map(FileSystemResource::new);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return locate(key).isPresent();
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        boolean deleted = false;
+        for (Path location : locations(key)) {
+            deleted |= Files.deleteIfExists(location);
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<Entry> list(String prefix) throws IOException {
+        validatePath(prefix);
+        // Same precedence as reads: configured roots in order, then the legacy location
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        String owner = owner(prefix);
+        for (Path root : roots) {
+            if (owner != null) {
+                collect(root.resolve(shardOf(owner)), prefix, entries);
+            } else if (Files.isDirectory(root)) {
+                try (Stream<Path> shards = Files.list(root)) {
+                    for (Path shard : shards.toList()) {
+                        collect(shard, prefix, entries);
+                    }
+                }
+            }
+        }
+        collect(legacyRoot, prefix, entries);
+        return new ArrayList<>(entries.values());
+    }
+
+    private Optional<Path> locate(String key) {
+        return locations(key).stream().filter(Files::isRegularFile).findFirst();
+    }
+
+    private List<Path> locations(String key) {
+        validateKey(key);
+        List<Path> locations = new ArrayList<>(roots.size() + 1);
+        for (Path root : roots) {
+            locations.add(root.resolve(shard(key)).resolve(key));
+        }
+        locations.add(legacyRoot.resolve(key));
+        return locations;
+    }
+
+    private Path placementRoot(long size) throws IOException {
+        for (Path root : roots) {
+            Files.createDirectories(root);
+            long usable = Files.getFileStore(root).getUsableSpace();
+            if (usable - size >= minFreeBytes) {
+                return root;
+            }
+            log.debug("Skipping audio root {}: {} bytes usable", root, usable);
+        }
+        throw new IOException("No audio storage root has room for " + size + " more bytes");
+    }
+
+    private void collect(Path keyRoot, String prefix, Map<String, Entry> entries) throws IOException {
+        Path start = keyRoot.resolve(prefix.substring(0, prefix.lastIndexOf('/') + 1));
+        if (!Files.isDirectory(start)) {
+            return;
+        }
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                // A root can sit inside the legacy location, don't list its files twice
+                return roots.contains(dir) && !dir.equals(start)
+                    ? FileVisitResult.SKIP_SUBTREE
+                    : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && !file.getFileName().toString().startsWith(TEMP_PREFIX)) {
+                    String key = keyRoot.relativize(file).toString().replace('\\', '/');
+                    if (key.startsWith(prefix)) {
+                        entries.putIfAbsent(key,
+                            new Entry(key, attrs.size(), attrs.lastModifiedTime().toInstant()));
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    static String shard(String key) {
+        String owner = owner(key);
+        return shardOf(owner != null ? owner : key);
+    }
+
+    private static String shardOf(String owner) {
+        CRC32 crc = new CRC32();
+        crc.update(owner.getBytes(StandardCharsets.UTF_8));
+        return String.format("%02x", crc.getValue() & 0xff);
+    }
+
+    /**
+     * The first two path segments of a key or prefix, or {@code null} when it has fewer
+     * complete segments.
+     */
+    private static String owner(String path) {
+        int first = path.indexOf('/');
+        int second = first < 0 ? -1 : path.indexOf('/', first + 1);
+        return second < 0 ? null : path.substring(0, second);
+    }
+
+    private static void validateKey(String key) {
+        validatePath(key);
+        if (key.isEmpty() || key.endsWith("/")) {
+            throw new IllegalArgumentException("Invalid audio key: " + key);
+        }
+    }
+
+    private static void validatePath(String path) {
+        if (path == null || path.startsWith("/") || path.contains("\\")
+                || Arrays.asList(path.split("/")).contains("..")) {
+            throw new IllegalArgumentException("Invalid audio key: " + path);
+        }
+    }
+}
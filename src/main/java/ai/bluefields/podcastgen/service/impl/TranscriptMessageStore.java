@@ -0,0 +1,248 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.Transcript;
+import ai.bluefields.podcastgen.model.TranscriptMessage;
+import ai.bluefields.podcastgen.repository.TranscriptMessageRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Optional normalized storage for transcript messages. When enabled, the messages of a
+ * transcript live as rows in {@code transcript_messages} and {@code transcripts.content}
+ * only keeps the remaining document, so editing one message updates one row instead of
+ * rewriting the whole jsonb value. Reads assemble the original JSON shape again.
+ * <p>
+ * A stored document that still contains a {@code messages} array (written before the
+ * feature was enabled, or while it was disabled) is authoritative and is moved into
+ * rows on its next write.
+ */
+@Component
+public class TranscriptMessageStore {
+    private static final Logger log = LoggerFactory.getLogger(TranscriptMessageStore.class);
+
+    static final String MESSAGES = "messages";
+
+    private static final String INSERT_SQL = """
+        INSERT INTO transcript_messages (transcript_id, ordinal, participant_id, content, content_hash, timing)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+    private static final String UPDATE_SQL = """
+        UPDATE transcript_messages SET participant_id = ?, content = ?, content_hash = ?, timing = ?
+        WHERE transcript_id = ? AND ordinal = ?
+        """;
+    // Read through JDBC so no managed entities go stale when the rows are updated below
+    private static final String SELECT_STATE_SQL = """
+        SELECT ordinal, participant_id, content_hash, timing FROM transcript_messages
+        WHERE transcript_id = ? ORDER BY ordinal
+        """;
+    private static final String DELETE_TAIL_SQL =
+        "DELETE FROM transcript_messages WHERE transcript_id = ? AND ordinal >= ?";
+    private static final int[] INSERT_TYPES =
+        {Types.BIGINT, Types.INTEGER, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER};
+    private static final int[] UPDATE_TYPES =
+        {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.BIGINT, Types.INTEGER};
+
+    private final TranscriptMessageRepository messageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public TranscriptMessageStore(
+            TranscriptMessageRepository messageRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.transcript.normalized-storage:false}") boolean enabled) {
+        this.messageRepository = messageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the transcript content in its JSON API shape, with the messages read from
+     * their rows when they are stored normalized.
+     */
+    public JsonNode resolveContent(Transcript transcript) {
+        JsonNode content = transcript.getContent();
+        if (!enabled || transcript.getId() == null || !(content instanceof ObjectNode) || content.has(MESSAGES)) {
+            return content;
+        }
+        ObjectNode assembled = ((ObjectNode) content).deepCopy();
+        ArrayNode messages = assembled.putArray(MESSAGES);
+        for (TranscriptMessage row : messageRepository.findByTranscriptIdOrderByOrdinalAsc(transcript.getId())) {
+            ObjectNode message = messages.addObject();
+            if (row.getParticipantId() != null) {
+                message.put("participantId", row.getParticipantId());
+            }
+            message.put("content", row.getContent());
+            if (row.getTiming() != null) {
+                message.put("timing", row.getTiming());
+            }
+        }
+        return assembled;
+    }
+
+    /**
+     * Returns a detached copy of the transcript carrying the assembled content, so the
+     * managed entity is never marked dirty by a read.
+     */
+    public Transcript view(Transcript transcript) {
+        JsonNode content = resolveContent(transcript);
+        if (content == transcript.getContent()) {
+            return transcript;
+        }
+        Transcript view = new Transcript();
+        view.setId(transcript.getId());
+        view.setPodcast(transcript.getPodcast());
+        view.setLastEdited(transcript.getLastEdited());
+        view.setVersion(transcript.getVersion());
+        view.setContent(content);
+        return view;
+    }
+
+    /**
+     * Sets the given content (in its JSON API shape) on a managed transcript. With
+     * normalized storage only edited messages are written and the jsonb document is left
+     * alone unless something outside the messages changed.
+     */
+    public void applyContent(Transcript transcript, JsonNode content) {
+        if (!enabled) {
+            transcript.setContent(content);
+            return;
+        }
+        transcript.setContent(withoutMessages(content));
+        JsonNode messages = content != null ? content.get(MESSAGES) : null;
+        if (syncMessages(transcript.getId(), messages)) {
+            transcript.setLastEdited(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Returns the document to keep in {@code transcripts.content}: the given content
+     * without its messages.
+     */
+    public JsonNode withoutMessages(JsonNode content) {
+        if (!(content instanceof ObjectNode) || !content.has(MESSAGES)) {
+            return content;
+        }
+        ObjectNode document = ((ObjectNode) content).deepCopy();
+        document.remove(MESSAGES);
+        return document;
+    }
+
+    /**
+     * Brings the rows of a transcript in line with the given messages array: new messages
+     * are batch inserted, edited ones updated in place and surplus rows deleted.
+     *
+     * @return whether any row changed
+     */
+    public boolean syncMessages(Long transcriptId, JsonNode messages) {
+        List<TranscriptMessage> desired = toRows(transcriptId, messages);
+        List<TranscriptMessage> existing = jdbcTemplate.query(SELECT_STATE_SQL, (rs, rowNum) -> {
+            TranscriptMessage row = new TranscriptMessage();
+            row.setOrdinal(rs.getInt("ordinal"));
+            row.setParticipantId(rs.getObject("participant_id", Long.class));
+            row.setContentHash(rs.getString("content_hash"));
+            row.setTiming(rs.getObject("timing", Integer.class));
+            return row;
+        }, transcriptId);
+        SyncPlan plan = plan(existing, desired);
+        if (plan.isEmpty()) {
+            return false;
+        }
+
+        if (!plan.updates().isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, plan.updates().stream()
+                .map(m -> new Object[]{m.getParticipantId(), m.getContent(), m.getContentHash(), m.getTiming(),
+                    transcriptId, m.getOrdinal()})
+                .toList(), UPDATE_TYPES);
+        }
+        if (plan.deleteFromOrdinal() >= 0) {
+            jdbcTemplate.update(DELETE_TAIL_SQL, transcriptId, plan.deleteFromOrdinal());
+        }
+        if (!plan.inserts().isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, plan.inserts().stream()
+                .map(m -> new Object[]{transcriptId, m.getOrdinal(), m.getParticipantId(), m.getContent(),
+                    m.getContentHash(), m.getTiming()})
+                .toList(), INSERT_TYPES);
+        }
+        log.debug("Synced messages of transcript {}: {} inserted, {} updated, tail deleted from {}",
+            transcriptId, plan.inserts().size(), plan.updates().size(), plan.deleteFromOrdinal());
+        return true;
+    }
+
+    /**
+     * Compares stored and desired messages by ordinal. Unchanged messages (same content
+     * hash, participant and timing) are left untouched.
+     */
+    static SyncPlan plan(List<TranscriptMessage> existing, List<TranscriptMessage> desired) {
+        List<TranscriptMessage> inserts = new ArrayList<>();
+        List<TranscriptMessage> updates = new ArrayList<>();
+        for (int i = 0; i < desired.size(); i++) {
+            TranscriptMessage message = desired.get(i);
+            if (i >= existing.size()) {
+                inserts.add(message);
+            } else if (isChanged(existing.get(i), message)) {
+                updates.add(message);
+            }
+        }
+        int deleteFromOrdinal = existing.size() > desired.size() ? desired.size() : -1;
+        return new SyncPlan(inserts, updates, deleteFromOrdinal);
+    }
+
+    private static boolean isChanged(TranscriptMessage stored, TranscriptMessage message) {
+        return !Objects.equals(stored.getContentHash(), message.getContentHash())
+            || !Objects.equals(stored.getParticipantId(), message.getParticipantId())
+            || !Objects.equals(stored.getTiming(), message.getTiming());
+    }
+
+    private List<TranscriptMessage> toRows(Long transcriptId, JsonNode messages) {
+        List<TranscriptMessage> rows = new ArrayList<>();
+        if (messages == null || !messages.isArray()) {
+            return rows;
+        }
+        for (JsonNode node : messages) {
+            TranscriptMessage row = new TranscriptMessage();
+            row.setTranscriptId(transcriptId);
+            row.setOrdinal(rows.size());
+            row.setParticipantId(node.hasNonNull("participantId") ? node.get("participantId").asLong() : null);
+            row.setContent(node.path("content").asText(""));
+            row.setContentHash(hash(row.getContent()));
+            row.setTiming(node.hasNonNull("timing") ? node.get("timing").asInt() : null);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    record SyncPlan(List<TranscriptMessage> inserts, List<TranscriptMessage> updates, int deleteFromOrdinal) {
+        boolean isEmpty() {
+            return inserts.isEmpty() && updates.isEmpty() && deleteFromOrdinal < 0;
+        }
+    }
+}
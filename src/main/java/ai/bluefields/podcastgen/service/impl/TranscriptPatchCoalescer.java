@@ -0,0 +1,273 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
+import ai.bluefields.podcastgen.exception.VersionConflictException;
+import ai.bluefields.podcastgen.model.Transcript;
+import ai.bluefields.podcastgen.repository.TranscriptRepository;
+import ai.bluefields.podcastgen.util.JsonPatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies JSON Patch edits to transcripts and coalesces rapid successive patches into a
+ * single database write. The first patch loads the transcript; later patches within the
+ * window are applied to the pending document in memory and advance its version, and one
+ * write stores the result when the window closes. Pending edits are flushed on shutdown.
+ * <p>
+ * The write only succeeds if the stored version is still the one the edits started from,
+ * so a full replacement or another node's edits are never overwritten. If the write fails
+ * for another reason the edits stay pending and are retried. Edits lost to a conflicting
+ * write are remembered, so clients holding their versions get a version conflict and reload.
+ */
+@Component
+public class TranscriptPatchCoalescer implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(TranscriptPatchCoalescer.class);
+
+    public record PatchResult(Long transcriptId, long version, JsonNode content) {
+    }
+
+    // Versions that were acknowledged to clients but never stored
+    private record LostEdits(long storedVersion, long version) {
+        boolean contains(long version) {
+            return version > storedVersion && version <= this.version;
+        }
+    }
+
+    private final TranscriptRepository transcriptRepository;
+    private final TranscriptMessageStore messageStore;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowMillis;
+    private final ConcurrentHashMap<Long, PendingPatch> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LostEdits> lostEdits = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "transcript-patch-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TranscriptPatchCoalescer(
+            TranscriptRepository transcriptRepository,
+            TranscriptMessageStore messageStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.transcript.patch-coalesce-window:500ms}") Duration window) {
+        this.transcriptRepository = transcriptRepository;
+        this.messageStore = messageStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Flushes commit on their own, also when triggered from inside a service transaction
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.windowMillis = Math.max(0, window.toMillis());
+    }
+
+    /**
+     * Applies the patch if {@code expectedVersion} is still the current version.
+     *
+     * @return the new version and content, before they are necessarily written
+     * @throws VersionConflictException if the transcript has moved on
+     * @throws IllegalArgumentException if the patch is invalid or a test operation fails
+     */
+    public PatchResult patch(Long transcriptId, long expectedVersion, JsonNode patch) {
+        while (true) {
+            PendingPatch state = pending.computeIfAbsent(transcriptId, PendingPatch::new);
+            synchronized (state) {
+                if (state.closed) {
+                    // Flushed and removed while we were waiting; start from the stored state
+                    continue;
+                }
+                JsonNode patched;
+                try {
+                    if (state.content == null) {
+                        load(state);
+                    }
+                    // A version that was acknowledged but lost to a conflicting write is stale too
+                    LostEdits lost = lostEdits.get(transcriptId);
+                    if (state.version != expectedVersion || (lost != null && lost.contains(expectedVersion))) {
+                        throw new VersionConflictException(
+                            "Transcript", transcriptId, expectedVersion, state.version);
+                    }
+                    patched = JsonPatch.apply(state.content, patch);
+                } catch (RuntimeException e) {
+                    if (!state.dirty) {
+                        // Nothing accepted yet, so don't keep a cached copy around
+                        state.closed = true;
+                        pending.remove(transcriptId, state);
+                    }
+                    throw e;
+                }
+                state.content = patched;
+                state.version++;
+                state.dirty = true;
+                if (state.scheduledFlush == null) {
+                    scheduleFlush(state);
+                }
+                return new PatchResult(transcriptId, state.version, state.content);
+            }
+        }
+    }
+
+    /**
+     * Returns edits that are accepted but not yet written, so reads can include them.
+     */
+    public Optional<PatchResult> pendingState(Long transcriptId) {
+        PendingPatch state = pending.get(transcriptId);
+        if (state == null) {
+            return Optional.empty();
+        }
+        synchronized (state) {
+            if (state.closed || !state.dirty) {
+                return Optional.empty();
+            }
+            return Optional.of(new PatchResult(transcriptId, state.version, state.content));
+        }
+    }
+
+    /**
+     * Writes pending edits of the transcript now, e.g. before a full replacement.
+     *
+     * @throws VersionConflictException if the transcript was written by someone else in the
+     *         meantime; the pending edits are dropped
+     * @throws RuntimeException if the write failed; the edits stay pending and are retried
+     */
+    public void flush(Long transcriptId) {
+        flush(transcriptId, true);
+    }
+
+    private void flush(Long transcriptId, boolean rethrow) {
+        PendingPatch state = pending.get(transcriptId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.closed) {
+                return;
+            }
+            if (state.scheduledFlush != null) {
+                state.scheduledFlush.cancel(false);
+                state.scheduledFlush = null;
+            }
+            if (state.dirty) {
+                try {
+                    write(state);
+                } catch (VersionConflictException e) {
+                    log.warn("Dropping patches of transcript {} up to version {}: {}",
+                        transcriptId, state.version, e.getMessage());
+                    lostEdits.put(transcriptId, new LostEdits(state.storedVersion, state.version));
+                    close(state);
+                    if (rethrow) {
+                        throw e;
+                    }
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Failed to write patches of transcript {} at version {}, keeping them pending: {}",
+                        transcriptId, state.version, e.getMessage(), e);
+                    scheduleFlush(state);
+                    if (rethrow) {
+                        throw e;
+                    }
+                    return;
+                }
+            }
+            close(state);
+        }
+    }
+
+    /**
+     * Drops pending edits of a transcript that is being deleted.
+     */
+    public void discard(Long transcriptId) {
+        lostEdits.remove(transcriptId);
+        PendingPatch state = pending.remove(transcriptId);
+        if (state != null) {
+            synchronized (state) {
+                state.closed = true;
+                if (state.scheduledFlush != null) {
+                    state.scheduledFlush.cancel(false);
+                }
+            }
+        }
+    }
+
+    private void load(PendingPatch state) {
+        Transcript transcript = transactionTemplate.execute(status -> transcriptRepository.findById(state.transcriptId)
+            .map(messageStore::view)
+            .orElse(null));
+        if (transcript == null) {
+            throw new ResourceNotFoundException("Transcript", "id", state.transcriptId);
+        }
+        state.content = transcript.getContent();
+        state.version = transcript.getVersion() != null ? transcript.getVersion() : 0L;
+        state.storedVersion = state.version;
+        lostEdits.computeIfPresent(state.transcriptId, (id, lost) -> state.version > lost.version() ? null : lost);
+    }
+
+    private void write(PendingPatch state) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (transcriptRepository.advanceVersion(state.transcriptId, state.storedVersion, state.version) == 0) {
+                long current = transcriptRepository.findById(state.transcriptId)
+                    .map(Transcript::getVersion)
+                    .orElse(state.storedVersion);
+                throw new VersionConflictException("Transcript", state.transcriptId, state.storedVersion, current);
+            }
+            transcriptRepository.findById(state.transcriptId).ifPresent(transcript -> {
+                messageStore.applyContent(transcript, state.content);
+                transcript.setVersion(state.version);
+                transcriptRepository.save(transcript);
+            });
+        });
+        log.debug("Wrote coalesced patches of transcript {} at version {}", state.transcriptId, state.version);
+    }
+
+    private void scheduleFlush(PendingPatch state) {
+        try {
+            state.scheduledFlush = flusher.schedule(() -> flush(state.transcriptId, false),
+                windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; destroy() makes the last attempt
+            log.warn("Not retrying patches of transcript {} at version {}, shutting down",
+                state.transcriptId, state.version);
+        }
+    }
+
+    private void close(PendingPatch state) {
+        state.closed = true;
+        pending.remove(state.transcriptId, state);
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdownNow();
+        for (Long transcriptId : pending.keySet()) {
+            flush(transcriptId, false);
+        }
+    }
+
+    private static final class PendingPatch {
+        private final Long transcriptId;
+        private JsonNode content;
+        private long version;
+        // Version in the database when the content was loaded
+        private long storedVersion;
+        private boolean dirty;
+        private boolean closed;
+        private ScheduledFuture<?> scheduledFlush;
+
+        private PendingPatch(Long transcriptId) {
+            this.transcriptId = transcriptId;
+        }
+    }
+}
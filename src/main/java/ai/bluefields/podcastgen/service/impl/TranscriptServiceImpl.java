@@ -1,9 +1,12 @@
 package ai.bluefields.podcastgen.service.impl;
 
+import ai.bluefields.podcastgen.dto.TranscriptPatchResultDTO;
 import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
+import ai.bluefields.podcastgen.exception.VersionConflictException;
 import ai.bluefields.podcastgen.model.Transcript;
 import ai.bluefields.podcastgen.repository.TranscriptRepository;
 import ai.bluefields.podcastgen.service.TranscriptService;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,13 +24,15 @@ public class TranscriptServiceImpl implements TranscriptService {
     
     private static final Logger log = LoggerFactory.getLogger(TranscriptServiceImpl.class);
     private final TranscriptRepository transcriptRepository;
+    private final TranscriptMessageStore messageStore;
+    private final TranscriptPatchCoalescer patchCoalescer;
 
     @Override
     @Transactional(readOnly = true)
     public List<Transcript> getAllTranscripts() {
         log.info("Fetching all transcripts");
         try {
-            List<Transcript> transcripts = transcriptRepository.findAll();
+            List<Transcript> transcripts = toViews(transcriptRepository.findAll());
             log.info("Successfully retrieved {} transcripts", transcripts.size());
             return transcripts;
         } catch (DataAccessException e) {
@@ -41,7 +46,7 @@ public class TranscriptServiceImpl implements TranscriptService {
     public Optional<Transcript> getTranscriptById(Long id) {
         log.info("Fetching transcript with id: {}", id);
         try {
-            Optional<Transcript> transcript = transcriptRepository.findById(id);
+            Optional<Transcript> transcript = transcriptRepository.findById(id).map(this::toView);
             if (transcript.isPresent()) {
                 log.info("Found transcript with id: {}", id);
             } else {
@@ -57,28 +62,76 @@ public class TranscriptServiceImpl implements TranscriptService {
     @Override
     @Transactional(readOnly = true)
     public List<Transcript> getTranscriptsByPodcastId(Long podcastId) {
-        return transcriptRepository.findByPodcastId(podcastId);
+        return toViews(transcriptRepository.findByPodcastId(podcastId));
     }
 
     @Override
     public Transcript createTranscript(Transcript transcript) {
-        return transcriptRepository.save(transcript);
+        if (!messageStore.isEnabled()) {
+            return transcriptRepository.save(transcript);
+        }
+        JsonNode content = transcript.getContent();
+        transcript.setContent(messageStore.withoutMessages(content));
+        Transcript saved = transcriptRepository.save(transcript);
+        messageStore.syncMessages(saved.getId(), messages(content));
+        return messageStore.view(saved);
     }
 
     @Override
     public Transcript updateTranscript(Long id, Transcript transcript) {
+        // Write accepted patches first so the replacement gets the next version
+        try {
+            patchCoalescer.flush(id);
+        } catch (VersionConflictException e) {
+            // The patches were dropped; the replacement overwrites the content anyway
+            log.debug("Replacing transcript {} after its pending patches conflicted: {}", id, e.getMessage());
+        }
         return transcriptRepository.findById(id)
             .map(existingTranscript -> {
-                // Update fields here
-                return transcriptRepository.save(existingTranscript);
+                messageStore.applyContent(existingTranscript, transcript.getContent());
+                existingTranscript.setVersion(existingTranscript.getVersion() + 1);
+                return toView(transcriptRepository.save(existingTranscript));
             })
             .orElseThrow(() -> new ResourceNotFoundException("Transcript", "id", id));
     }
 
+    @Override
+    public TranscriptPatchResultDTO patchTranscript(Long id, long expectedVersion, JsonNode patch) {
+        TranscriptPatchCoalescer.PatchResult result = patchCoalescer.patch(id, expectedVersion, patch);
+        log.debug("Accepted patch of transcript {}, now at version {}", id, result.version());
+        return new TranscriptPatchResultDTO(id, result.version());
+    }
+
     @Override
     public void deleteTranscript(Long id) {
         transcriptRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Transcript", "id", id));
+        patchCoalescer.discard(id);
         transcriptRepository.deleteById(id);
     }
+
+    private Transcript toView(Transcript transcript) {
+        Transcript view = messageStore.isEnabled() ? messageStore.view(transcript) : transcript;
+        return patchCoalescer.pendingState(transcript.getId())
+            .map(pending -> withPendingPatches(view, pending))
+            .orElse(view);
+    }
+
+    private List<Transcript> toViews(List<Transcript> transcripts) {
+        return transcripts.stream().map(this::toView).toList();
+    }
+
+    private static Transcript withPendingPatches(Transcript transcript, TranscriptPatchCoalescer.PatchResult pending) {
+        Transcript view = new Transcript();
+        view.setId(transcript.getId());
+        view.setPodcast(transcript.getPodcast());
+        view.setLastEdited(transcript.getLastEdited());
+        view.setContent(pending.content());
+        view.setVersion(pending.version());
+        return view;
+    }
+
+    private static JsonNode messages(JsonNode content) {
+        return content != null ? content.get(TranscriptMessageStore.MESSAGES) : null;
+    }
 }
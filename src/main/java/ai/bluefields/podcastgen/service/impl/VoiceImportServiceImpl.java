@@ -0,0 +1,531 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.CacheConfig;
+import ai.bluefields.podcastgen.dto.VoiceImportStatusDTO;
+import ai.bluefields.podcastgen.exception.ProviderUnavailableException;
+import ai.bluefields.podcastgen.exception.RequestSlotTimeoutException;
+import ai.bluefields.podcastgen.model.Voice;
+import ai.bluefields.podcastgen.service.VoiceImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams voice CSV files into the voice library. Rows are upserted on
+ * {@code external_voice_id} in JDBC batches, and preview audio for voices that have
+ * none yet is generated concurrently while later batches are still being read. Preview
+ * calls go through the shared ElevenLabs concurrency limit and circuit breaker, so an
+ * import cannot crowd out podcast generation.
+ */
+@Service
+public class VoiceImportServiceImpl implements VoiceImportService, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(VoiceImportServiceImpl.class);
+
+    // Existing is_default flags are kept; defaults are managed through setDefaultVoice
+    private static final String UPSERT_SQL = """
+        INSERT INTO voices (name, tags, external_voice_id, voice_type, user_id, gender, is_default,
+            audio_preview_path, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, false, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON CONFLICT (external_voice_id) DO UPDATE SET
+            name = EXCLUDED.name,
+            tags = EXCLUDED.tags,
+            voice_type = EXCLUDED.voice_type,
+            user_id = EXCLUDED.user_id,
+            gender = EXCLUDED.gender,
+            audio_preview_path = COALESCE(EXCLUDED.audio_preview_path, voices.audio_preview_path),
+            updated_at = CURRENT_TIMESTAMP
+        """;
+    private static final String MISSING_PREVIEWS_SQL =
+        "SELECT external_voice_id FROM voices WHERE external_voice_id = ANY(?) AND audio_preview_path IS NULL";
+    private static final String SET_PREVIEW_SQL = """
+        UPDATE voices SET audio_preview_path = ?, updated_at = CURRENT_TIMESTAMP
+        WHERE external_voice_id = ? AND audio_preview_path IS NULL
+        """;
+
+    private static final String PREVIEW_TEXT = "Hello everyone! I'm excited to share my thoughts on this topic. "
+        + "Let me walk you through my perspective and experience. "
+        + "I believe this discussion will be both informative and engaging for our listeners. "
+        + "I look forward to exploring these ideas together.";
+    private static final int MAX_ERRORS = 50;
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElevenLabsClient elevenLabsClient;
+    private final ElevenLabsCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final VoiceSearchIndex voiceSearchIndex;
+    private final CacheManager cacheManager;
+    private final String voicePreviewsPath;
+    private final String modelId;
+    private final int batchSize;
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "voice-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService previewExecutor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public VoiceImportServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            ElevenLabsClient elevenLabsClient,
+            ElevenLabsCircuitBreaker circuitBreaker,
+            ObjectMapper objectMapper,
+            VoiceSearchIndex voiceSearchIndex,
+            CacheManager cacheManager,
+            @Value("${app.uploads.voice-previews-path}") String voicePreviewsPath,
+            @Value("${elevenlabs.api.model-id:eleven_multilingual_v2}") String modelId,
+            @Value("${app.voices.import.batch-size:200}") int batchSize,
+            @Value("${app.voices.import.preview-concurrency:4}") int previewConcurrency) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.elevenLabsClient = elevenLabsClient;
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+        this.voiceSearchIndex = voiceSearchIndex;
+        this.cacheManager = cacheManager;
+        this.voicePreviewsPath = voicePreviewsPath;
+        this.modelId = modelId;
+        this.batchSize = Math.max(1, batchSize);
+        this.previewExecutor = Executors.newFixedThreadPool(Math.max(1, previewConcurrency));
+    }
+
+    @Override
+    public VoiceImportStatusDTO startImport(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Voice import file cannot be empty");
+        }
+
+        Path upload;
+        try {
+            // The multipart file is gone once the request ends, so keep a copy for the job
+            upload = Files.createTempFile("voice-import-", ".csv");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store voice import file: " + e.getMessage(), e);
+        }
+
+        pruneFinishedJobs();
+        ImportJob job = new ImportJob(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        log.info("Starting voice import {} from {}", job.id, file.getOriginalFilename());
+        jobExecutor.submit(() -> runJob(job, upload));
+        return job.toDto();
+    }
+
+    @Override
+    public Optional<VoiceImportStatusDTO> getImportStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::toDto);
+    }
+
+    private void runJob(ImportJob job, Path upload) {
+        try (BufferedReader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8)) {
+            importCsv(reader, job);
+            refreshVoiceViews();
+            job.finish(VoiceImportStatusDTO.Status.COMPLETED);
+            log.info("Voice import {} finished: {} rows, {} voices upserted, {} skipped, {} previews generated",
+                job.id, job.rowsRead.get(), job.voicesUpserted.get(), job.rowsSkipped.get(),
+                job.previewsGenerated.get());
+        } catch (Exception e) {
+            log.error("Voice import {} failed: {}", job.id, e.getMessage(), e);
+            job.addError(e.getMessage());
+            // Earlier batches are already committed
+            refreshVoiceViews();
+            job.finish(VoiceImportStatusDTO.Status.FAILED);
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                log.warn("Failed to delete voice import file {}: {}", upload, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the CSV line by line, upserting every full batch and starting preview
+     * generation for it before reading on. Returns once all previews are done.
+     */
+    void importCsv(BufferedReader reader, ImportJob job) throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        char delimiter = headerLine.indexOf(';') >= 0 ? ';' : ',';
+        Columns columns = Columns.of(parseLine(headerLine, delimiter));
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        List<CompletableFuture<Void>> previews = new ArrayList<>();
+        Queue<Object[]> generatedPaths = new ConcurrentLinkedQueue<>();
+        int lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            job.rowsRead.incrementAndGet();
+            try {
+                batch.add(columns.toRow(parseLine(line, delimiter)));
+            } catch (IllegalArgumentException e) {
+                job.rowsSkipped.incrementAndGet();
+                job.addError("line " + lineNumber + ": " + e.getMessage());
+            }
+            if (batch.size() >= batchSize) {
+                flushBatch(batch, job, previews, generatedPaths);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushBatch(batch, job, previews, generatedPaths);
+        }
+
+        // Preview tasks record their own failures, so this only waits
+        CompletableFuture.allOf(previews.toArray(CompletableFuture[]::new)).join();
+        storePreviewPaths(generatedPaths);
+    }
+
+    private void flushBatch(List<ImportRow> batch, ImportJob job, List<CompletableFuture<Void>> previews,
+                            Queue<Object[]> generatedPaths) {
+        // One statement cannot update the same row twice, so the last duplicate wins
+        Map<String, ImportRow> rows = new LinkedHashMap<>();
+        for (ImportRow row : batch) {
+            rows.put(row.externalVoiceId(), row);
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows.values(), rows.size(), (ps, row) -> {
+            ps.setString(1, row.name());
+            ps.setArray(2, ps.getConnection().createArrayOf("text", row.tags()));
+            ps.setString(3, row.externalVoiceId());
+            ps.setString(4, row.voiceType().name());
+            ps.setString(5, row.userId());
+            ps.setString(6, row.gender().name());
+            ps.setString(7, row.audioPreviewPath());
+        });
+        job.voicesUpserted.addAndGet(rows.size());
+        log.debug("Upserted {} voices", rows.size());
+
+        storePreviewPaths(generatedPaths);
+        for (String externalVoiceId : missingPreviews(rows.keySet())) {
+            ImportRow row = rows.get(externalVoiceId);
+            previews.add(CompletableFuture.runAsync(() -> generatePreview(row, job, generatedPaths), previewExecutor));
+        }
+    }
+
+    private List<String> missingPreviews(Collection<String> externalVoiceIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MISSING_PREVIEWS_SQL);
+            ps.setArray(1, connection.createArrayOf("text", externalVoiceIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    private void generatePreview(ImportRow row, ImportJob job, Queue<Object[]> generatedPaths) {
+        try {
+            String requestJson = previewRequest(row);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new ProviderUnavailableException("ElevenLabs is currently unavailable, circuit is open");
+            }
+            ResponseEntity<byte[]> response;
+            try {
+                response = elevenLabsClient.textToSpeech(row.externalVoiceId(), requestJson);
+                circuitBreaker.recordSuccess();
+            } catch (RequestSlotTimeoutException e) {
+                // Never reached ElevenLabs
+                circuitBreaker.releasePermission();
+                throw e;
+            } catch (RuntimeException e) {
+                circuitBreaker.recordFailure(e);
+                throw e;
+            }
+
+            String filename = row.externalVoiceId().replaceAll("[^A-Za-z0-9_-]", "_") + ".mp3";
+            Files.createDirectories(Paths.get(voicePreviewsPath));
+            Files.write(Paths.get(voicePreviewsPath, filename), response.getBody());
+            generatedPaths.add(new Object[]{"/api/uploads/voice-previews/" + filename, row.externalVoiceId()});
+            job.previewsGenerated.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("Failed to generate preview for voice {}: {}", row.externalVoiceId(), e.getMessage());
+            job.previewsFailed.incrementAndGet();
+            job.addError("voice " + row.externalVoiceId() + ": preview failed: " + e.getMessage());
+        }
+    }
+
+    private String previewRequest(ImportRow row) throws IOException {
+        ObjectNode requestBody = objectMapper.createObjectNode();
+        requestBody.put("text", PREVIEW_TEXT);
+        requestBody.put("model_id", modelId);
+        if (row.settings() != null) {
+            ObjectNode voiceSettings = requestBody.putObject("voice_settings");
+            voiceSettings.put("stability", row.settings().stability());
+            voiceSettings.put("similarity_boost", row.settings().similarityBoost());
+            voiceSettings.put("style_exaggeration", row.settings().styleExaggeration());
+            voiceSettings.put("speaker_boost", row.settings().speakerBoost());
+        }
+        return objectMapper.writeValueAsString(requestBody);
+    }
+
+    private void storePreviewPaths(Queue<Object[]> generatedPaths) {
+        List<Object[]> updates = new ArrayList<>();
+        Object[] update;
+        while ((update = generatedPaths.poll()) != null) {
+            updates.add(update);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(SET_PREVIEW_SQL, updates);
+        }
+    }
+
+    private void refreshVoiceViews() {
+        try {
+            voiceSearchIndex.rebuild();
+            for (String name : List.of(CacheConfig.VOICES, CacheConfig.VOICE_BY_ID, CacheConfig.USER_VOICES)) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh voice caches after import: {}", e.getMessage(), e);
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    /**
+     * Splits one CSV line, honouring double quoted fields with {@code ""} escapes.
+     * Quoted fields spanning several lines are not supported.
+     */
+    static List<String> parseLine(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    @Override
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        previewExecutor.shutdownNow();
+    }
+
+    record VoiceSettings(double stability, double similarityBoost, double styleExaggeration, boolean speakerBoost) {
+    }
+
+    record ImportRow(String name, String[] tags, String externalVoiceId, Voice.VoiceType voiceType, String userId,
+                     Voice.Gender gender, String audioPreviewPath, VoiceSettings settings) {
+    }
+
+    /**
+     * Column positions resolved from the header row. Header names are matched ignoring
+     * case and punctuation, so {@code external_voice_ID} and {@code externalVoiceId} both
+     * work; only name and external voice ID are required.
+     */
+    record Columns(int name, int tags, int externalVoiceId, int voiceType, int userId, int gender,
+                   int audioPreviewPath, int stability, int similarityBoost, int styleExaggeration,
+                   int speakerBoost) {
+
+        static Columns of(List<String> header) {
+            List<String> keys = header.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", ""))
+                .toList();
+            Columns columns = new Columns(find(keys, "name"), find(keys, "tags"), find(keys, "externalvoiceid"),
+                find(keys, "voicetype"), find(keys, "userid"), find(keys, "gender"), find(keys, "audiopreviewpath"),
+                find(keys, "stability"), find(keys, "similarityboost"), find(keys, "styleexaggeration"),
+                find(keys, "speakerboost"));
+            if (columns.name() < 0 || columns.externalVoiceId() < 0) {
+                throw new IllegalArgumentException("CSV header must contain Name and external_voice_ID columns");
+            }
+            return columns;
+        }
+
+        ImportRow toRow(List<String> fields) {
+            String name = value(fields, name());
+            String externalVoiceId = value(fields, externalVoiceId());
+            if (name == null) {
+                throw new IllegalArgumentException("missing name");
+            }
+            if (externalVoiceId == null) {
+                throw new IllegalArgumentException("missing external_voice_id");
+            }
+
+            String tagList = value(fields, tags());
+            String[] tagValues = tagList == null ? new String[0] : Arrays.stream(tagList.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .toArray(String[]::new);
+
+            String type = value(fields, voiceType());
+            Voice.VoiceType voiceType = Voice.VoiceType.STANDARD;
+            try {
+                if (type != null) {
+                    voiceType = Voice.VoiceType.valueOf(type.toUpperCase(Locale.ROOT));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown voice type '" + type + "'");
+            }
+
+            return new ImportRow(name, tagValues, externalVoiceId, voiceType, value(fields, userId()),
+                gender(value(fields, gender()), tagValues), value(fields, audioPreviewPath()), settings(fields));
+        }
+
+        /**
+         * Takes the gender column when present, otherwise a Male/Female tag as in the
+         * standard voice list.
+         */
+        private static Voice.Gender gender(String column, String[] tags) {
+            if (column != null) {
+                try {
+                    return Voice.Gender.valueOf(column.toLowerCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("unknown gender '" + column + "'");
+                }
+            }
+            for (String tag : tags) {
+                for (Voice.Gender gender : Voice.Gender.values()) {
+                    if (gender.name().equalsIgnoreCase(tag)) {
+                        return gender;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("missing gender, add a gender column or a Male/Female tag");
+        }
+
+        private VoiceSettings settings(List<String> fields) {
+            String stabilityValue = value(fields, stability());
+            String similarityValue = value(fields, similarityBoost());
+            String styleValue = value(fields, styleExaggeration());
+            String speakerBoostValue = value(fields, speakerBoost());
+            if (stabilityValue == null || similarityValue == null || styleValue == null) {
+                // Leave the settings stored for the voice at ElevenLabs in effect
+                return null;
+            }
+            try {
+                return new VoiceSettings(Double.parseDouble(stabilityValue), Double.parseDouble(similarityValue),
+                    Double.parseDouble(styleValue), Boolean.parseBoolean(speakerBoostValue));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid voice settings: " + e.getMessage());
+            }
+        }
+
+        private static int find(List<String> keys, String key) {
+            for (int i = 0; i < keys.size(); i++) {
+                // Prefix match tolerates suffixed headers such as "similarity_boostspeak"
+                if (keys.get(i).startsWith(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static String value(List<String> fields, int index) {
+            if (index < 0 || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+    }
+
+    static final class ImportJob {
+        private final String id;
+        private final ZonedDateTime startedAt = ZonedDateTime.now();
+        private final AtomicInteger rowsRead = new AtomicInteger();
+        private final AtomicInteger voicesUpserted = new AtomicInteger();
+        private final AtomicInteger rowsSkipped = new AtomicInteger();
+        private final AtomicInteger previewsGenerated = new AtomicInteger();
+        private final AtomicInteger previewsFailed = new AtomicInteger();
+        private final List<String> errors = new ArrayList<>();
+        private volatile VoiceImportStatusDTO.Status status = VoiceImportStatusDTO.Status.RUNNING;
+        private volatile ZonedDateTime finishedAt;
+
+        ImportJob(String id) {
+            this.id = id;
+        }
+
+        private synchronized void addError(String error) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        private void finish(VoiceImportStatusDTO.Status finalStatus) {
+            finishedAt = ZonedDateTime.now();
+            status = finalStatus;
+        }
+
+        synchronized VoiceImportStatusDTO toDto() {
+            VoiceImportStatusDTO dto = new VoiceImportStatusDTO();
+            dto.setJobId(id);
+            dto.setStatus(status);
+            dto.setRowsRead(rowsRead.get());
+            dto.setVoicesUpserted(voicesUpserted.get());
+            dto.setRowsSkipped(rowsSkipped.get());
+            dto.setPreviewsGenerated(previewsGenerated.get());
+            dto.setPreviewsFailed(previewsFailed.get());
+            dto.setErrors(List.copyOf(errors));
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Keeps the extra previews of a text-to-voice request that were not shown yet, keyed by
+ * the voice description (gender, age and characteristics). Asking again for a preview
+ * of the same description takes the next one from here instead of calling ElevenLabs.
+ * Previews that are never taken expire and their audio files are deleted.
+ */
+@Component
+public class VoicePreviewCache implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(VoicePreviewCache.class);
+
+    public record Preview(String previewId, String previewUrl, Path file) {
+    }
+
+    record Key(String gender, int age, String characteristics) {
+    }
+
+    private final Cache<Key, Deque<Preview>> cache;
+
+    @Autowired
+    public VoicePreviewCache(
+            @Value("${app.voice-preview.cache-ttl:15m}") Duration ttl,
+            @Value("${app.voice-preview.cache-max-size:1000}") long maxSize) {
+        this(ttl, maxSize, Ticker.systemTicker());
+    }
+
+    VoicePreviewCache(Duration ttl, long maxSize, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .ticker(ticker)
+            // Expire on time rather than on the next cache access, so files don't linger
+            .scheduler(Scheduler.systemScheduler())
+            // Delete files on the calling thread so a removal is complete when it returns
+            .executor(Runnable::run)
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * Stores previews for later requests with the same voice description.
+     */
+    public void put(String gender, int age, String characteristics, Collection<Preview> previews) {
+        if (previews.isEmpty()) {
+            return;
+        }
+        cache.asMap().compute(key(gender, age, characteristics), (key, queued) -> {
+            Deque<Preview> result = queued != null ? queued : new ArrayDeque<>();
+            result.addAll(previews);
+            return result;
+        });
+    }
+
+    /**
+     * Takes the next unused preview for the voice description. A taken preview is no
+     * longer managed by the cache, so its file is kept.
+     */
+    public Optional<Preview> take(String gender, int age, String characteristics) {
+        Preview[] taken = new Preview[1];
+        cache.asMap().computeIfPresent(key(gender, age, characteristics), (key, queued) -> {
+            taken[0] = queued.pollFirst();
+            return queued.isEmpty() ? null : queued;
+        });
+        return Optional.ofNullable(taken[0]);
+    }
+
+    /**
+     * Number of unused previews currently held.
+     */
+    public int size() {
+        return cache.asMap().values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * Runs pending expirations now; normally done by the cache's scheduler.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private void onRemoval(Key key, Deque<Preview> previews, RemovalCause cause) {
+        // Replacing an entry keeps its previews (see put), so only real evictions delete files
+        if (previews == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        for (Preview preview : previews) {
+            try {
+                Files.deleteIfExists(preview.file());
+                log.debug("Deleted unused voice preview {} ({})", preview.previewId(), cause);
+            } catch (IOException e) {
+                log.warn("Failed to delete unused voice preview {}: {}", preview.file(), e.getMessage());
+            }
+        }
+    }
+
+    private static Key key(String gender, int age, String characteristics) {
+        return new Key(normalize(gender), age, normalize(characteristics));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void destroy() {
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+}
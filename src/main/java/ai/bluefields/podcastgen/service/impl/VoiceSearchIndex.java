@@ -0,0 +1,392 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.dto.VoiceSearchCriteria;
+import ai.bluefields.podcastgen.model.Voice;
+import ai.bluefields.podcastgen.repository.VoiceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the voice library. Tags map to posting sets of voice ids
+ * (sorted, so prefix lookups are a range scan), and gender, type and owner have their own
+ * posting sets, so a combined query is a handful of set intersections instead of several
+ * SQL round-trips. The index is loaded on first use and then kept current by
+ * {@link VoiceServiceImpl} after each committed write.
+ * <p>
+ * Changes made by other nodes are not seen until {@link #rebuild()} runs.
+ */
+@Component
+public class VoiceSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(VoiceSearchIndex.class);
+
+    private static final int MAX_LIMIT = 500;
+
+    private final VoiceRepository voiceRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedVoice> voices = new HashMap<>();
+    private final TreeMap<String, Set<Long>> byTag = new TreeMap<>();
+    private final Map<Voice.Gender, Set<Long>> byGender = new EnumMap<>(Voice.Gender.class);
+    private final Map<Voice.VoiceType, Set<Long>> byType = new EnumMap<>(Voice.VoiceType.class);
+    private final Map<String, Set<Long>> byUser = new HashMap<>();
+    // One per running rebuild: updates applied while its snapshot is read, guarded by the write lock
+    private final List<List<Runnable>> rebuildBacklogs = new ArrayList<>();
+    private volatile boolean loaded;
+
+    public VoiceSearchIndex(VoiceRepository voiceRepository) {
+        this.voiceRepository = voiceRepository;
+    }
+
+    /**
+     * Replaces the index content with the current voice table. Updates committed while the
+     * table is read may be missing from the snapshot, so they are applied again on top of it.
+     */
+    public void rebuild() {
+        List<Runnable> backlog = new ArrayList<>();
+        withWriteLock(() -> rebuildBacklogs.add(backlog));
+        List<Voice> all;
+        try {
+            all = voiceRepository.findAll();
+            withWriteLock(() -> {
+                voices.clear();
+                byTag.clear();
+                byGender.clear();
+                byType.clear();
+                byUser.clear();
+                all.forEach(this::add);
+                backlog.forEach(Runnable::run);
+                loaded = true;
+            });
+        } finally {
+            withWriteLock(() -> rebuildBacklogs.removeIf(pending -> pending == backlog));
+        }
+        log.info("Indexed {} voices with {} distinct tags", all.size(), byTag.size());
+    }
+
+    /**
+     * Adds or replaces a voice once the current transaction commits (immediately when
+     * there is none). The index keeps its own copy, so later changes to {@code voice} are
+     * not seen until they are upserted again.
+     */
+    public void upsertAfterCommit(Voice voice) {
+        Voice snapshot = voice.copy();
+        afterCommit(() -> apply(() -> {
+            remove(snapshot.getId());
+            add(snapshot);
+        }));
+    }
+
+    /**
+     * Removes a voice once the current transaction commits (immediately when there is none).
+     */
+    public void removeAfterCommit(Long voiceId) {
+        afterCommit(() -> apply(() -> remove(voiceId)));
+    }
+
+    private void apply(Runnable update) {
+        withWriteLock(() -> {
+            update.run();
+            rebuildBacklogs.forEach(backlog -> backlog.add(update));
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Voice> search(VoiceSearchCriteria criteria) {
+        ensureLoaded();
+        List<String> queryTags = criteria.getTags() == null ? List.of() : criteria.getTags().stream()
+            .map(VoiceSearchIndex::normalize)
+            .filter(tag -> !tag.isEmpty())
+            .distinct()
+            .toList();
+        Set<String> characteristics = tokenize(criteria.getCharacteristics());
+        int limit = Math.max(1, Math.min(criteria.getLimit(), MAX_LIMIT));
+
+        lock.readLock().lock();
+        try {
+            List<Set<String>> expandedTags = new ArrayList<>(queryTags.size());
+            for (String tag : queryTags) {
+                expandedTags.add(matchingTags(tag, criteria.isPrefix(), criteria.isFuzzy()));
+            }
+
+            Set<Long> candidates = tagCandidates(expandedTags, criteria.getMatch());
+            candidates = restrict(candidates, byGender, criteria.getGender());
+            candidates = restrict(candidates, byType, criteria.getVoiceType());
+            candidates = restrict(candidates, byUser, criteria.getUserId());
+            if (candidates == null) {
+                candidates = voices.keySet();
+            }
+
+            return rank(candidates, expandedTags, characteristics, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> tagCandidates(List<Set<String>> expandedTags, VoiceSearchCriteria.TagMatch match) {
+        if (expandedTags.isEmpty()) {
+            return null;
+        }
+        Set<Long> result = null;
+        for (Set<String> alternatives : expandedTags) {
+            Set<Long> matching = new HashSet<>();
+            for (String tag : alternatives) {
+                matching.addAll(byTag.get(tag));
+            }
+            if (result == null) {
+                result = matching;
+            } else if (match == VoiceSearchCriteria.TagMatch.ANY) {
+                result.addAll(matching);
+            } else {
+                result.retainAll(matching);
+            }
+            if (result.isEmpty() && match != VoiceSearchCriteria.TagMatch.ANY) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Intersects the candidates with the posting set of {@code key}; a {@code null} key
+     * means no filter and {@code null} candidates mean "all voices".
+     */
+    private static <K> Set<Long> restrict(Set<Long> candidates, Map<K, Set<Long>> index, K key) {
+        if (key == null) {
+            return candidates;
+        }
+        Set<Long> postings = index.get(key);
+        if (postings == null) {
+            return new HashSet<>();
+        }
+        if (candidates == null) {
+            return postings;
+        }
+        Set<Long> smaller = candidates.size() <= postings.size() ? candidates : postings;
+        Set<Long> larger = smaller == candidates ? postings : candidates;
+        Set<Long> result = new HashSet<>();
+        for (Long id : smaller) {
+            if (larger.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private List<Voice> rank(Collection<Long> candidates, List<Set<String>> expandedTags,
+                             Set<String> characteristics, int limit) {
+        Comparator<Ranked> order = Comparator.comparingInt(Ranked::characteristicOverlap)
+            .thenComparingInt(Ranked::queryOverlap)
+            .thenComparing(ranked -> ranked.voice().isDefault())
+            .thenComparing(ranked -> ranked.voice().getName(), Comparator.nullsFirst(Comparator.reverseOrder()));
+
+        // Keeps only the best "limit" results, so large candidate sets are not fully sorted
+        PriorityQueue<Ranked> best = new PriorityQueue<>(limit + 1, order);
+        for (Long id : candidates) {
+            IndexedVoice indexed = voices.get(id);
+            best.add(new Ranked(indexed.voice(), overlap(indexed.tags(), characteristics),
+                queryOverlap(indexed.tags(), expandedTags)));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Voice> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            result.add(best.poll().voice().copy());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private Set<String> matchingTags(String tag, boolean prefix, boolean fuzzy) {
+        Set<String> matches = new HashSet<>();
+        if (byTag.containsKey(tag)) {
+            matches.add(tag);
+        }
+        if (prefix) {
+            matches.addAll(byTag.subMap(tag, true, tag + Character.MAX_VALUE, true).keySet());
+        }
+        if (fuzzy) {
+            for (String candidate : byTag.keySet()) {
+                if (Math.abs(candidate.length() - tag.length()) <= 1 && withinOneEdit(tag, candidate)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Levenshtein distance of at most one, without building the full distance matrix.
+     */
+    static boolean withinOneEdit(String a, String b) {
+        if (a.length() > b.length()) {
+            return withinOneEdit(b, a);
+        }
+        int i = 0;
+        while (i < a.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (i == a.length()) {
+            return b.length() - a.length() <= 1;
+        }
+        if (a.length() == b.length()) {
+            return a.substring(i + 1).equals(b.substring(i + 1));
+        }
+        return a.substring(i).equals(b.substring(i + 1));
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private void add(Voice voice) {
+        Long id = voice.getId();
+        Set<String> tags = normalizedTags(voice);
+        voices.put(id, new IndexedVoice(voice, tags));
+        for (String tag : tags) {
+            byTag.computeIfAbsent(tag, key -> new HashSet<>()).add(id);
+        }
+        if (voice.getGender() != null) {
+            byGender.computeIfAbsent(voice.getGender(), key -> new HashSet<>()).add(id);
+        }
+        if (voice.getVoiceType() != null) {
+            byType.computeIfAbsent(voice.getVoiceType(), key -> new HashSet<>()).add(id);
+        }
+        if (voice.getUserId() != null) {
+            byUser.computeIfAbsent(voice.getUserId(), key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        IndexedVoice indexed = voices.remove(id);
+        if (indexed == null) {
+            return;
+        }
+        Voice voice = indexed.voice();
+        for (String tag : indexed.tags()) {
+            removePosting(byTag, tag, id);
+        }
+        removePosting(byGender, voice.getGender(), id);
+        removePosting(byType, voice.getVoiceType(), id);
+        removePosting(byUser, voice.getUserId(), id);
+    }
+
+    private static <K> void removePosting(Map<K, Set<Long>> index, K key, Long id) {
+        if (key == null) {
+            return;
+        }
+        Set<Long> postings = index.get(key);
+        if (postings != null) {
+            postings.remove(id);
+            if (postings.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static int overlap(Set<String> tags, Set<String> characteristics) {
+        if (characteristics.isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        for (String tag : tags) {
+            if (characteristics.contains(tag)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int queryOverlap(Set<String> tags, List<Set<String>> expandedTags) {
+        int count = 0;
+        for (Set<String> alternatives : expandedTags) {
+            for (String alternative : alternatives) {
+                if (tags.contains(alternative)) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static Set<String> normalizedTags(Voice voice) {
+        Set<String> tags = new HashSet<>();
+        if (voice.getTags() != null) {
+            for (String tag : voice.getTags()) {
+                String normalized = normalize(tag);
+                if (!normalized.isEmpty()) {
+                    tags.add(normalized);
+                }
+            }
+        }
+        return tags;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text != null) {
+            for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}-]+")) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedVoice(Voice voice, Set<String> tags) {
+    }
+
+    private record Ranked(Voice voice, int characteristicOverlap, int queryOverlap) {
+    }
+}
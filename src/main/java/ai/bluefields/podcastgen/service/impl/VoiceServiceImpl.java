@@ -1,18 +1,20 @@
 package ai.bluefields.podcastgen.service.impl;
 
+import ai.bluefields.podcastgen.config.CacheConfig;
+import ai.bluefields.podcastgen.dto.VoiceSearchCriteria;
+import ai.bluefields.podcastgen.model.Participant;
 import ai.bluefields.podcastgen.model.Voice;
+import ai.bluefields.podcastgen.repository.ParticipantRepository;
 import ai.bluefields.podcastgen.repository.VoiceRepository;
 import ai.bluefields.podcastgen.service.VoiceService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -25,7 +27,9 @@ import java.util.stream.Collectors;
 /**
  * Implementation of the VoiceService interface that handles voice-related operations.
  * This service manages the creation, retrieval, update, and deletion of voice profiles
- * used in podcast generation.
+ * used in podcast generation. Lookups are cached (see {@link CacheConfig}) and every write
+ * evicts the voice caches. Multi-criteria searches are answered by the in-memory
+ * {@link VoiceSearchIndex}, which is updated after each committed write.
  */
 @Service
 @RequiredArgsConstructor
@@ -34,12 +38,9 @@ public class VoiceServiceImpl implements VoiceService {
     private static final Logger log = LoggerFactory.getLogger(VoiceServiceImpl.class);
     
     private final VoiceRepository voiceRepository;
-    
-    @Value("${elevenlabs.api.key}")
-    private String apiKey;
-
-    @Value("${elevenlabs.api.url:https://api.elevenlabs.io}")
-    private String apiUrl;
+    private final ElevenLabsClient elevenLabsClient;
+    private final VoiceSearchIndex voiceSearchIndex;
+    private final ParticipantRepository participantRepository;
 
     /**
      * Creates a new voice profile in the system.
@@ -50,6 +51,11 @@ public class VoiceServiceImpl implements VoiceService {
      * @throws DataIntegrityViolationException if there's a database constraint violation
      */
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.VOICES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.VOICE_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.USER_VOICES, allEntries = true)
+    })
     public Voice createVoice(Voice voice) {
         log.debug("Creating new voice: {}", voice.getName());
         
@@ -58,7 +64,9 @@ public class VoiceServiceImpl implements VoiceService {
         try {
             voice.setCreatedAt(ZonedDateTime.now());
             voice.setUpdatedAt(ZonedDateTime.now());
-            return voiceRepository.save(voice);
+            Voice saved = voiceRepository.save(voice);
+            voiceSearchIndex.upsertAfterCommit(saved);
+            return saved;
         } catch (DataIntegrityViolationException e) {
             log.error("Failed to create voice due to data integrity violation", e);
             throw new DataIntegrityViolationException("Failed to create voice. Possible duplicate external voice ID: " 
@@ -77,6 +85,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICE_BY_ID, key = "#id", condition = "#id != null")
     public Optional<Voice> getVoiceById(Long id) {
         log.debug("Fetching voice by ID: {}", id);
         
@@ -96,6 +105,8 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'external:' + #externalVoiceId",
+        condition = "#externalVoiceId != null")
     public Optional<Voice> getVoiceByExternalId(String externalVoiceId) {
         log.debug("Fetching voice by external ID: {}", externalVoiceId);
         
@@ -113,6 +124,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'all'")
     public List<Voice> getAllVoices() {
         log.debug("Fetching all voices");
         return voiceRepository.findAll();
@@ -127,6 +139,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'type:' + #voiceType", condition = "#voiceType != null")
     public List<Voice> getVoicesByType(Voice.VoiceType voiceType) {
         log.debug("Fetching voices by type: {}", voiceType);
         
@@ -146,6 +159,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'gender:' + #gender", condition = "#gender != null")
     public List<Voice> getVoicesByGender(Voice.Gender gender) {
         log.debug("Fetching voices by gender: {}", gender);
         
@@ -165,6 +179,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'tag:' + #tag", condition = "#tag != null")
     public List<Voice> getVoicesByTag(String tag) {
         log.debug("Fetching voices by tag: {}", tag);
         
@@ -182,6 +197,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'default'")
     public List<Voice> getDefaultVoices() {
         log.debug("Fetching default voices");
         return voiceRepository.findByIsDefaultTrue();
@@ -196,6 +212,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USER_VOICES, key = "#userId", condition = "#userId != null")
     public List<Voice> getVoicesByUserId(String userId) {
         log.debug("Fetching voices by user ID: {}", userId);
         
@@ -216,6 +233,11 @@ public class VoiceServiceImpl implements VoiceService {
      * @throws DataIntegrityViolationException if there's a database constraint violation
      */
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.VOICES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.VOICE_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.USER_VOICES, allEntries = true)
+    })
     public Voice updateVoice(Voice voice) {
         log.debug("Updating voice: {}", voice.getId());
         
@@ -225,13 +247,16 @@ public class VoiceServiceImpl implements VoiceService {
         
         validateVoiceData(voice);
         
-        // Verify voice exists
-        voiceRepository.findById(voice.getId())
+        // Changes go onto the loaded entity; the given instance may be a cached read
+        Voice existing = voiceRepository.findById(voice.getId())
             .orElseThrow(() -> new EntityNotFoundException("Voice not found with ID: " + voice.getId()));
         
         try {
-            voice.setUpdatedAt(ZonedDateTime.now());
-            return voiceRepository.save(voice);
+            copyEditableFields(voice, existing);
+            existing.setUpdatedAt(ZonedDateTime.now());
+            Voice saved = voiceRepository.save(existing);
+            voiceSearchIndex.upsertAfterCommit(saved);
+            return saved;
         } catch (DataIntegrityViolationException e) {
             log.error("Failed to update voice due to data integrity violation", e);
             throw new DataIntegrityViolationException("Failed to update voice. Possible duplicate external voice ID: " 
@@ -250,6 +275,11 @@ public class VoiceServiceImpl implements VoiceService {
      * @throws EntityNotFoundException if voice doesn't exist
      */
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.VOICES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.VOICE_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.USER_VOICES, allEntries = true)
+    })
     public void deleteVoice(Long id) {
         log.debug("Deleting voice: {}", id);
         
@@ -268,18 +298,7 @@ public class VoiceServiceImpl implements VoiceService {
                 log.debug("Deleting generated voice from ElevenLabs first: {}", voice.getExternalVoiceId());
                 
                 try {
-                    RestTemplate restTemplate = new RestTemplate();
-                    HttpHeaders headers = new HttpHeaders();
-                    headers.set("xi-api-key", apiKey);
-                    
-                    HttpEntity<?> requestEntity = new HttpEntity<>(headers);
-                    
-                    restTemplate.exchange(
-                        apiUrl + "/v1/voices/" + voice.getExternalVoiceId(),
-                        HttpMethod.DELETE,
-                        requestEntity,
-                        Void.class
-                    );
+                    elevenLabsClient.deleteVoice(voice.getExternalVoiceId());
                     
                     log.info("Successfully deleted voice from ElevenLabs: {}", voice.getExternalVoiceId());
                 } catch (Exception e) {
@@ -290,6 +309,7 @@ public class VoiceServiceImpl implements VoiceService {
             
             // Now delete from our database
             voiceRepository.deleteById(id);
+            voiceSearchIndex.removeAfterCommit(id);
             log.info("Successfully deleted voice from database: {}", id);
             
         } catch (Exception e) {
@@ -308,6 +328,8 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'type:' + #voiceType + ':gender:' + #gender",
+        condition = "#voiceType != null && #gender != null")
     public List<Voice> getVoicesByTypeAndGender(Voice.VoiceType voiceType, Voice.Gender gender) {
         log.debug("Fetching voices by type: {} and gender: {}", voiceType, gender);
         
@@ -345,11 +367,28 @@ public class VoiceServiceImpl implements VoiceService {
         }
     }
 
+    /**
+     * Copies the client-editable fields of {@code source} onto {@code target}; the id and
+     * timestamps of {@code target} are kept.
+     */
+    private static void copyEditableFields(Voice source, Voice target) {
+        target.setName(source.getName());
+        target.setTags(source.getTags() == null ? null : source.getTags().clone());
+        target.setExternalVoiceId(source.getExternalVoiceId());
+        target.setVoiceType(source.getVoiceType());
+        target.setUserId(source.getUserId());
+        target.setGender(source.getGender());
+        target.setDefault(source.isDefault());
+        target.setAudioPreviewPath(source.getAudioPreviewPath());
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USER_VOICES, key = "#userId + ':type:' + #voiceType",
+        condition = "#userId != null && #voiceType != null")
     public List<Voice> getVoicesByUserIdAndType(String userId, Voice.VoiceType voiceType) {
         log.debug("Fetching voices by user ID: {} and type: {}", userId, voiceType);
         
@@ -365,21 +404,54 @@ public class VoiceServiceImpl implements VoiceService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.VOICES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.VOICE_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.USER_VOICES, allEntries = true)
+    })
     public Voice setDefaultVoice(Voice voice) {
         log.debug("Setting voice {} as default for gender {}", voice.getId(), voice.getGender());
         
+        // Reload rather than flag the given instance, which may be a cached read
+        Voice target = voiceRepository.findById(voice.getId())
+            .orElseThrow(() -> new EntityNotFoundException("Voice not found with ID: " + voice.getId()));
+        
         // First, unset any existing default voice for this gender
-        List<Voice> currentDefaultVoices = voiceRepository.findByGenderAndIsDefaultTrue(voice.getGender());
+        List<Voice> currentDefaultVoices = voiceRepository.findByGenderAndIsDefaultTrue(target.getGender());
         for (Voice defaultVoice : currentDefaultVoices) {
-            if (!defaultVoice.getId().equals(voice.getId())) {
+            if (!defaultVoice.getId().equals(target.getId())) {
                 defaultVoice.setDefault(false);
-                voiceRepository.save(defaultVoice);
+                voiceSearchIndex.upsertAfterCommit(voiceRepository.save(defaultVoice));
             }
         }
         
         // Set the new voice as default
-        voice.setDefault(true);
-        return voiceRepository.save(voice);
+        target.setDefault(true);
+        Voice saved = voiceRepository.save(target);
+        voiceSearchIndex.upsertAfterCommit(saved);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Voice> searchVoices(VoiceSearchCriteria criteria) {
+        log.debug("Searching voices: {}", criteria);
+
+        if (criteria == null) {
+            throw new IllegalArgumentException("Search criteria cannot be null");
+        }
+
+        if (criteria.getCharacteristics() == null && criteria.getParticipantId() != null) {
+            Participant participant = participantRepository.findById(criteria.getParticipantId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                    "Participant not found with ID: " + criteria.getParticipantId()));
+            criteria.setCharacteristics(participant.getVoiceCharacteristics());
+        }
+
+        return voiceSearchIndex.search(criteria);
     }
 
     /**
@@ -387,6 +459,7 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.VOICES, key = "'default:' + #gender", condition = "#gender != null")
     public List<Voice> getVoicesByGenderAndIsDefaultTrue(Voice.Gender gender) {
         log.debug("Fetching default voices for gender: {}", gender);
         
@@ -402,6 +475,8 @@ public class VoiceServiceImpl implements VoiceService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USER_VOICES, key = "#userId + ':default:' + #gender",
+        condition = "#userId != null && #gender != null")
     public List<Voice> getUserDefaultVoicesByGender(String userId, Voice.Gender gender) {
         log.debug("Fetching default voices for user: {} and gender: {}", userId, gender);
         
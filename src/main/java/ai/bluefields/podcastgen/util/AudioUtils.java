@@ -10,9 +10,13 @@ import ws.schild.jave.encode.AudioAttributes;
 import ws.schild.jave.encode.EncodingAttributes;
 import javax.sound.sampled.*;
 import java.io.*;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for audio processing operations.
@@ -325,17 +329,35 @@ public class AudioUtils {
         private final int channels;
         private final int bitRate;
         private final String codec;
+        private final String outputFormat;
+        private final String fileExtension;
+        
+        /**
+         * Spoken word: mono MP3 at 64kbps.
+         */
+        public static final AudioFormatConfig SPEECH = new AudioFormatConfig(44100, 1, 64000, "libmp3lame");
+        
+        /**
+         * Mono MP3 at 96kbps.
+         */
+        public static final AudioFormatConfig STANDARD = new AudioFormatConfig(44100, 1, 96000, "libmp3lame");
+        
+        /**
+         * CD quality stereo MP3 at 192kbps.
+         */
+        public static final AudioFormatConfig ARCHIVAL = new AudioFormatConfig(44100, 2, 192000, "libmp3lame");
+        
+        /**
+         * Mono AAC at 48kbps in an M4A container, for mobile playback.
+         * Uses FFmpeg's built-in AAC encoder, which every FFmpeg build has.
+         */
+        public static final AudioFormatConfig MOBILE = new AudioFormatConfig(44100, 1, 48000, "aac", "ipod", "m4a");
         
         /**
          * Default high-quality audio configuration.
          * CD quality stereo at 192kbps.
          */
-        public static final AudioFormatConfig DEFAULT = new AudioFormatConfig(
-            44100,  // CD quality
-            2,      // Stereo
-            192000, // 192kbps
-            "libmp3lame"
-        );
+        public static final AudioFormatConfig DEFAULT = ARCHIVAL;
         
         /**
          * Creates a new audio format configuration.
@@ -346,13 +368,54 @@ public class AudioUtils {
          * @param codec Audio codec name
          */
         public AudioFormatConfig(int sampleRate, int channels, int bitRate, String codec) {
-            log.debug("Creating AudioFormatConfig: sampleRate={}, channels={}, bitRate={}, codec={}", 
-                sampleRate, channels, bitRate, codec);
+            this(sampleRate, channels, bitRate, codec, "mp3", "mp3");
+        }
+        
+        /**
+         * Creates a new audio format configuration with its own container format.
+         * 
+         * @param sampleRate Sample rate in Hz
+         * @param channels Number of audio channels
+         * @param bitRate Bit rate in bits per second
+         * @param codec Audio codec name
+         * @param outputFormat FFmpeg container format, e.g. {@code mp3} or {@code ipod}
+         * @param fileExtension File name extension of encoded files
+         */
+        public AudioFormatConfig(int sampleRate, int channels, int bitRate, String codec,
+                String outputFormat, String fileExtension) {
+            log.debug("Creating AudioFormatConfig: sampleRate={}, channels={}, bitRate={}, codec={}, format={}", 
+                sampleRate, channels, bitRate, codec, outputFormat);
             
             this.sampleRate = sampleRate;
             this.channels = channels;
             this.bitRate = bitRate;
             this.codec = codec;
+            this.outputFormat = outputFormat;
+            this.fileExtension = fileExtension;
+        }
+        
+        public int getSampleRate() {
+            return sampleRate;
+        }
+        
+        public int getChannels() {
+            return channels;
+        }
+        
+        public int getBitRate() {
+            return bitRate;
+        }
+        
+        public String getCodec() {
+            return codec;
+        }
+        
+        public String getOutputFormat() {
+            return outputFormat;
+        }
+        
+        public String getFileExtension() {
+            return fileExtension;
         }
         
         /**
@@ -373,6 +436,18 @@ public class AudioUtils {
             return attrs;
         }
         
+        /**
+         * Converts configuration to JAVE2 EncodingAttributes, including the container format.
+         * 
+         * @return EncodingAttributes configured according to this format
+         */
+        public EncodingAttributes toEncodingAttributes() {
+            EncodingAttributes attrs = new EncodingAttributes();
+            attrs.setOutputFormat(outputFormat);
+            attrs.setAudioAttributes(toAudioAttributes());
+            return attrs;
+        }
+        
         /**
          * Creates a custom format configuration with validation.
          * 
@@ -409,11 +484,21 @@ public class AudioUtils {
         
         @Override
         public String toString() {
-            return String.format("AudioFormatConfig[%dHz, %dch, %dkbps, %s]", 
-                sampleRate, channels, bitRate/1000, codec);
+            return String.format("AudioFormatConfig[%dHz, %dch, %dkbps, %s, %s]", 
+                sampleRate, channels, bitRate/1000, codec, outputFormat);
         }
     }
     
+    /**
+     * Result of encoding concatenated audio in one format.
+     *
+     * @param format the format the audio was encoded with
+     * @param data the encoded file
+     * @param encodeMillis time spent encoding this format, excluding decoding and concatenation
+     */
+    public record EncodedAudio(AudioFormatConfig format, byte[] data, long encodeMillis) {
+    }
+
     /**
      * Concatenates multiple MP3 files into a single MP3 file.
      * Process: MP3 -> WAV -> Concatenate WAVs -> Convert back to MP3
@@ -436,13 +521,31 @@ public class AudioUtils {
      */
     public static byte[] concatenateMP3Files(List<Path> mp3Files, 
             AudioProcessingProgressListener progressListener) throws Exception {
-        log.debug("Starting MP3 concatenation for {} files", mp3Files.size());
+        return concatenateMP3Files(mp3Files, List.of(AudioFormatConfig.DEFAULT), progressListener).get(0).data();
+    }
+    
+    /**
+     * Concatenates multiple MP3 files and encodes the result in several formats.
+     * Process: MP3 -> WAV -> Concatenate WAVs -> Encode each format in parallel
+     *
+     * @param mp3Files List of paths to MP3 files to concatenate
+     * @param formats Formats to encode, at least one
+     * @param progressListener Optional listener for progress updates
+     * @return the encoded audio, in the order of {@code formats}
+     * @throws Exception if any processing step fails
+     */
+    public static List<EncodedAudio> concatenateMP3Files(List<Path> mp3Files, List<AudioFormatConfig> formats,
+            AudioProcessingProgressListener progressListener) throws Exception {
+        log.debug("Starting MP3 concatenation for {} files", mp3Files == null ? 0 : mp3Files.size());
         
         // Input validation
         if (mp3Files == null || mp3Files.isEmpty()) {
             log.error("No MP3 files provided for concatenation");
             throw new IllegalArgumentException("No MP3 files provided");
         }
+        if (formats == null || formats.isEmpty()) {
+            throw new IllegalArgumentException("No output formats provided");
+        }
         
         // Check total size
         long totalSize = mp3Files.stream()
@@ -505,39 +608,25 @@ public class AudioUtils {
             AudioSystem.write(concatenatedStream, AudioFileFormat.Type.WAVE, concatenatedWav);
             concatenatedStream.close();
             
-            // Convert final WAV to MP3
-            File outputMp3 = new File(tempDir, "final.mp3");
-            
-            AudioAttributes finalAudioAttrs = new AudioAttributes();
-            finalAudioAttrs.setCodec("libmp3lame");
-            finalAudioAttrs.setBitRate(192000);
-            finalAudioAttrs.setChannels(2);
-            finalAudioAttrs.setSamplingRate(44100);
-            
-            EncodingAttributes finalAttrs = new EncodingAttributes();
-            finalAttrs.setOutputFormat("mp3");
-            finalAttrs.setAudioAttributes(finalAudioAttrs);
-            
-            Encoder finalEncoder = new Encoder();
-            finalEncoder.encode(new MultimediaObject(concatenatedWav), outputMp3, finalAttrs);
-            
-            // Verify output
-            if (!outputMp3.exists() || outputMp3.length() == 0) {
-                throw new IOException("MP3 encoding failed - output file is empty or missing");
+            // Encode every format from the same WAV, each in its own FFmpeg process
+            List<Future<EncodedAudio>> encodes = new ArrayList<>();
+            for (int i = 0; i < formats.size(); i++) {
+                AudioFormatConfig format = formats.get(i);
+                File output = new File(tempDir, "final_" + i + "." + format.getFileExtension());
+                encodes.add(executor.submit(() -> encode(concatenatedWav, output, format)));
             }
-            
-            log.debug("Generated MP3 file size: {} bytes", outputMp3.length());
-            
-            // Read final MP3 file
-            byte[] mp3Data = new byte[(int) outputMp3.length()];
-            try (FileInputStream fis = new FileInputStream(outputMp3)) {
-                int bytesRead = fis.read(mp3Data);
-                if (bytesRead != mp3Data.length) {
-                    throw new IOException("Failed to read entire MP3 file");
+            List<EncodedAudio> results = new ArrayList<>();
+            try {
+                for (Future<EncodedAudio> encode : encodes) {
+                    results.add(encode.get());
                 }
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            } finally {
+                // Stop the other encodes before their files are deleted
+                encodes.forEach(encode -> encode.cancel(true));
             }
-            
-            return mp3Data;
+            return results;
             
         } finally {
             // Clean up temporary directory and all files
@@ -545,6 +634,20 @@ public class AudioUtils {
         }
     }
     
+    private static EncodedAudio encode(File wav, File output, AudioFormatConfig format) throws Exception {
+        long start = System.nanoTime();
+        new Encoder().encode(new MultimediaObject(wav), output, format.toEncodingAttributes());
+        
+        // Verify output
+        if (!output.exists() || output.length() == 0) {
+            throw new IOException("Encoding to " + format + " failed - output file is empty or missing");
+        }
+        byte[] data = Files.readAllBytes(output.toPath());
+        long encodeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.debug("Encoded {} bytes with {} in {}ms", data.length, format, encodeMillis);
+        return new EncodedAudio(format, data, encodeMillis);
+    }
+    
     
     private static void deleteDirectory(File dir) {
         if (dir.isDirectory()) {
@@ -0,0 +1,228 @@
+package ai.bluefields.podcastgen.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies RFC 6902 JSON Patch documents. The target is never modified: only the
+ * containers along each changed path are copied (shallowly) and everything else is
+ * shared with the original, so patching one message of a large transcript does not
+ * copy the whole document. Callers must therefore treat both documents as immutable.
+ * <p>
+ * A patch is applied atomically; an invalid operation or a failed {@code test} throws
+ * {@link IllegalArgumentException} and leaves the target untouched.
+ */
+public final class JsonPatch {
+
+    private JsonPatch() {
+    }
+
+    public static JsonNode apply(JsonNode document, JsonNode patch) {
+        if (patch == null || !patch.isArray()) {
+            throw new IllegalArgumentException("JSON Patch must be an array of operations");
+        }
+        JsonNode result = document;
+        for (JsonNode operation : patch) {
+            result = applyOperation(result, operation);
+        }
+        return result;
+    }
+
+    private static JsonNode applyOperation(JsonNode document, JsonNode operation) {
+        String op = requiredText(operation, "op");
+        List<String> path = parsePointer(requiredText(operation, "path"));
+        switch (op) {
+            case "add":
+                return add(document, path, requiredValue(operation));
+            case "remove":
+                return remove(document, path);
+            case "replace":
+                return replace(document, path, requiredValue(operation));
+            case "move": {
+                List<String> from = parsePointer(requiredText(operation, "from"));
+                if (from.equals(path)) {
+                    return document;
+                }
+                if (isProperPrefix(from, path)) {
+                    throw new IllegalArgumentException("Cannot move a value into one of its children");
+                }
+                JsonNode value = get(document, from);
+                return add(remove(document, from), path, value);
+            }
+            case "copy": {
+                // Sharing the copied value is safe because documents are never mutated
+                JsonNode value = get(document, parsePointer(requiredText(operation, "from")));
+                return add(document, path, value);
+            }
+            case "test": {
+                JsonNode expected = requiredValue(operation);
+                if (!expected.equals(get(document, path))) {
+                    throw new IllegalArgumentException("Test failed for path " + operation.get("path").asText());
+                }
+                return document;
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported JSON Patch operation: " + op);
+        }
+    }
+
+    private static JsonNode add(JsonNode document, List<String> path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value;
+        }
+        return update(document, path, 0, (container, token) -> {
+            if (container instanceof ObjectNode object) {
+                object.set(token, value);
+            } else {
+                ArrayNode array = (ArrayNode) container;
+                if ("-".equals(token)) {
+                    array.add(value);
+                } else {
+                    array.insert(index(token, array.size() + 1), value);
+                }
+            }
+        });
+    }
+
+    private static JsonNode remove(JsonNode document, List<String> path) {
+        if (path.isEmpty()) {
+            throw new IllegalArgumentException("Cannot remove the document root");
+        }
+        return update(document, path, 0, (container, token) -> {
+            if (container instanceof ObjectNode object) {
+                if (!object.has(token)) {
+                    throw new IllegalArgumentException("No value to remove at " + token);
+                }
+                object.remove(token);
+            } else {
+                ArrayNode array = (ArrayNode) container;
+                array.remove(index(token, array.size()));
+            }
+        });
+    }
+
+    private static JsonNode replace(JsonNode document, List<String> path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value;
+        }
+        return update(document, path, 0, (container, token) -> {
+            if (container instanceof ObjectNode object) {
+                if (!object.has(token)) {
+                    throw new IllegalArgumentException("No value to replace at " + token);
+                }
+                object.set(token, value);
+            } else {
+                ArrayNode array = (ArrayNode) container;
+                array.set(index(token, array.size()), value);
+            }
+        });
+    }
+
+    /**
+     * Returns a copy of {@code node} in which the parent of the target location has been
+     * changed by {@code change}; only the containers on the path are copied.
+     */
+    private static JsonNode update(JsonNode node, List<String> path, int depth, ContainerChange change) {
+        if (node == null || !node.isContainerNode()) {
+            throw new IllegalArgumentException("Path does not exist: /" + String.join("/", path.subList(0, depth)));
+        }
+        JsonNode copy = shallowCopy(node);
+        String token = path.get(depth);
+        if (depth == path.size() - 1) {
+            change.apply(copy, token);
+        } else {
+            JsonNode child = child(node, token);
+            JsonNode updatedChild = update(child, path, depth + 1, change);
+            if (copy instanceof ObjectNode object) {
+                object.set(token, updatedChild);
+            } else {
+                ((ArrayNode) copy).set(index(token, copy.size()), updatedChild);
+            }
+        }
+        return copy;
+    }
+
+    private static JsonNode get(JsonNode document, List<String> path) {
+        JsonNode node = document;
+        for (String token : path) {
+            node = node != null && node.isContainerNode() ? child(node, token) : null;
+            if (node == null) {
+                throw new IllegalArgumentException("Path does not exist: /" + String.join("/", path));
+            }
+        }
+        return node;
+    }
+
+    private static JsonNode child(JsonNode container, String token) {
+        if (container.isObject()) {
+            return container.get(token);
+        }
+        return container.get(index(token, container.size()));
+    }
+
+    private static JsonNode shallowCopy(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode copy = JsonNodeFactory.instance.objectNode();
+            copy.setAll((ObjectNode) node);
+            return copy;
+        }
+        ArrayNode copy = JsonNodeFactory.instance.arrayNode(node.size());
+        copy.addAll((ArrayNode) node);
+        return copy;
+    }
+
+    private static int index(String token, int limit) {
+        if (token.isEmpty() || !token.chars().allMatch(Character::isDigit)
+                || (token.length() > 1 && token.charAt(0) == '0') || token.length() > 9) {
+            throw new IllegalArgumentException("Invalid array index: " + token);
+        }
+        int index = Integer.parseInt(token);
+        if (index >= limit) {
+            throw new IllegalArgumentException("Array index out of bounds: " + token);
+        }
+        return index;
+    }
+
+    private static List<String> parsePointer(String pointer) {
+        List<String> tokens = new ArrayList<>();
+        if (pointer.isEmpty()) {
+            return tokens;
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("Invalid JSON Pointer: " + pointer);
+        }
+        for (String token : pointer.substring(1).split("/", -1)) {
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+
+    private static boolean isProperPrefix(List<String> prefix, List<String> path) {
+        return prefix.size() < path.size() && path.subList(0, prefix.size()).equals(prefix);
+    }
+
+    private static String requiredText(JsonNode operation, String field) {
+        JsonNode value = operation.get(field);
+        if (value == null || !value.isTextual()) {
+            throw new IllegalArgumentException("JSON Patch operation is missing '" + field + "'");
+        }
+        return value.asText();
+    }
+
+    private static JsonNode requiredValue(JsonNode operation) {
+        if (!operation.has("value")) {
+            throw new IllegalArgumentException("JSON Patch operation is missing 'value'");
+        }
+        return operation.get("value");
+    }
+
+    @FunctionalInterface
+    private interface ContainerChange {
+        void apply(JsonNode container, String token);
+    }
+}
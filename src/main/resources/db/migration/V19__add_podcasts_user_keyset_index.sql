@@ -0,0 +1,5 @@
+-- Supports the per-user podcast listing ordered by (created_at, id) and its keyset pagination
+CREATE INDEX idx_podcasts_user_created_id ON podcasts(user_id, created_at DESC, id DESC);
+
+-- Lets the latest-audio lookup per podcast read a single index entry
+CREATE INDEX idx_audios_podcast_id_id ON audios(podcast_id, id DESC);
@@ -0,0 +1,26 @@
+CREATE TABLE transcript_messages (
+    id BIGSERIAL PRIMARY KEY,
+    transcript_id BIGINT NOT NULL,
+    ordinal INTEGER NOT NULL,
+    participant_id BIGINT,
+    content TEXT NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    timing INTEGER,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_transcript_messages_transcript
+        FOREIGN KEY (transcript_id)
+        REFERENCES transcripts(id)
+        ON DELETE CASCADE
+);
+
+-- Messages are always read and edited by position within their transcript
+CREATE UNIQUE INDEX idx_transcript_messages_transcript_ordinal ON transcript_messages(transcript_id, ordinal);
+
+CREATE TRIGGER update_transcript_messages_updated_at
+    BEFORE UPDATE ON transcript_messages
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON TABLE transcript_messages IS 'Normalized transcript messages, used instead of transcripts.content->messages when app.transcript.normalized-storage is enabled';
+COMMENT ON COLUMN transcript_messages.content_hash IS 'SHA-256 of the message content, used to detect edited messages';
@@ -0,0 +1,2 @@
+-- Version of the transcript content, used for If-Match checks on PATCH and PUT
+ALTER TABLE transcripts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
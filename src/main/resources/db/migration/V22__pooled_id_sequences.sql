@@ -0,0 +1,12 @@
+-- Participants, audios and voices get their ids from Hibernate's pooled optimizer, which
+-- reserves a block of 50 ids per sequence call so inserts can be sent as JDBC batches.
+-- The returned value is the upper end of the block, so each sequence restarts past the
+-- current maximum id. Plain SQL inserts using the column default stay collision-free.
+ALTER SEQUENCE participants_id_seq INCREMENT BY 50;
+SELECT setval('participants_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM participants), 1));
+
+ALTER SEQUENCE audios_id_seq INCREMENT BY 50;
+SELECT setval('audios_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM audios), 1));
+
+ALTER SEQUENCE voices_id_seq INCREMENT BY 50;
+SELECT setval('voices_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM voices), 1));
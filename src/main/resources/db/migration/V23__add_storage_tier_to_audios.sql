@@ -0,0 +1,6 @@
+-- Where an output file lives: HOT in the audio storage, COLD compressed in the cold directory.
+-- tier_changed_at is set on every move, so a restored file stays hot for a full tiering period.
+ALTER TABLE audios ADD COLUMN storage_tier VARCHAR(16) NOT NULL DEFAULT 'HOT';
+ALTER TABLE audios ADD COLUMN tier_changed_at TIMESTAMP;
+
+CREATE INDEX idx_audios_hot_created_at ON audios (created_at) WHERE storage_tier = 'HOT';
@@ -0,0 +1,10 @@
+-- Encoding profile chosen for a podcast; NULL uses the configured default
+ALTER TABLE podcasts ADD COLUMN encoding_profile VARCHAR(16);
+
+-- Profile an output was encoded with. Renditions are extra encodings of the same generation
+-- run (e.g. for mobile) and are never the podcast's main audio.
+ALTER TABLE audios ADD COLUMN encoding_profile VARCHAR(16);
+ALTER TABLE audios ADD COLUMN rendition BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Everything encoded so far used 192 kbps stereo MP3
+UPDATE audios SET encoding_profile = 'ARCHIVAL';
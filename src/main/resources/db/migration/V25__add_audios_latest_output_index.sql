@@ -0,0 +1,4 @@
+-- The latest main output of a podcast is the newest by created_at (ids come from pooled
+-- sequences and are not in insert order across nodes); replaces the (podcast_id, id) index
+CREATE INDEX idx_audios_podcast_latest ON audios(podcast_id, created_at DESC, id DESC) WHERE rendition = FALSE;
+DROP INDEX IF EXISTS idx_audios_podcast_id_id;
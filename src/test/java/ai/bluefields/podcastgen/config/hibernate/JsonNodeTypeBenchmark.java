@@ -0,0 +1,106 @@
+package ai.bluefields.podcastgen.config.hibernate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-transaction cost of the transcript user type: the snapshot copy
+ * Hibernate takes on load plus the dirty check on flush. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=ai.bluefields.podcastgen.config.hibernate.JsonNodeTypeBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonNodeTypeBenchmark {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Param({"10", "50", "100", "500"})
+    public int messages;
+
+    private JsonNode transcript;
+    private JsonNode editedTranscript;
+    private JsonNodeType mutableType;
+    private JsonNodeType immutableType;
+
+    @Setup
+    public void setUp() {
+        transcript = transcript(messages, "");
+        editedTranscript = transcript(messages, " (edited)");
+
+        mutableType = new JsonNodeType();
+        mutableType.setParameterValues(new Properties());
+        immutableType = new JsonNodeType();
+        Properties immutable = new Properties();
+        immutable.setProperty(JsonNodeType.IMMUTABLE, "true");
+        immutableType.setParameterValues(immutable);
+    }
+
+    @Benchmark
+    public boolean legacyStringRoundTrip() throws Exception {
+        // Previous implementation: snapshot through toString() and readTree()
+        JsonNode snapshot = mapper.readTree(transcript.toString());
+        return snapshot.equals(transcript);
+    }
+
+    @Benchmark
+    public boolean structuralCopy() {
+        JsonNode snapshot = mutableType.deepCopy(transcript);
+        return mutableType.equals(snapshot, transcript);
+    }
+
+    @Benchmark
+    public boolean immutableUnchanged() {
+        JsonNode snapshot = immutableType.deepCopy(transcript);
+        return immutableType.equals(snapshot, transcript);
+    }
+
+    @Benchmark
+    public boolean immutableReplaced() {
+        JsonNode snapshot = immutableType.deepCopy(transcript);
+        return immutableType.equals(snapshot, editedTranscript);
+    }
+
+    private static JsonNode transcript(int messageCount, String suffix) {
+        ObjectNode content = mapper.createObjectNode();
+        ArrayNode messages = content.putArray("messages");
+        for (int i = 0; i < messageCount; i++) {
+            ObjectNode message = messages.addObject();
+            message.put("participantId", i % 3 + 1);
+            message.put("content", "This is sentence number " + i
+                + " of a transcript that is long enough to look like real dialogue." + suffix);
+            message.put("timing", i * 12);
+        }
+        return content;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(JsonNodeTypeBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,52 @@
+package ai.bluefields.podcastgen.model;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate's pooled optimizer assumes the database sequence advances by exactly the
+ * allocation size; a mismatch hands out overlapping ids, so keep both in sync.
+ */
+class EntityIdGenerationTest {
+
+    private static final String MIGRATION = "/db/migration/V22__pooled_id_sequences.sql";
+
+    @ParameterizedTest
+    @ValueSource(classes = {Participant.class, Audio.class, Voice.class})
+    void pooledSequence_ShouldMatchMigrationIncrement(Class<?> entity) throws Exception {
+        Field id = Arrays.stream(entity.getDeclaredFields())
+            .filter(field -> field.isAnnotationPresent(Id.class))
+            .findFirst()
+            .orElseThrow();
+        GeneratedValue generatedValue = id.getAnnotation(GeneratedValue.class);
+        SequenceGenerator sequence = id.getAnnotation(SequenceGenerator.class);
+
+        assertThat(generatedValue.strategy()).isEqualTo(GenerationType.SEQUENCE);
+        assertThat(sequence).isNotNull();
+        assertThat(sequence.allocationSize()).isGreaterThan(1);
+        assertThat(migrationIncrement(sequence.sequenceName())).isEqualTo(sequence.allocationSize());
+    }
+
+    private int migrationIncrement(String sequenceName) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream(MIGRATION)) {
+            assertThat(in).as(MIGRATION).isNotNull();
+            String sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = Pattern.compile("ALTER SEQUENCE " + sequenceName + " INCREMENT BY (\\d+)").matcher(sql);
+            assertThat(matcher.find()).as("INCREMENT BY for " + sequenceName).isTrue();
+            return Integer.parseInt(matcher.group(1));
+        }
+    }
+}
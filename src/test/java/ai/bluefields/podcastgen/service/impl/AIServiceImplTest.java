@@ -0,0 +1,141 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.Participant;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AIServiceImplTest {
+
+    private static final String OUTLINE = """
+        {"sections": [
+            {"title": "Intro", "summary": "Why it matters", "durationSeconds": 360},
+            {"title": "Outlook", "summary": "What comes next", "durationSeconds": 360}
+        ]}
+        """;
+    private static final String FIRST_SECTION = """
+        {"transcript": [
+            {"speakerName": "Host", "timeOffset": 100, "duration": 10, "text": "Welcome to the show"},
+            {"speakerName": "Guest", "timeOffset": 5, "duration": 20, "text": "Thanks for having me"}
+        ]}
+        """;
+    private static final String SECOND_SECTION = """
+        ```json
+        {"transcript": [
+            {"speakerName": "Host", "timeOffset": 0, "text": "That is all for today"}
+        ]}
+        ```
+        """;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChatClient chatClient;
+
+    private AIServiceImpl aiService;
+    private List<Participant> participants;
+
+    @BeforeEach
+    void setUp() {
+        aiService = new AIServiceImpl(chatClient, new ObjectMapper(), null, null, null, null);
+        ReflectionTestUtils.setField(aiService, "sectionedThresholdMinutes", 10);
+        ReflectionTestUtils.setField(aiService, "sectionLengthMinutes", 6);
+        participants = List.of(participant("Host", "Interviewer"), participant("Guest", "Expert"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiService.destroy();
+    }
+
+    @Test
+    void generateTranscript_WhenLong_ShouldGenerateSectionsFromOutlineAndMergeThem() {
+        stubPrompt("Plan the structure", OUTLINE);
+        stubPrompt("Write section 1 of 2", FIRST_SECTION);
+        stubPrompt("Write section 2 of 2", SECOND_SECTION);
+
+        JsonNode transcript = aiService.generateTranscript("Title", "Description", "Context", participants, 12);
+
+        JsonNode segments = transcript.get("transcript");
+        assertThat(segments).hasSize(3);
+        assertThat(segments.get(0).get("speakerName").asText()).isEqualTo("Host");
+        assertThat(segments.get(1).get("speakerName").asText()).isEqualTo("Guest");
+        // Offsets run on from the previous section regardless of what the model returned
+        assertThat(segments.get(0).get("timeOffset").asInt()).isZero();
+        assertThat(segments.get(1).get("timeOffset").asInt()).isEqualTo(10);
+        assertThat(segments.get(2).get("timeOffset").asInt()).isEqualTo(30);
+        // Five words at the assumed speaking rate
+        assertThat(segments.get(2).get("duration").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void generateTranscript_WhenSectionResponseIsNotJson_ShouldRetryTheSection() {
+        stubPrompt("Plan the structure", OUTLINE);
+        stubPrompt("Write section 1 of 2", FIRST_SECTION);
+        ChatResponse garbled = response("Sorry, I cannot help with that.");
+        ChatResponse valid = response(SECOND_SECTION);
+        when(chatClient.prompt().user(contains("Write section 2 of 2")).call().chatResponse())
+            .thenReturn(garbled, valid);
+
+        JsonNode transcript = aiService.generateTranscript("Title", "Description", "Context", participants, 12);
+
+        JsonNode segments = transcript.get("transcript");
+        assertThat(segments).hasSize(3);
+        assertThat(segments.get(2).get("text").asText()).isEqualTo("That is all for today");
+        assertThat(segments).noneMatch(segment -> segment.get("text").asText().contains("Sorry"));
+    }
+
+    @Test
+    void generateTranscript_WhenSectionKeepsFailing_ShouldFailInsteadOfInventingSegments() {
+        stubPrompt("Plan the structure", OUTLINE);
+        stubPrompt("Write section", "{\"transcript\": []}");
+
+        assertThatThrownBy(() -> aiService.generateTranscript("Title", "Description", "Context", participants, 12))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to generate transcript section");
+    }
+
+    @Test
+    void generateTranscript_WhenOutlineIsUnusable_ShouldFallBackToSinglePass() {
+        stubPrompt("Plan the structure", "not an outline");
+        stubPrompt("Create an entertaining podcast transcript", FIRST_SECTION);
+
+        JsonNode transcript = aiService.generateTranscript("Title", "Description", "Context", participants, 12);
+
+        assertThat(transcript.get("transcript")).hasSize(2);
+        verify(chatClient.prompt(), never()).user(contains("Write section"));
+    }
+
+    private void stubPrompt(String promptPart, String content) {
+        ChatResponse response = response(content);
+        when(chatClient.prompt().user(contains(promptPart)).call().chatResponse()).thenReturn(response);
+    }
+
+    private static ChatResponse response(String content) {
+        ChatResponse response = mock(ChatResponse.class, RETURNS_DEEP_STUBS);
+        when(response.getResult().getOutput().getContent()).thenReturn(content);
+        return response;
+    }
+
+    private static Participant participant(String name, String roleDescription) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        participant.setRoleDescription(roleDescription);
+        return participant;
+    }
+}
@@ -2,6 +2,7 @@ package ai.bluefields.podcastgen.service.impl;
 
 import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
 import ai.bluefields.podcastgen.model.Audio;
+import ai.bluefields.podcastgen.model.Podcast;
 import ai.bluefields.podcastgen.repository.AudioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,12 @@ class AudioServiceImplTest {
     @Mock
     private AudioRepository audioRepository;
 
+    @Mock
+    private OrphanFileReconciler orphanFileReconciler;
+
+    @Mock
+    private GenerationProgressBuffer progressBuffer;
+
     @InjectMocks
     private AudioServiceImpl audioService;
 
@@ -136,23 +143,37 @@ class AudioServiceImplTest {
     // Delete operations
     @Test
     void deleteAudio_WhenAudioExists_ShouldDeleteAudio() {
-        when(audioRepository.existsById(1L)).thenReturn(true);
+        when(audioRepository.findById(1L)).thenReturn(Optional.of(audio));
         
         audioService.deleteAudio(1L);
 
-        verify(audioRepository).existsById(1L);
+        verify(audioRepository).findById(1L);
         verify(audioRepository).deleteById(1L);
+        verify(orphanFileReconciler).deleteAfterCommit("/path/to/audio.mp3");
+    }
+
+    @Test
+    void deleteAudio_WhenAudioBelongsToPodcast_ShouldForgetBufferedProgress() {
+        Podcast podcast = new Podcast();
+        podcast.setId(7L);
+        audio.setPodcast(podcast);
+        when(audioRepository.findById(1L)).thenReturn(Optional.of(audio));
+
+        audioService.deleteAudio(1L);
+
+        verify(progressBuffer).clear(7L);
     }
 
     @Test
     void deleteAudio_WhenAudioDoesNotExist_ShouldThrowException() {
-        when(audioRepository.existsById(1L)).thenReturn(false);
+        when(audioRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> audioService.deleteAudio(1L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Audio");
 
-        verify(audioRepository).existsById(1L);
+        verify(audioRepository).findById(1L);
         verify(audioRepository, never()).deleteById(any());
+        verifyNoInteractions(orphanFileReconciler);
     }
 }
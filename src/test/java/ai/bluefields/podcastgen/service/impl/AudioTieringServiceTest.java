@@ -0,0 +1,140 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.config.ColdStorageProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AudioTieringServiceTest {
+
+    private static final String KEY = "podcasts/1/output/podcast_1.mp3";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrphanFileReconciler orphanFileReconciler;
+
+    @TempDir
+    Path baseDir;
+
+    private final CountDownLatch restoreGate = new CountDownLatch(1);
+    private InMemoryAudioStorage audioStorage;
+    private ColdAudioStore coldAudioStore;
+    private SimpleMeterRegistry meterRegistry;
+    private AudioTieringService tieringService;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setBasePath(baseDir.toString());
+        ColdStorageProperties properties = new ColdStorageProperties();
+        properties.setChunkSize(2);
+        audioStorage = new InMemoryAudioStorage() {
+            @Override
+            public void put(String key, InputStream data, long size) throws IOException {
+                // Holds restores until the test lets them finish
+                try {
+                    restoreGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.put(key, data, size);
+            }
+        };
+        coldAudioStore = new ColdAudioStore(appProperties, properties);
+        meterRegistry = new SimpleMeterRegistry();
+        tieringService = new AudioTieringService(jdbcTemplate, transactionManager, audioStorage, coldAudioStore,
+            orphanFileReconciler, properties, meterRegistry);
+    }
+
+    @Test
+    void archive_ShouldCompressOutputMarkColdAndDropSegments() throws Exception {
+        audioStorage.put(KEY, new byte[]{1, 2, 3}, Instant.now());
+        stubCandidates(new AudioTieringService.Candidate(5L, KEY, 1L));
+        when(jdbcTemplate.update(contains("storage_tier = 'COLD'"), any(Object[].class))).thenReturn(1);
+        when(jdbcTemplate.queryForList(contains("DELETE FROM podcast_audio_segments"), eq(String.class),
+                any(Object[].class)))
+            .thenReturn(List.of("pack:podcasts/1/segments/segments_9.pack#0+10",
+                "pack:podcasts/1/segments/segments_9.pack#10+5"));
+
+        AudioTieringService.Result result = tieringService.archive();
+
+        assertThat(result).isEqualTo(new AudioTieringService.Result(1, 0, false));
+        assertThat(audioStorage.exists(KEY)).isFalse();
+        try (InputStream cold = coldAudioStore.open(KEY).orElseThrow()) {
+            assertThat(cold.readAllBytes()).containsExactly(1, 2, 3);
+        }
+        verify(orphanFileReconciler).deleteAfterCommit("podcasts/1/segments/segments_9.pack");
+        verify(transactionManager).commit(any());
+        assertThat(meterRegistry.get("app.storage.tiered.files").tag("tier", "cold").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void archive_WhenOutputMissing_ShouldSkipIt() {
+        stubCandidates(new AudioTieringService.Candidate(5L, KEY, 1L));
+
+        AudioTieringService.Result result = tieringService.archive();
+
+        assertThat(result).isEqualTo(new AudioTieringService.Result(0, 1, false));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verifyNoInteractions(transactionManager, orphanFileReconciler);
+    }
+
+    @Test
+    void requestRestore_ShouldShareOneRestoreBetweenConcurrentRequests() throws Exception {
+        coldAudioStore.archive(KEY, new ByteArrayInputStream(new byte[]{4, 5}));
+
+        assertThat(tieringService.requestRestore(KEY)).isEqualTo(AudioTieringService.Availability.RESTORING);
+        assertThat(tieringService.requestRestore(KEY)).isEqualTo(AudioTieringService.Availability.RESTORING);
+        restoreGate.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coldAudioStore.exists(KEY) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(audioStorage.get(KEY)).hasValue(new byte[]{4, 5});
+        assertThat(coldAudioStore.exists(KEY)).isFalse();
+        assertThat(tieringService.requestRestore(KEY)).isEqualTo(AudioTieringService.Availability.HOT);
+        verify(jdbcTemplate, times(1)).update(contains("storage_tier = 'HOT'"), any(Object[].class));
+    }
+
+    @Test
+    void requestRestore_WhenNoCopyAnywhere_ShouldReportMissing() {
+        assertThat(tieringService.requestRestore(KEY)).isEqualTo(AudioTieringService.Availability.MISSING);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubCandidates(AudioTieringService.Candidate... candidates) {
+        when(jdbcTemplate.query(contains("FROM audios a"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of(candidates));
+    }
+}
@@ -0,0 +1,109 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ElevenLabsResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElevenLabsCircuitBreakerTest {
+
+    private ElevenLabsResilienceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ElevenLabsCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ElevenLabsResilienceProperties();
+        properties.getCircuitBreaker().setWindowSize(10);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setFailureRateThreshold(0.5);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(50));
+        properties.getCircuitBreaker().setHalfOpenCalls(2);
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new ElevenLabsCircuitBreaker(properties, meterRegistry);
+    }
+
+    @Test
+    void recordFailure_WhenThresholdExceeded_ShouldOpenAndRejectCalls() {
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure(new ResourceAccessException("timeout"));
+        assertThat(circuitBreaker.isOpen()).isFalse();
+
+        circuitBreaker.recordFailure(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(meterRegistry.get("elevenlabs.circuit.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("elevenlabs.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void recordFailure_WhenClientError_ShouldNotCountAgainstProvider() {
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.recordFailure(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        }
+
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    void tryAcquirePermission_WhenOpenDurationElapsed_ShouldCloseAfterSuccessfulTrials() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.recordFailure(new ResourceAccessException("timeout"));
+        }
+        assertThat(circuitBreaker.isOpen()).isTrue();
+
+        Thread.sleep(60);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(ElevenLabsCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ElevenLabsCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void recordFailure_WhenTrialCallFails_ShouldReopen() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.recordFailure(new ResourceAccessException("timeout"));
+        }
+        Thread.sleep(60);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        circuitBreaker.recordFailure(new ResourceAccessException("timeout"));
+
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    void releasePermission_WhenTrialCallWasNeverMade_ShouldHandBackTheTrialPermit() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.recordFailure(new ResourceAccessException("timeout"));
+        }
+        Thread.sleep(60);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.releasePermission();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ElevenLabsCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+}
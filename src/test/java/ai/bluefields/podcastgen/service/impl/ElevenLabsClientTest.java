@@ -0,0 +1,150 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ElevenLabsClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElevenLabsClientTest {
+
+    private static final int SEGMENTS = 20;
+    private static final byte[] AUDIO = new byte[]{1, 2, 3, 4};
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private ElevenLabsClient client;
+    private SimpleMeterRegistry meterRegistry;
+    private String baseUrl;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/text-to-speech/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getResponseHeaders().add("request-id", "req-1");
+            exchange.sendResponseHeaders(200, AUDIO.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(AUDIO);
+            }
+        });
+        server.createContext("/v1/voices/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(50);
+            inFlight.decrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        ElevenLabsClientProperties properties = new ElevenLabsClientProperties();
+        properties.setBaseUrl(baseUrl);
+        meterRegistry = new SimpleMeterRegistry();
+        client = new ElevenLabsClient(properties, meterRegistry, "test-key");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void textToSpeech_ShouldReuseKeptAliveConnection() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            ResponseEntity<byte[]> response = client.textToSpeech("voice", "{\"text\":\"hello\"}");
+
+            assertThat(response.getBody()).isEqualTo(AUDIO);
+            assertThat(response.getHeaders().getFirst("request-id")).isEqualTo("req-1");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(meterRegistry.get("elevenlabs.client.requests")
+            .tag("operation", "text-to-speech")
+            .timer()
+            .count()).isEqualTo(SEGMENTS);
+    }
+
+    @Test
+    void textToSpeech_ShouldReuseOneConnectionUnlikeClientPerCall() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            client.textToSpeech("voice", "{}");
+        }
+        int pooledConnections = clientPorts.size();
+        clientPorts.clear();
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            callWithFreshClient();
+        }
+
+        assertThat(pooledConnections).isEqualTo(1);
+        assertThat(clientPorts).hasSize(SEGMENTS);
+    }
+
+    @Test
+    void execute_ShouldNotExceedSharedConcurrencyLimit() throws Exception {
+        ElevenLabsClientProperties properties = new ElevenLabsClientProperties();
+        properties.setBaseUrl(baseUrl);
+        properties.setMaxConcurrentRequests(2);
+        ElevenLabsClient limited = new ElevenLabsClient(properties, new SimpleMeterRegistry(), "test-key");
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            List<CompletableFuture<Void>> calls = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                calls.add(CompletableFuture.runAsync(() -> limited.deleteVoice("voice"), callers));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            callers.shutdownNow();
+            limited.destroy();
+        }
+
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    private void callWithFreshClient() {
+        // Mirrors the previous behaviour: a new RestTemplate (and connection) per call
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+        restTemplate.exchange(baseUrl + "/v1/text-to-speech/voice", HttpMethod.POST,
+            new HttpEntity<>("{}", headers), byte[].class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
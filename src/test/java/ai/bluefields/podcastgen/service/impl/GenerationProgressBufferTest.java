@@ -0,0 +1,72 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.GenerationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationProgressBufferTest {
+
+    private GenerationProgressBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new GenerationProgressBuffer(3, Duration.ofHours(1));
+    }
+
+    @Test
+    void record_ShouldAssignIncreasingEventIdsAndKeepOnlyLatestEvents() {
+        for (int i = 0; i < 5; i++) {
+            buffer.record(1L, new GenerationStatus("GENERATING_SEGMENTS", 40 + i, "segment " + i, null));
+        }
+
+        List<GenerationStatus> snapshot = buffer.snapshot(1L);
+
+        assertThat(snapshot).extracting(GenerationStatus::getProgress).containsExactly(42, 43, 44);
+        assertThat(snapshot).extracting(GenerationStatus::getEventId).isSorted().doesNotHaveDuplicates();
+        assertThat(buffer.latest(1L)).get().extracting(GenerationStatus::getProgress).isEqualTo(44);
+        assertThat(buffer.snapshot(2L)).isEmpty();
+    }
+
+    @Test
+    void eventsAfter_ShouldReturnOnlyNewerEvents() {
+        GenerationStatus first = buffer.record(1L, new GenerationStatus("QUEUED", 0, "queued", null));
+        buffer.record(1L, new GenerationStatus("GENERATING_VOICES", 20, "voices", null));
+        buffer.record(1L, new GenerationStatus("COMPLETED", 100, "done", "/api/audio/x.mp3"));
+
+        assertThat(buffer.eventsAfter(1L, first.getEventId()))
+            .extracting(GenerationStatus::getStatus)
+            .containsExactly("GENERATING_VOICES", "COMPLETED");
+    }
+
+    @Test
+    void startRun_ShouldDropEarlierEventsButKeepEventIdsIncreasing() {
+        GenerationStatus done = buffer.record(1L, new GenerationStatus("COMPLETED", 100, "done", null));
+
+        buffer.startRun(1L);
+        GenerationStatus queued = buffer.record(1L, new GenerationStatus("QUEUED", 0, "queued", null));
+
+        assertThat(buffer.snapshot(1L)).containsExactly(queued);
+        assertThat(queued.getEventId()).isGreaterThan(done.getEventId());
+    }
+
+    @Test
+    void currentRun_ShouldSkipEventsOfEarlierRunsButKeepAFinishedLatestRun() {
+        buffer = new GenerationProgressBuffer(10, Duration.ofHours(1));
+        buffer.record(1L, new GenerationStatus("QUEUED", 0, "queued", null));
+        buffer.record(1L, new GenerationStatus("ERROR", 0, "failed", null));
+        buffer.record(1L, new GenerationStatus("QUEUED", 0, "queued again", null));
+
+        assertThat(buffer.currentRun(1L)).extracting(GenerationStatus::getMessage).containsExactly("queued again");
+
+        buffer.record(1L, new GenerationStatus("COMPLETED", 100, "done", "/api/audio/x.mp3"));
+
+        assertThat(buffer.currentRun(1L)).extracting(GenerationStatus::getMessage)
+            .containsExactly("queued again", "done");
+        assertThat(buffer.currentRun(2L)).isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ElevenLabsResilienceProperties;
+import ai.bluefields.podcastgen.config.GenerationSchedulerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationSchedulerTest {
+
+    private GenerationSchedulerProperties properties;
+    private ElevenLabsCircuitBreaker circuitBreaker;
+    private GenerationScheduler scheduler;
+    private final List<Long> startOrder = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        properties = new GenerationSchedulerProperties();
+        properties.setWorkers(1);
+        properties.setPerUserInFlightLimit(1);
+        properties.setShortestFirst(true);
+        ElevenLabsResilienceProperties resilience = new ElevenLabsResilienceProperties();
+        resilience.getCircuitBreaker().setMinimumCalls(1);
+        resilience.getCircuitBreaker().setOpenDuration(Duration.ofMillis(200));
+        resilience.getCircuitBreaker().setHalfOpenCalls(1);
+        circuitBreaker = new ElevenLabsCircuitBreaker(resilience, new SimpleMeterRegistry());
+        scheduler = new GenerationScheduler(properties, circuitBreaker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.destroy();
+        circuitBreaker.destroy();
+    }
+
+    @Test
+    void submit_WhenOneUserHasBacklog_ShouldServeOtherUsersRoundRobin() throws Exception {
+        CompletableFuture<Void> blocker = scheduler.submit("user-a", 1L, 5, blockingTask(1L), null);
+        scheduler.submit("user-a", 2L, 5, task(2L), null);
+        scheduler.submit("user-a", 3L, 5, task(3L), null);
+        CompletableFuture<Void> last = scheduler.submit("user-b", 4L, 5, task(4L), null);
+
+        assertThat(scheduler.getQueuePosition(4L).position()).isEqualTo(2);
+
+        release.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        last.get(5, TimeUnit.SECONDS);
+        scheduler.submit("user-a", 99L, 5, task(99L), null).get(5, TimeUnit.SECONDS);
+
+        assertThat(startOrder).startsWith(1L, 2L, 4L, 3L);
+    }
+
+    @Test
+    void submit_WhenShortestFirst_ShouldStartShorterPodcastOfSameUserFirst() throws Exception {
+        scheduler.submit("user-a", 1L, 5, blockingTask(1L), null);
+        scheduler.submit("user-a", 2L, 30, task(2L), null);
+        CompletableFuture<Void> shortJob = scheduler.submit("user-a", 3L, 3, task(3L), null);
+
+        GenerationScheduler.QueuePosition position = scheduler.getQueuePosition(3L);
+        assertThat(position.position()).isEqualTo(1);
+        assertThat(position.estimatedStartSeconds()).isPositive();
+
+        release.countDown();
+        shortJob.get(5, TimeUnit.SECONDS);
+        scheduler.submit("user-a", 99L, 5, task(99L), null).get(5, TimeUnit.SECONDS);
+
+        assertThat(startOrder).startsWith(1L, 3L, 2L);
+    }
+
+    @Test
+    void cancel_WhenJobQueued_ShouldRemoveItAndNotifyOthers() {
+        List<GenerationScheduler.QueuePosition> updates = new CopyOnWriteArrayList<>();
+        scheduler.submit("user-a", 1L, 5, blockingTask(1L), null);
+        CompletableFuture<Void> cancelled = scheduler.submit("user-b", 2L, 5, task(2L), null);
+        scheduler.submit("user-c", 3L, 5, task(3L), updates::add);
+
+        assertThat(scheduler.cancel(2L)).isTrue();
+
+        assertThat(cancelled).isCancelled();
+        assertThat(scheduler.getQueuePosition(3L).position()).isEqualTo(1);
+        assertThat(updates).last().extracting(GenerationScheduler.QueuePosition::position).isEqualTo(1);
+        assertThat(scheduler.cancel(1L)).isFalse();
+    }
+
+    @Test
+    void park_WhenCircuitRecovers_ShouldResumeOneJobWhenHalfOpenAndTheRestWhenClosed() throws Exception {
+        List<Long> resumed = new CopyOnWriteArrayList<>();
+        circuitBreaker.recordFailure(new ResourceAccessException("timeout"));
+        scheduler.park(1L, () -> resumed.add(1L));
+        scheduler.park(2L, () -> resumed.add(2L));
+        scheduler.park(3L, () -> resumed.add(3L));
+        assertThat(scheduler.cancel(3L)).isTrue();
+
+        awaitSize(resumed, 1);
+        assertThat(circuitBreaker.getState()).isEqualTo(ElevenLabsCircuitBreaker.State.HALF_OPEN);
+        assertThat(resumed).containsExactly(1L);
+        assertThat(scheduler.getParkedCount()).isEqualTo(1);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.recordSuccess();
+
+        awaitSize(resumed, 2);
+        assertThat(resumed).containsExactly(1L, 2L);
+        assertThat(scheduler.getParkedCount()).isZero();
+    }
+
+    private static void awaitSize(List<Long> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Runnable task(Long podcastId) {
+        return () -> startOrder.add(podcastId);
+    }
+
+    private Runnable blockingTask(Long podcastId) {
+        return () -> {
+            startOrder.add(podcastId);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.GenerationStatus;
+import ai.bluefields.podcastgen.service.ProgressEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationSseBroadcasterTest {
+
+    private final List<GenerationStatus> sent = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private GenerationProgressBuffer progressBuffer;
+    private ProgressEventBus.Listener busListener;
+    private GenerationSseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        progressBuffer = new GenerationProgressBuffer(50, Duration.ofHours(1));
+        ProgressEventBus progressEventBus = new ProgressEventBus() {
+            @Override
+            public void publish(Long podcastId, GenerationStatus status) {
+                busListener.onEvent(podcastId, status);
+            }
+
+            @Override
+            public void subscribe(Listener listener) {
+                busListener = listener;
+            }
+        };
+        broadcaster = new GenerationSseBroadcaster(progressBuffer, progressEventBus, new SimpleMeterRegistry(),
+                Duration.ofMinutes(1), Duration.ofHours(1), 1) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void subscribe_ShouldReplayOnlyTheCurrentRun() throws Exception {
+        publish("QUEUED");
+        publish("COMPLETED");
+        publish("QUEUED");
+        publish("GENERATING_VOICES");
+
+        broadcaster.subscribe(1L, null);
+        publish("GENERATING_SEGMENTS");
+
+        awaitSent(3);
+        assertThat(sent).extracting(GenerationStatus::getStatus)
+            .containsExactly("QUEUED", "GENERATING_VOICES", "GENERATING_SEGMENTS");
+        assertThat(completed).isFalse();
+    }
+
+    @Test
+    void subscribe_WhenReplayedEventIsAlsoBroadcast_ShouldSendItOnce() throws Exception {
+        GenerationStatus queued = publish("QUEUED");
+
+        broadcaster.subscribe(1L, null);
+        // Delivered again, as if it had been broadcast while the history was read
+        busListener.onEvent(1L, queued);
+        GenerationStatus voices = publish("GENERATING_VOICES");
+        GenerationStatus done = publish("COMPLETED");
+
+        awaitSent(3);
+        assertThat(sent).extracting(GenerationStatus::getEventId)
+            .containsExactly(queued.getEventId(), voices.getEventId(), done.getEventId());
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    void subscribe_WhenLastEventIdGiven_ShouldResumeAfterIt() throws Exception {
+        GenerationStatus queued = publish("QUEUED");
+        publish("GENERATING_VOICES");
+
+        broadcaster.subscribe(1L, queued.getEventId());
+        publish("GENERATING_SEGMENTS");
+
+        awaitSent(2);
+        assertThat(sent).extracting(GenerationStatus::getStatus)
+            .containsExactly("GENERATING_VOICES", "GENERATING_SEGMENTS");
+    }
+
+    private GenerationStatus publish(String status) {
+        GenerationStatus event = new GenerationStatus(status, 0, status, null);
+        busListener.onEvent(1L, progressBuffer.record(1L, event));
+        return event;
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // Give a wrongly repeated event the chance to show up
+        Thread.sleep(50);
+    }
+
+    private class RecordingEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof GenerationStatus status) {
+                    sent.add(status);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.set(true);
+        }
+    }
+}
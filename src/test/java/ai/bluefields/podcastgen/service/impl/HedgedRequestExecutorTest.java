@@ -0,0 +1,128 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.ElevenLabsResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgedRequestExecutorTest {
+
+    private ElevenLabsResilienceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private HedgedRequestExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ElevenLabsResilienceProperties();
+        properties.getHedging().setMinimumSamples(1);
+        properties.getHedging().setWindowSize(10);
+        properties.getHedging().setMinDelay(Duration.ofMillis(20));
+        properties.getHedging().setMaxDelay(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new HedgedRequestExecutor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void execute_WhenTooFewSamples_ShouldCallOnceWithoutHedging() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(executor.currentHedgeDelayMillis()).isEqualTo(-1);
+        assertThat(executor.execute(() -> calls.incrementAndGet())).isEqualTo(1);
+
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("elevenlabs.hedging.requests").counter().count()).isZero();
+        assertThat(executor.currentHedgeDelayMillis()).isEqualTo(20);
+    }
+
+    @Test
+    void execute_WhenCallExceedsHedgeDelay_ShouldReturnHedgeAndCancelOriginal() throws Exception {
+        executor.execute(() -> "warm-up");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch originalCancelled = new CountDownLatch(1);
+
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    originalCancelled.countDown();
+                }
+                return "original";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+        assertThat(originalCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("elevenlabs.hedging.requests").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("elevenlabs.hedging.wins").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_WhenOriginalFailsAfterHedgeWasSent_ShouldReturnHedge() {
+        executor.execute(() -> "warm-up");
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(100);
+                throw new IllegalStateException("connection reset");
+            }
+            sleep(200);
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void execute_WhenBothRequestsFail_ShouldRethrowFailure() {
+        executor.execute(() -> "warm-up");
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            sleep(100);
+            throw new IllegalStateException("connection reset");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("connection reset");
+        assertThat(meterRegistry.get("elevenlabs.hedging.requests").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_WhenHedgingDisabled_ShouldNeverHedge() {
+        properties.getHedging().setEnabled(false);
+        executor.execute(() -> "warm-up");
+        AtomicInteger calls = new AtomicInteger();
+
+        executor.execute(() -> {
+            calls.incrementAndGet();
+            sleep(100);
+            return "original";
+        });
+
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("elevenlabs.hedging.requests").counter().count()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
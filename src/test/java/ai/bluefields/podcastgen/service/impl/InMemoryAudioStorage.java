@@ -0,0 +1,61 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.service.AudioStorage;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Audio storage kept in memory, for tests.
+ */
+class InMemoryAudioStorage implements AudioStorage {
+
+    private record StoredFile(byte[] data, Instant lastModified) {
+    }
+
+    private final Map<String, StoredFile> files = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void put(String key, InputStream data, long size) throws IOException {
+        put(key, data.readAllBytes(), Instant.now());
+    }
+
+    void put(String key, byte[] data, Instant lastModified) {
+        files.put(key, new StoredFile(data.clone(), lastModified));
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) {
+        return Optional.ofNullable(files.get(key)).map(file -> file.data().clone());
+    }
+
+    @Override
+    public Optional<Resource> stream(String key) {
+        return Optional.ofNullable(files.get(key)).map(file -> new ByteArrayResource(file.data()));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return files.containsKey(key);
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return files.remove(key) != null;
+    }
+
+    @Override
+    public List<Entry> list(String prefix) {
+        return files.entrySet().stream()
+            .filter(file -> file.getKey().startsWith(prefix))
+            .map(file -> new Entry(file.getKey(), file.getValue().data().length, file.getValue().lastModified()))
+            .toList();
+    }
+}
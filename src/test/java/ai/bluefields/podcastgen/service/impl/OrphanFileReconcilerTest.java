@@ -0,0 +1,163 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.config.ColdStorageProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanFileReconcilerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path baseDir;
+
+    private InMemoryAudioStorage audioStorage;
+    private ColdAudioStore coldAudioStore;
+    private SimpleMeterRegistry meterRegistry;
+    private OrphanFileReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setBasePath(baseDir.toString());
+        appProperties.setVoicePreviewsPath(baseDir.resolve("voice-previews").toString());
+        audioStorage = new InMemoryAudioStorage();
+        coldAudioStore = new ColdAudioStore(appProperties, new ColdStorageProperties());
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new OrphanFileReconciler(jdbcTemplate, appProperties, audioStorage, coldAudioStore,
+            meterRegistry, true, Duration.ofHours(24), 2, Duration.ZERO);
+    }
+
+    @Test
+    void reconcile_ShouldDeleteOldUnreferencedFilesOnly() throws Exception {
+        Path segment = oldFile("podcasts/1/segments/segment_000.mp3", 10);
+        Path staleSegment = oldFile("podcasts/1/segments/segment_001.mp3", 20);
+        Path output = oldFile("podcasts/1/output/podcast_1.mp3", 30);
+        Path freshOrphan = Files.writeString(createParent("podcasts/1/output/podcast_2.mp3"), "new");
+        Path preview = oldFile("voice-previews/voice-preview-a.mp3", 40);
+        Path stalePreview = oldFile("voice-previews/voice-preview-b.mp3", 50);
+        Path unmanaged = oldFile("other/notes.txt", 60);
+        Path pack = oldFile("podcasts/1/segments/segments_1.pack", 70);
+        stubReferences(List.of(1L), List.of("podcasts/1/output/podcast_1.mp3"),
+            List.of("podcasts/1/segments/segment_000.mp3", "pack:podcasts/1/segments/segments_1.pack#0+35"),
+            List.of("/api/uploads/voice-previews/voice-preview-a.mp3"));
+
+        OrphanFileReconciler.Result result = reconciler.reconcile();
+
+        assertThat(result).isEqualTo(new OrphanFileReconciler.Result(2, 70));
+        assertThat(staleSegment).doesNotExist();
+        assertThat(stalePreview).doesNotExist();
+        assertThat(segment).exists();
+        assertThat(output).exists();
+        assertThat(freshOrphan).exists();
+        assertThat(preview).exists();
+        assertThat(unmanaged).exists();
+        assertThat(pack).exists();
+        assertThat(meterRegistry.get("app.storage.reclaimed").tag("source", "reconciler").counter().count())
+            .isEqualTo(70);
+    }
+
+    @Test
+    void reconcile_WhenPodcastDeleted_ShouldRemoveItsEmptyDirectories() throws Exception {
+        Path segment = oldFile("podcasts/7/segments/segment_000.mp3", 10);
+        oldFile("podcasts/7/output/podcast_7.mp3", 10);
+        stubReferences(List.of(), List.of(), List.of(), List.of());
+
+        OrphanFileReconciler.Result result = reconciler.reconcile();
+
+        assertThat(result.filesDeleted()).isEqualTo(2);
+        assertThat(segment.getParent().getParent()).doesNotExist();
+        assertThat(baseDir.resolve("podcasts")).exists();
+    }
+
+    @Test
+    void reconcile_ShouldDeleteUnreferencedAudioFromStorage() throws Exception {
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        audioStorage.put("podcasts/1/output/podcast_1.mp3", new byte[30], old);
+        audioStorage.put("podcasts/1/output/podcast_old.mp3", new byte[40], old);
+        audioStorage.put("podcasts/1/output/podcast_new.mp3", new byte[50], Instant.now());
+        stubReferences(List.of(1L), List.of("podcasts/1/output/podcast_1.mp3"), List.of(), List.of());
+
+        OrphanFileReconciler.Result result = reconciler.reconcile();
+
+        assertThat(result).isEqualTo(new OrphanFileReconciler.Result(1, 40));
+        assertThat(audioStorage.exists("podcasts/1/output/podcast_old.mp3")).isFalse();
+        assertThat(audioStorage.exists("podcasts/1/output/podcast_1.mp3")).isTrue();
+        assertThat(audioStorage.exists("podcasts/1/output/podcast_new.mp3")).isTrue();
+    }
+
+    @Test
+    void deleteAfterCommit_WhenNoTransaction_ShouldDeleteDirectoryImmediately() throws Exception {
+        Path segment = oldFile("podcasts/3/segments/segment_000.mp3", 10);
+        oldFile("podcasts/3/output/podcast_3.mp3", 15);
+        audioStorage.put("podcasts/3/output/podcast_3b.mp3", new byte[5], Instant.now());
+        audioStorage.put("podcasts/30/output/podcast_30.mp3", new byte[5], Instant.now());
+        coldAudioStore.archive("podcasts/3/output/podcast_3c.mp3", new ByteArrayInputStream(new byte[5]));
+        long coldBytes = coldAudioStore.compressedSize("podcasts/3/output/podcast_3c.mp3");
+
+        reconciler.deleteAfterCommit("podcasts/3");
+
+        assertThat(segment.getParent().getParent()).doesNotExist();
+        assertThat(audioStorage.exists("podcasts/3/output/podcast_3b.mp3")).isFalse();
+        assertThat(audioStorage.exists("podcasts/30/output/podcast_30.mp3")).isTrue();
+        assertThat(coldAudioStore.exists("podcasts/3/output/podcast_3c.mp3")).isFalse();
+        assertThat(meterRegistry.get("app.storage.reclaimed").tag("source", "delete").counter().count())
+            .isEqualTo(30 + coldBytes);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void deleteAfterCommit_WhenPathOutsideBase_ShouldDeleteNothing() throws Exception {
+        Path outside = Files.writeString(baseDir.getParent().resolve(baseDir.getFileName() + "-other.txt"), "x");
+        try {
+            reconciler.deleteAfterCommit("../" + outside.getFileName());
+
+            assertThat(outside).exists();
+        } finally {
+            Files.deleteIfExists(outside);
+        }
+    }
+
+    private void stubReferences(List<Long> podcastIds, List<String> audioPaths, List<String> segmentPaths,
+                                List<String> previewUrls) {
+        when(jdbcTemplate.queryForList(contains("FROM podcasts"), eq(Long.class))).thenReturn(podcastIds);
+        when(jdbcTemplate.queryForList(contains("FROM audios"), eq(String.class))).thenReturn(audioPaths);
+        when(jdbcTemplate.queryForList(contains("FROM podcast_audio_segments"), eq(String.class)))
+            .thenReturn(segmentPaths);
+        when(jdbcTemplate.queryForList(contains("voice_preview_url"), eq(String.class))).thenReturn(previewUrls);
+    }
+
+    private Path oldFile(String relativePath, int size) throws Exception {
+        Path file = Files.write(createParent(relativePath), new byte[size]);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        return file;
+    }
+
+    private Path createParent(String relativePath) throws Exception {
+        Path file = baseDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return file;
+    }
+}
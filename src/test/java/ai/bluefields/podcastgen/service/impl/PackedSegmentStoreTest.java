@@ -0,0 +1,126 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.service.SegmentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedSegmentStoreTest {
+
+    @TempDir
+    Path basePath;
+
+    private PackedSegmentStore store;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setBasePath(basePath.toString());
+        store = new PackedSegmentStore(appProperties, 4, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void openWriter_ShouldAppendAllSegmentsToOnePackFile() throws Exception {
+        List<String> refs = new ArrayList<>();
+        try (SegmentStore.Writer writer = store.openWriter(7L)) {
+            refs.add(writer.append(new byte[]{1, 2, 3}));
+            refs.add(writer.append(new byte[]{4, 5}));
+            refs.add(writer.append(new byte[]{6}));
+        }
+
+        try (Stream<Path> files = Files.list(basePath.resolve("podcasts/7/segments"))) {
+            assertThat(files).singleElement().satisfies(pack -> assertThat(pack).hasFileName(
+                SegmentRef.parse(refs.get(0)).file().substring("podcasts/7/segments/".length())));
+        }
+        assertThat(refs.get(1)).startsWith("pack:podcasts/7/segments/segments_").endsWith(".pack#3+2");
+        assertThat(bytes(store.read(refs.get(0)))).containsExactly(1, 2, 3);
+        assertThat(bytes(store.read(refs.get(1)))).containsExactly(4, 5);
+        assertThat(bytes(store.read(refs.get(2)))).containsExactly(6);
+    }
+
+    @Test
+    void openWriter_WhenNothingAppended_ShouldLeaveNoPackBehind() throws Exception {
+        store.openWriter(8L).close();
+
+        try (Stream<Path> files = Files.list(basePath.resolve("podcasts/8/segments"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void read_WhenPlainFileReference_ShouldReadWholeFile() throws Exception {
+        Path segment = basePath.resolve("podcasts/1/segments/segment_000.mp3");
+        Files.createDirectories(segment.getParent());
+        Files.write(segment, new byte[]{9, 8, 7});
+
+        assertThat(bytes(store.read("podcasts/1/segments/segment_000.mp3"))).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    void toFile_WhenPlainFileReference_ShouldReturnTheFileWithoutCopying(@TempDir Path spoolDir) throws Exception {
+        Path segment = basePath.resolve("podcasts/1/segments/segment_000.mp3");
+        Files.createDirectories(segment.getParent());
+        Files.write(segment, new byte[]{9, 8, 7});
+
+        assertThat(store.toFile("podcasts/1/segments/segment_000.mp3", spoolDir)).isEqualTo(segment);
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void toFile_WhenPackReference_ShouldCopyOnlyTheSegment(@TempDir Path spoolDir) throws Exception {
+        String ref;
+        try (SegmentStore.Writer writer = store.openWriter(10L)) {
+            writer.append(new byte[]{1, 2, 3});
+            ref = writer.append(new byte[]{4, 5});
+        }
+
+        Path file = store.toFile(ref, spoolDir);
+
+        assertThat(file.getParent()).isEqualTo(spoolDir);
+        assertThat(Files.readAllBytes(file)).containsExactly(4, 5);
+    }
+
+    @Test
+    void read_WhenRangeBeyondPack_ShouldFail() throws Exception {
+        String ref;
+        try (SegmentStore.Writer writer = store.openWriter(9L)) {
+            ref = writer.append(new byte[]{1, 2});
+        }
+        SegmentRef truncated = SegmentRef.parse(ref);
+
+        assertThatThrownBy(() -> store.read(new SegmentRef(truncated.file(), 1, 5).toString()))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void parse_ShouldRoundTripPackReferences() {
+        SegmentRef ref = SegmentRef.parse("pack:podcasts/1/segments/segments_5.pack#1024+512");
+
+        assertThat(ref).isEqualTo(new SegmentRef("podcasts/1/segments/segments_5.pack", 1024, 512));
+        assertThat(ref.toString()).isEqualTo("pack:podcasts/1/segments/segments_5.pack#1024+512");
+        assertThat(SegmentRef.parse("podcasts/1/segments/segment_000.mp3").isPacked()).isFalse();
+        assertThatThrownBy(() -> SegmentRef.parse("pack:podcasts/1/segments/segments_5.pack"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
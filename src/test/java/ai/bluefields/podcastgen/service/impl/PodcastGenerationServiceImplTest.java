@@ -0,0 +1,308 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AudioEncodingProperties;
+import ai.bluefields.podcastgen.dto.PodcastGenerationStatusDTO;
+import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
+import ai.bluefields.podcastgen.model.Audio;
+import ai.bluefields.podcastgen.model.EncodingProfile;
+import ai.bluefields.podcastgen.model.GenerationOutcome;
+import ai.bluefields.podcastgen.model.GenerationStatus;
+import ai.bluefields.podcastgen.model.Podcast;
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
+import ai.bluefields.podcastgen.model.Transcript;
+import ai.bluefields.podcastgen.repository.PodcastRepository;
+import ai.bluefields.podcastgen.service.AIService;
+import ai.bluefields.podcastgen.service.ProgressEventBus;
+import ai.bluefields.podcastgen.service.SegmentStore;
+import ai.bluefields.podcastgen.service.VoiceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PodcastGenerationServiceImplTest {
+
+    @Mock
+    private PodcastRepository podcastRepository;
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private VoiceService voiceService;
+
+    @Mock
+    private ProgressEventBus progressEventBus;
+
+    @Mock
+    private ElevenLabsCircuitBreaker circuitBreaker;
+
+    @Mock
+    private GenerationScheduler generationScheduler;
+
+    @Mock
+    private GenerationProgressBuffer progressBuffer;
+
+    @Mock
+    private TranscriptMessageStore transcriptMessageStore;
+
+    @Mock
+    private SegmentStore segmentStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private InMemoryAudioStorage audioStorage = new InMemoryAudioStorage();
+
+    @Spy
+    private AudioEncodingProperties encodingProperties = new AudioEncodingProperties();
+
+    @InjectMocks
+    private PodcastGenerationServiceImpl generationService;
+
+    private Podcast podcast;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(generationService, "idempotencyKeyTtl", Duration.ofHours(1));
+
+        podcast = new Podcast();
+        podcast.setId(1L);
+        podcast.setParticipants(new ArrayList<>());
+        podcast.setAudioOutputs(new ArrayList<>());
+        Transcript transcript = new Transcript();
+        ObjectNode content = new ObjectMapper().createObjectNode();
+        content.putArray("messages");
+        transcript.setContent(content);
+        podcast.setTranscript(transcript);
+    }
+
+    @Test
+    void generatePodcast_WhenAlreadyInProgress_ShouldAttachToRunningJob() {
+        when(podcastRepository.findById(1L)).thenReturn(Optional.of(podcast));
+        when(circuitBreaker.isOpen()).thenReturn(false);
+        // Never completes, so the first job is still in flight when the second request arrives
+        CompletableFuture<Void> scheduled = new CompletableFuture<>();
+        when(generationScheduler.submit(any(), any(), any(), any(), any())).thenReturn(scheduled);
+
+        CompletableFuture<GenerationOutcome> first = generationService.generatePodcast(1L, null);
+        assertThat(first).isNotDone();
+        CompletableFuture<GenerationOutcome> second = generationService.generatePodcast(1L, null);
+
+        assertThat(second).isSameAs(first);
+        verify(podcastRepository, times(1)).findById(1L);
+        verify(generationScheduler, times(1)).submit(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void generatePodcast_WhenIdempotencyKeyReused_ShouldReturnOriginalJob() {
+        when(podcastRepository.findById(1L)).thenReturn(Optional.of(podcast));
+        when(generationScheduler.submit(any(), any(), any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+        CompletableFuture<GenerationOutcome> first = generationService.generatePodcast(1L, "key-1");
+        CompletableFuture<GenerationOutcome> retry = generationService.generatePodcast(1L, "key-1");
+
+        assertThat(retry).isSameAs(first);
+        assertThatThrownBy(() -> generationService.generatePodcast(2L, "key-1"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void generatePodcast_WhenCircuitOpen_ShouldParkJobAndResumeItOnRecovery() {
+        when(podcastRepository.findById(1L)).thenReturn(Optional.of(podcast));
+        when(circuitBreaker.isOpen()).thenReturn(true, false);
+        when(generationScheduler.submit(any(), any(), any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+        CompletableFuture<GenerationOutcome> result = generationService.generatePodcast(1L, null);
+
+        assertThat(result).isCompletedWithValue(GenerationOutcome.PARKED);
+        assertThat(podcast.getGenerationStatus()).isEqualTo(PodcastGenerationStatus.QUEUED);
+        ArgumentCaptor<Runnable> resume = ArgumentCaptor.forClass(Runnable.class);
+        verify(generationScheduler).park(eq(1L), resume.capture());
+        verify(generationScheduler, never()).submit(any(), any(), any(), any(), any());
+
+        resume.getValue().run();
+
+        verify(generationScheduler).submit(any(), eq(1L), any(), any(), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void generatePodcast_WhenTranscriptUnchangedAndCompleted_ShouldSkipSynthesis() throws Exception {
+        when(podcastRepository.findById(1L)).thenReturn(Optional.of(podcast));
+        String contentHash = ReflectionTestUtils.invokeMethod(generationService, "computeContentHash", podcast);
+
+        audioStorage.put("podcasts/1/output/podcast_1.mp3", new byte[]{1}, Instant.now());
+        Audio audio = new Audio();
+        audio.setFilePath("podcasts/1/output/podcast_1.mp3");
+        ObjectNode metrics = new ObjectMapper().createObjectNode();
+        metrics.put("contentHash", contentHash);
+        audio.setQualityMetrics(metrics);
+        podcast.getAudioOutputs().add(audio);
+        podcast.setGenerationStatus(PodcastGenerationStatus.COMPLETED);
+
+        CompletableFuture<GenerationOutcome> result = generationService.generatePodcast(1L, null);
+
+        assertThat(result).isCompletedWithValue(GenerationOutcome.UP_TO_DATE);
+        verifyNoInteractions(aiService, generationScheduler);
+    }
+
+    @Test
+    void generatePodcast_WhenOnlyRenditionFollowsUnchangedOutput_ShouldSkipSynthesis() throws Exception {
+        encodingProperties.setRenditions(List.of(EncodingProfile.MOBILE));
+        when(podcastRepository.findById(1L)).thenReturn(Optional.of(podcast));
+        String contentHash = ReflectionTestUtils.invokeMethod(generationService, "computeContentHash", podcast);
+
+        audioStorage.put("podcasts/1/output/podcast_1.mp3", new byte[]{1}, Instant.now());
+        Audio audio = new Audio();
+        audio.setFilePath("podcasts/1/output/podcast_1.mp3");
+        ObjectNode metrics = new ObjectMapper().createObjectNode();
+        metrics.put("contentHash", contentHash);
+        audio.setQualityMetrics(metrics);
+        Audio rendition = new Audio();
+        rendition.setFilePath("podcasts/1/output/podcast_1_mobile.m4a");
+        rendition.setRendition(true);
+        podcast.getAudioOutputs().addAll(List.of(audio, rendition));
+        podcast.setGenerationStatus(PodcastGenerationStatus.COMPLETED);
+
+        CompletableFuture<GenerationOutcome> result = generationService.generatePodcast(1L, null);
+
+        assertThat(result).isCompletedWithValue(GenerationOutcome.UP_TO_DATE);
+        verifyNoInteractions(aiService, generationScheduler);
+    }
+
+    @Test
+    void updateGenerationStatus_WhenCompletedWithRendition_ShouldPublishNewestMainAudio() {
+        encodingProperties.setRenditions(List.of(EncodingProfile.MOBILE));
+        LocalDateTime runAt = LocalDateTime.now();
+        // Ids from another node's pooled block, so the newer run has the lower ids
+        Audio previous = output(900L, "podcasts/1/output/podcast_1_old.mp3", false, runAt.minusDays(1));
+        Audio main = output(100L, "podcasts/1/output/podcast_1.mp3", false, runAt);
+        Audio rendition = output(101L, "podcasts/1/output/podcast_1_mobile.m4a", true, runAt);
+        podcast.getAudioOutputs().addAll(List.of(main, rendition, previous));
+
+        ReflectionTestUtils.invokeMethod(generationService, "updateGenerationStatus",
+            podcast, PodcastGenerationStatus.COMPLETED, 100, "Podcast generation completed successfully!");
+
+        ArgumentCaptor<GenerationStatus> published = ArgumentCaptor.forClass(GenerationStatus.class);
+        verify(progressEventBus).publish(eq(1L), published.capture());
+        assertThat(published.getValue().getAudioUrl()).isEqualTo("/api/audio/podcasts/1/output/podcast_1.mp3");
+        assertThat(podcast.getAudioUrl()).isEqualTo("/api/audio/podcasts/1/output/podcast_1.mp3");
+    }
+
+    @Test
+    void generatePodcast_WhenOnlyAnOlderOutputMatchesTranscript_ShouldRegenerate() throws Exception {
+        when(podcastRepository.findById(1L)).thenReturn(Optional.of(podcast));
+        when(generationScheduler.submit(any(), any(), any(), any(), any())).thenReturn(new CompletableFuture<>());
+        String contentHash = ReflectionTestUtils.invokeMethod(generationService, "computeContentHash", podcast);
+
+        LocalDateTime runAt = LocalDateTime.now();
+        Audio latest = output(100L, "podcasts/1/output/podcast_1.mp3", false, runAt);
+        latest.setQualityMetrics(new ObjectMapper().createObjectNode().put("contentHash", "edited since"));
+        // Listed last and with the higher id, but created by an earlier run
+        Audio older = output(900L, "podcasts/1/output/podcast_1_old.mp3", false, runAt.minusDays(1));
+        older.setQualityMetrics(new ObjectMapper().createObjectNode().put("contentHash", contentHash));
+        audioStorage.put(older.getFilePath(), new byte[]{1}, Instant.now());
+        podcast.getAudioOutputs().addAll(List.of(latest, older));
+        podcast.setGenerationStatus(PodcastGenerationStatus.COMPLETED);
+
+        CompletableFuture<GenerationOutcome> result = generationService.generatePodcast(1L, null);
+
+        assertThat(result).isNotDone();
+        verify(generationScheduler).submit(any(), eq(1L), any(), any(), any());
+    }
+
+    @Test
+    void encodingProfiles_ShouldPutPodcastProfileFirstAndSkipDuplicateRenditions() {
+        encodingProperties.setRenditions(List.of(EncodingProfile.MOBILE, EncodingProfile.SPEECH));
+        podcast.setEncodingProfile(EncodingProfile.SPEECH);
+
+        List<EncodingProfile> profiles =
+            ReflectionTestUtils.invokeMethod(generationService, "encodingProfiles", podcast);
+
+        assertThat(profiles).containsExactly(EncodingProfile.SPEECH, EncodingProfile.MOBILE);
+        podcast.setEncodingProfile(null);
+        assertThat(ReflectionTestUtils.<List<EncodingProfile>>invokeMethod(generationService, "encodingProfiles",
+            podcast)).containsExactly(EncodingProfile.STANDARD, EncodingProfile.MOBILE, EncodingProfile.SPEECH);
+    }
+
+    @Test
+    void getGenerationStatus_WhenBuffered_ShouldNotQueryDatabase() {
+        when(progressBuffer.latest(1L)).thenReturn(Optional.of(
+            new GenerationStatus("GENERATING_SEGMENTS", 60, "Generated audio for segment 3 of 6", null)));
+
+        PodcastGenerationStatusDTO status = generationService.getGenerationStatus(1L);
+
+        assertThat(status.getGenerationStatus()).isEqualTo(PodcastGenerationStatus.GENERATING_SEGMENTS);
+        assertThat(status.getGenerationProgress()).isEqualTo(60);
+        verifyNoInteractions(podcastRepository);
+    }
+
+    @Test
+    void getGenerationStatus_WhenBufferedRunFinished_ShouldReadDatabase() {
+        when(progressBuffer.latest(1L)).thenReturn(Optional.of(new GenerationStatus("COMPLETED", 100,
+            "Podcast generation completed successfully!", "/api/audio/podcasts/1/output/deleted.mp3")));
+        when(podcastRepository.findGenerationStatusById(1L)).thenReturn(Optional.of(new PodcastGenerationStatusDTO(
+            1L, PodcastGenerationStatus.COMPLETED, 100, "done", null)));
+
+        PodcastGenerationStatusDTO status = generationService.getGenerationStatus(1L);
+
+        assertThat(status.getAudioUrl()).isNull();
+        verify(podcastRepository).findGenerationStatusById(1L);
+    }
+
+    @Test
+    void getGenerationStatus_WhenNotBuffered_ShouldUseSingleProjectionQuery() {
+        when(progressBuffer.latest(1L)).thenReturn(Optional.empty());
+        when(podcastRepository.findGenerationStatusById(1L)).thenReturn(Optional.of(new PodcastGenerationStatusDTO(
+            1L, PodcastGenerationStatus.COMPLETED, 100, "done", "podcasts/1/output/podcast_1.mp3")));
+
+        PodcastGenerationStatusDTO status = generationService.getGenerationStatus(1L);
+
+        assertThat(status.getAudioUrl()).isEqualTo("/api/audio/podcasts/1/output/podcast_1.mp3");
+        verify(podcastRepository, times(1)).findGenerationStatusById(1L);
+        verifyNoMoreInteractions(podcastRepository);
+    }
+
+    @Test
+    void getGenerationStatus_WhenPodcastMissing_ShouldThrowResourceNotFound() {
+        when(progressBuffer.latest(9L)).thenReturn(Optional.empty());
+        when(podcastRepository.findGenerationStatusById(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> generationService.getGenerationStatus(9L))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static Audio output(Long id, String filePath, boolean rendition, LocalDateTime createdAt) {
+        Audio audio = new Audio();
+        audio.setId(id);
+        audio.setFilePath(filePath);
+        audio.setRendition(rendition);
+        audio.setCreatedAt(createdAt);
+        return audio;
+    }
+}
@@ -0,0 +1,109 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.RetentionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PodcastRetentionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrphanFileReconciler orphanFileReconciler;
+
+    @Mock
+    private GenerationProgressBuffer progressBuffer;
+
+    private RetentionProperties properties;
+    private PodcastRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetentionProperties();
+        properties.setChunkSize(2);
+        retentionService = new PodcastRetentionService(jdbcTemplate, transactionManager, properties,
+            orphanFileReconciler, progressBuffer, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void purge_ShouldDeleteChunksChildrenFirstUntilNoneLeft() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+            .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        PodcastRetentionService.Result result = retentionService.purge();
+
+        assertThat(result).isEqualTo(new PodcastRetentionService.Result(3, 2, false));
+        InOrder inOrder = inOrder(jdbcTemplate);
+        for (String sql : PodcastRetentionService.DELETE_SQL) {
+            inOrder.verify(jdbcTemplate).update(sql, (Object) new Long[]{1L, 2L});
+        }
+        inOrder.verify(jdbcTemplate).update("DELETE FROM podcasts WHERE id = ANY(?)", (Object) new Long[]{3L});
+        verify(orphanFileReconciler).deleteAfterCommit("podcasts/1");
+        verify(orphanFileReconciler).deleteAfterCommit("podcasts/2");
+        verify(orphanFileReconciler).deleteAfterCommit("podcasts/3");
+        verify(progressBuffer).clear(3L);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void purge_WhenTimeBudgetUsedUp_ShouldStopAfterOneChunk() {
+        properties.setTimeBudget(Duration.ZERO);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+            .thenReturn(List.of(1L, 2L));
+
+        PodcastRetentionService.Result result = retentionService.purge();
+
+        assertThat(result).isEqualTo(new PodcastRetentionService.Result(2, 1, true));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), any(Object[].class));
+    }
+
+    @Test
+    void purge_WhenNoRulesEnabled_ShouldDeleteNothing() {
+        properties.setFailedMaxAge(null);
+
+        PodcastRetentionService.Result result = retentionService.purge();
+
+        assertThat(result.podcastsDeleted()).isZero();
+        verifyNoInteractions(jdbcTemplate, transactionManager, orphanFileReconciler);
+    }
+
+    @Test
+    void candidateQuery_ShouldCombineEnabledRulesAndSkipActiveGenerations() {
+        properties.setMaxAge(Duration.ofDays(365));
+        properties.setMaxPodcastsPerUser(50);
+
+        PodcastRetentionService.CandidateQuery query = retentionService.candidateQuery(LocalDateTime.now());
+
+        assertThat(query.sql())
+            .contains("status IS DISTINCT FROM ?")
+            .contains("generation_status <> ALL(?)")
+            .contains("created_at < ? OR ((status = ? OR generation_status = ANY(?)) AND created_at < ?) OR id IN")
+            .contains("PARTITION BY user_id")
+            .contains("FOR UPDATE SKIP LOCKED");
+        assertThat(query.args()).hasSize(7);
+        assertThat(query.args().get(0)).isEqualTo("PROCESSING");
+        assertThat(query.args().get(6)).isEqualTo(50);
+    }
+}
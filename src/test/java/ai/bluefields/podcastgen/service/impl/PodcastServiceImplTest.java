@@ -1,7 +1,10 @@
 package ai.bluefields.podcastgen.service.impl;
 
+import ai.bluefields.podcastgen.dto.KeysetPageDTO;
+import ai.bluefields.podcastgen.dto.PodcastDTO;
 import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
 import ai.bluefields.podcastgen.model.Podcast;
+import ai.bluefields.podcastgen.model.PodcastGenerationStatus;
 import ai.bluefields.podcastgen.model.PodcastStatus;
 import ai.bluefields.podcastgen.repository.PodcastRepository;
 import ai.bluefields.podcastgen.service.AIService;
@@ -18,6 +21,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +40,12 @@ class PodcastServiceImplTest {
     @Mock
     private AIService aiService;
 
+    @Mock
+    private OrphanFileReconciler orphanFileReconciler;
+
+    @Mock
+    private GenerationProgressBuffer progressBuffer;
+
     @InjectMocks
     private PodcastServiceImpl podcastService;
 
@@ -72,6 +82,54 @@ class PodcastServiceImplTest {
         verify(podcastRepository).findByUserIdOrderByCreatedAtDesc(TEST_USER_ID, pageable);
     }
 
+    @Test
+    void getPodcastSummaries_ShouldIssueSingleProjectionQueryPerPage() {
+        PodcastDTO summary = summary(1L, LocalDateTime.of(2024, 5, 1, 10, 0), "podcasts/1/output/podcast_1.mp3");
+        when(podcastRepository.findSummariesByUserId(TEST_USER_ID, pageable))
+            .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        Page<PodcastDTO> result = podcastService.getPodcastSummaries(TEST_USER_ID, pageable);
+
+        assertThat(result.getContent()).singleElement()
+            .satisfies(dto -> {
+                assertThat(dto.getHasAudio()).isTrue();
+                assertThat(dto.getAudioUrl()).isEqualTo("/api/audio/podcasts/1/output/podcast_1.mp3");
+            });
+        verify(podcastRepository).findSummariesByUserId(TEST_USER_ID, pageable);
+        verifyNoMoreInteractions(podcastRepository);
+    }
+
+    @Test
+    void getPodcastSummariesAfter_ShouldWalkPagesWithOneQueryEach() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        PodcastDTO first = summary(3L, createdAt, null);
+        PodcastDTO second = summary(2L, createdAt, null);
+        PodcastDTO third = summary(1L, createdAt.minusDays(1), null);
+        when(podcastRepository.findLatestSummariesByUserId(TEST_USER_ID, PageRequest.of(0, 3)))
+            .thenReturn(List.of(first, second, third));
+        when(podcastRepository.findSummariesByUserIdAfter(TEST_USER_ID, createdAt, 2L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(third));
+
+        KeysetPageDTO<PodcastDTO> firstPage = podcastService.getPodcastSummariesAfter(TEST_USER_ID, null, 2);
+        KeysetPageDTO<PodcastDTO> secondPage =
+            podcastService.getPodcastSummariesAfter(TEST_USER_ID, firstPage.getNextCursor(), 2);
+
+        assertThat(firstPage.getContent()).extracting(PodcastDTO::getId).containsExactly(3L, 2L);
+        assertThat(firstPage.isHasMore()).isTrue();
+        assertThat(secondPage.getContent()).extracting(PodcastDTO::getId).containsExactly(1L);
+        assertThat(secondPage.isHasMore()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        verify(podcastRepository, times(1)).findLatestSummariesByUserId(any(), any());
+        verify(podcastRepository, times(1)).findSummariesByUserIdAfter(any(), any(), any(), any());
+        verifyNoMoreInteractions(podcastRepository);
+    }
+
+    @Test
+    void getPodcastSummariesAfter_WithMalformedCursor_ShouldThrowException() {
+        assertThatThrownBy(() -> podcastService.getPodcastSummariesAfter(TEST_USER_ID, "not-a-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void getPodcastById_WhenPodcastExists_ShouldReturnPodcast() {
         when(podcastRepository.findById(1L)).thenReturn(Optional.of(podcast));
@@ -146,6 +204,8 @@ class PodcastServiceImplTest {
 
         // Then
         verify(podcastRepository).deleteById(1L);
+        verify(orphanFileReconciler).deleteAfterCommit("podcasts/1");
+        verify(progressBuffer).clear(1L);
     }
 
     @Test
@@ -235,4 +295,10 @@ class PodcastServiceImplTest {
             throw new RuntimeException("Failed to create mock AI suggestion", e);
         }
     }
+
+    private PodcastDTO summary(Long id, LocalDateTime createdAt, String latestAudioPath) {
+        return new PodcastDTO(id, "Podcast " + id, null, 5, PodcastStatus.DRAFT, createdAt, createdAt,
+            TEST_USER_ID, latestAudioPath != null ? PodcastGenerationStatus.COMPLETED : null, null, null,
+            latestAudioPath);
+    }
 }
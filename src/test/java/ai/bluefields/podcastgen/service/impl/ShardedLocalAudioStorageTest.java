@@ -0,0 +1,110 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.AppProperties;
+import ai.bluefields.podcastgen.config.AudioStorageProperties;
+import ai.bluefields.podcastgen.service.AudioStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedLocalAudioStorageTest {
+
+    @TempDir
+    Path basePath;
+
+    @TempDir
+    Path fastDisk;
+
+    private AppProperties appProperties;
+    private AudioStorageProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        appProperties.setBasePath(basePath.toString());
+        properties = new AudioStorageProperties();
+        properties.setRoots(List.of(fastDisk.toString(), basePath.toString()));
+        properties.setMinFreeSpace(DataSize.ofBytes(0));
+    }
+
+    @Test
+    void put_ShouldStoreInShardOfFirstRootWithRoom() throws Exception {
+        ShardedLocalAudioStorage storage = new ShardedLocalAudioStorage(appProperties, properties);
+
+        put(storage, "podcasts/42/output/podcast_42.mp3", new byte[]{1, 2, 3});
+
+        String shard = ShardedLocalAudioStorage.shard("podcasts/42/output/podcast_42.mp3");
+        assertThat(shard).isEqualTo(ShardedLocalAudioStorage.shard("podcasts/42/segments/other.mp3"));
+        assertThat(fastDisk.resolve("shards").resolve(shard).resolve("podcasts/42/output/podcast_42.mp3"))
+            .hasBinaryContent(new byte[]{1, 2, 3});
+        assertThat(storage.get("podcasts/42/output/podcast_42.mp3")).hasValue(new byte[]{1, 2, 3});
+        assertThat(storage.stream("podcasts/42/output/podcast_42.mp3")).isPresent();
+    }
+
+    @Test
+    void put_WhenNoRootHasRoom_ShouldFail() {
+        properties.setMinFreeSpace(DataSize.ofTerabytes(1024));
+        ShardedLocalAudioStorage storage = new ShardedLocalAudioStorage(appProperties, properties);
+
+        assertThatThrownBy(() -> put(storage, "podcasts/1/output/podcast_1.mp3", new byte[]{1}))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void get_WhenWrittenBeforeSharding_ShouldFallBackToBasePath() throws Exception {
+        Path legacy = basePath.resolve("podcasts/7/output/podcast_7.mp3");
+        Files.createDirectories(legacy.getParent());
+        Files.write(legacy, new byte[]{9});
+        ShardedLocalAudioStorage storage = new ShardedLocalAudioStorage(appProperties, properties);
+
+        assertThat(storage.exists("podcasts/7/output/podcast_7.mp3")).isTrue();
+        assertThat(storage.list("podcasts/7/")).extracting(AudioStorage.Entry::key)
+            .containsExactly("podcasts/7/output/podcast_7.mp3");
+
+        put(storage, "podcasts/7/output/podcast_7.mp3", new byte[]{8});
+
+        assertThat(legacy).doesNotExist();
+        assertThat(storage.get("podcasts/7/output/podcast_7.mp3")).hasValue(new byte[]{8});
+    }
+
+    @Test
+    void list_ShouldMatchPrefixAcrossRootsAndShards() throws Exception {
+        ShardedLocalAudioStorage storage = new ShardedLocalAudioStorage(appProperties, properties);
+        put(storage, "podcasts/1/output/a.mp3", new byte[]{1});
+        put(storage, "podcasts/2/output/b.mp3", new byte[]{1, 2});
+        put(storage, "podcasts/10/output/c.mp3", new byte[]{1});
+
+        assertThat(storage.list("podcasts/1/")).extracting(AudioStorage.Entry::key)
+            .containsExactly("podcasts/1/output/a.mp3");
+        assertThat(storage.list("podcasts/")).extracting(AudioStorage.Entry::key)
+            .containsExactlyInAnyOrder("podcasts/1/output/a.mp3", "podcasts/2/output/b.mp3",
+                "podcasts/10/output/c.mp3");
+
+        assertThat(storage.delete("podcasts/2/output/b.mp3")).isTrue();
+        assertThat(storage.exists("podcasts/2/output/b.mp3")).isFalse();
+    }
+
+    @Test
+    void get_WhenKeyEscapesRoot_ShouldReject() {
+        ShardedLocalAudioStorage storage = new ShardedLocalAudioStorage(appProperties, properties);
+
+        assertThatThrownBy(() -> storage.get("podcasts/../../etc/passwd"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.get("/etc/passwd"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void put(AudioStorage storage, String key, byte[] data) throws IOException {
+        storage.put(key, new ByteArrayInputStream(data), data.length);
+    }
+}
@@ -0,0 +1,110 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.model.Transcript;
+import ai.bluefields.podcastgen.model.TranscriptMessage;
+import ai.bluefields.podcastgen.repository.TranscriptMessageRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TranscriptMessageStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private TranscriptMessageRepository messageRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void plan_WhenOneMessageEdited_ShouldOnlyUpdateThatMessage() {
+        List<TranscriptMessage> existing = List.of(message(0, "Hello"), message(1, "World"), message(2, "Bye"));
+        List<TranscriptMessage> desired = List.of(message(0, "Hello"), message(1, "Edited"), message(2, "Bye"));
+
+        TranscriptMessageStore.SyncPlan plan = TranscriptMessageStore.plan(existing, desired);
+
+        assertThat(plan.updates()).extracting(TranscriptMessage::getOrdinal).containsExactly(1);
+        assertThat(plan.inserts()).isEmpty();
+        assertThat(plan.deleteFromOrdinal()).isEqualTo(-1);
+    }
+
+    @Test
+    void plan_WhenMessagesAddedAndRemoved_ShouldInsertOrDeleteTail() {
+        List<TranscriptMessage> existing = List.of(message(0, "Hello"), message(1, "World"));
+
+        TranscriptMessageStore.SyncPlan grown = TranscriptMessageStore.plan(existing,
+            List.of(message(0, "Hello"), message(1, "World"), message(2, "More")));
+        TranscriptMessageStore.SyncPlan shrunk = TranscriptMessageStore.plan(existing, List.of(message(0, "Hello")));
+
+        assertThat(grown.inserts()).extracting(TranscriptMessage::getOrdinal).containsExactly(2);
+        assertThat(grown.updates()).isEmpty();
+        assertThat(shrunk.deleteFromOrdinal()).isEqualTo(1);
+        assertThat(TranscriptMessageStore.plan(existing, existing).isEmpty()).isTrue();
+    }
+
+    @Test
+    void resolveContent_WhenMessagesAreNormalized_ShouldAssembleJsonShape() throws Exception {
+        TranscriptMessageStore store = new TranscriptMessageStore(messageRepository, jdbcTemplate, true);
+        Transcript transcript = new Transcript();
+        transcript.setId(7L);
+        transcript.setContent(objectMapper.readTree("{\"title\":\"Episode\"}"));
+        when(messageRepository.findByTranscriptIdOrderByOrdinalAsc(7L))
+            .thenReturn(List.of(message(0, "Hello"), message(1, "World")));
+
+        JsonNode content = store.resolveContent(transcript);
+
+        assertThat(content.get("title").asText()).isEqualTo("Episode");
+        assertThat(content.get("messages")).hasSize(2);
+        assertThat(content.get("messages").get(1).get("participantId").asLong()).isEqualTo(1L);
+        assertThat(content.get("messages").get(1).get("content").asText()).isEqualTo("World");
+        assertThat(content.get("messages").get(1).get("timing").asInt()).isEqualTo(10);
+        assertThat(transcript.getContent().has("messages")).isFalse();
+    }
+
+    @Test
+    void applyContent_WhenNormalizedStorageEnabled_ShouldKeepDocumentWithoutMessagesAndWriteRows() throws Exception {
+        TranscriptMessageStore store = new TranscriptMessageStore(messageRepository, jdbcTemplate, true);
+        Transcript transcript = new Transcript();
+        transcript.setId(7L);
+        JsonNode content = objectMapper.readTree("""
+            {"title": "Episode", "messages": [{"participantId": 1, "content": "Hello", "timing": 0}]}
+            """);
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(7L))).thenReturn(List.of());
+
+        store.applyContent(transcript, content);
+
+        assertThat(transcript.getContent().has("messages")).isFalse();
+        assertThat(transcript.getContent().get("title").asText()).isEqualTo("Episode");
+        assertThat(transcript.getLastEdited()).isNotNull();
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList(), any(int[].class));
+    }
+
+    private static TranscriptMessage message(int ordinal, String content) {
+        TranscriptMessage message = new TranscriptMessage();
+        message.setTranscriptId(7L);
+        message.setOrdinal(ordinal);
+        message.setParticipantId(1L);
+        message.setContent(content);
+        message.setContentHash(TranscriptMessageStore.hash(content));
+        message.setTiming(ordinal * 10);
+        return message;
+    }
+}
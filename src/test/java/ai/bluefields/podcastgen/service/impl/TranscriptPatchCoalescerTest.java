@@ -0,0 +1,149 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.exception.VersionConflictException;
+import ai.bluefields.podcastgen.model.Transcript;
+import ai.bluefields.podcastgen.repository.TranscriptRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TranscriptPatchCoalescerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private TranscriptRepository transcriptRepository;
+
+    @Mock
+    private TranscriptMessageStore messageStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TranscriptPatchCoalescer coalescer;
+    private Transcript transcript;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // A long window so the test decides when the write happens
+        coalescer = new TranscriptPatchCoalescer(transcriptRepository, messageStore, transactionManager,
+            Duration.ofHours(1));
+        transcript = new Transcript();
+        transcript.setId(1L);
+        transcript.setVersion(4L);
+        transcript.setContent(objectMapper.readTree("""
+            {"messages": [{"participantId": 1, "content": "Hello", "timing": 0}]}
+            """));
+        when(transcriptRepository.findById(1L)).thenReturn(Optional.of(transcript));
+        lenient().when(messageStore.view(transcript)).thenReturn(transcript);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.destroy();
+    }
+
+    @Test
+    void patch_WhenPatchesArriveWithinWindow_ShouldWriteOnce() throws Exception {
+        TranscriptPatchCoalescer.PatchResult first = coalescer.patch(1L, 4L, objectMapper.readTree("""
+            [{"op": "replace", "path": "/messages/0/content", "value": "Hello there"}]
+            """));
+        TranscriptPatchCoalescer.PatchResult second = coalescer.patch(1L, 5L, objectMapper.readTree("""
+            [{"op": "add", "path": "/messages/-", "value": {"participantId": 2, "content": "Hi", "timing": 5}}]
+            """));
+
+        assertThat(first.version()).isEqualTo(5L);
+        assertThat(second.version()).isEqualTo(6L);
+        assertThat(coalescer.pendingState(1L)).isPresent();
+        verify(transcriptRepository, never()).save(any());
+        when(transcriptRepository.advanceVersion(1L, 4L, 6L)).thenReturn(1);
+
+        coalescer.flush(1L);
+
+        verify(transcriptRepository, times(1)).save(transcript);
+        verify(messageStore).applyContent(transcript, second.content());
+        assertThat(transcript.getVersion()).isEqualTo(6L);
+        assertThat(second.content().at("/messages/0/content").asText()).isEqualTo("Hello there");
+        assertThat(second.content().at("/messages/1/content").asText()).isEqualTo("Hi");
+        assertThat(coalescer.pendingState(1L)).isEmpty();
+    }
+
+    @Test
+    void patch_WhenVersionIsStale_ShouldThrowConflictAndKeepNothingPending() throws Exception {
+        JsonNode patch = objectMapper.readTree("""
+            [{"op": "remove", "path": "/messages/0"}]
+            """);
+
+        assertThatThrownBy(() -> coalescer.patch(1L, 3L, patch))
+            .isInstanceOf(VersionConflictException.class)
+            .hasMessageContaining("expected version 3 but is 4");
+
+        assertThat(coalescer.pendingState(1L)).isEmpty();
+        coalescer.flush(1L);
+        verify(transcriptRepository, never()).save(any());
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldKeepPatchPendingAndWriteItLater() throws Exception {
+        TranscriptPatchCoalescer.PatchResult result = coalescer.patch(1L, 4L, objectMapper.readTree("""
+            [{"op": "replace", "path": "/messages/0/content", "value": "Hello there"}]
+            """));
+        when(transcriptRepository.advanceVersion(1L, 4L, 5L))
+            .thenThrow(new IllegalStateException("connection reset"))
+            .thenReturn(1);
+
+        assertThatThrownBy(() -> coalescer.flush(1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.pendingState(1L)).hasValueSatisfying(state -> {
+            assertThat(state.version()).isEqualTo(5L);
+            assertThat(state.content().at("/messages/0/content").asText()).isEqualTo("Hello there");
+        });
+        verify(transcriptRepository, never()).save(any());
+
+        coalescer.flush(1L);
+
+        verify(messageStore).applyContent(transcript, result.content());
+        verify(transcriptRepository).save(transcript);
+        assertThat(transcript.getVersion()).isEqualTo(5L);
+        assertThat(coalescer.pendingState(1L)).isEmpty();
+    }
+
+    @Test
+    void flush_WhenTranscriptWasWrittenMeanwhile_ShouldNotOverwriteItAndRejectAcknowledgedVersion()
+            throws Exception {
+        coalescer.patch(1L, 4L, objectMapper.readTree("""
+            [{"op": "replace", "path": "/messages/0/content", "value": "Hello there"}]
+            """));
+        // A full replacement on another node moved the stored version on
+        transcript.setVersion(5L);
+        when(transcriptRepository.advanceVersion(1L, 4L, 5L)).thenReturn(0);
+
+        assertThatThrownBy(() -> coalescer.flush(1L))
+            .isInstanceOf(VersionConflictException.class)
+            .hasMessageContaining("expected version 4 but is 5");
+
+        verify(messageStore, never()).applyContent(any(), any());
+        verify(transcriptRepository, never()).save(any());
+        assertThat(coalescer.pendingState(1L)).isEmpty();
+        // The client was told version 5, which now stands for other content
+        JsonNode patch = objectMapper.readTree("""
+            [{"op": "remove", "path": "/messages/0"}]
+            """);
+        assertThatThrownBy(() -> coalescer.patch(1L, 5L, patch)).isInstanceOf(VersionConflictException.class);
+    }
+}
@@ -1,5 +1,6 @@
 package ai.bluefields.podcastgen.service.impl;
 
+import ai.bluefields.podcastgen.dto.TranscriptPatchResultDTO;
 import ai.bluefields.podcastgen.exception.ResourceNotFoundException;
 import ai.bluefields.podcastgen.model.Transcript;
 import ai.bluefields.podcastgen.repository.TranscriptRepository;
@@ -8,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,6 +29,12 @@ class TranscriptServiceImplTest {
     @Mock
     private TranscriptRepository transcriptRepository;
 
+    @Mock
+    private TranscriptMessageStore messageStore;
+
+    @Mock
+    private TranscriptPatchCoalescer patchCoalescer;
+
     @InjectMocks
     private TranscriptServiceImpl transcriptService;
 
@@ -114,6 +122,50 @@ class TranscriptServiceImplTest {
         verify(transcriptRepository).save(transcript);
     }
 
+    @Test
+    void updateTranscript_ShouldFlushPendingPatchesAndAdvanceVersion() {
+        Transcript existing = new Transcript();
+        existing.setId(1L);
+        existing.setVersion(3L);
+        when(transcriptRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(transcriptRepository.save(existing)).thenReturn(existing);
+
+        Transcript result = transcriptService.updateTranscript(1L, transcript);
+
+        assertThat(result.getVersion()).isEqualTo(4L);
+        InOrder inOrder = inOrder(patchCoalescer, transcriptRepository);
+        inOrder.verify(patchCoalescer).flush(1L);
+        inOrder.verify(transcriptRepository).findById(1L);
+        verify(messageStore).applyContent(existing, testContent);
+    }
+
+    @Test
+    void getTranscriptById_WhenPatchesArePending_ShouldReturnPendingContentAndVersion() throws Exception {
+        JsonNode patched = objectMapper.readTree("{\"messages\": []}");
+        when(transcriptRepository.findById(1L)).thenReturn(Optional.of(transcript));
+        when(patchCoalescer.pendingState(1L))
+            .thenReturn(Optional.of(new TranscriptPatchCoalescer.PatchResult(1L, 5L, patched)));
+
+        Optional<Transcript> result = transcriptService.getTranscriptById(1L);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).isSameAs(patched);
+        assertThat(result.get().getVersion()).isEqualTo(5L);
+        assertThat(transcript.getContent()).isSameAs(testContent);
+    }
+
+    @Test
+    void patchTranscript_ShouldReturnNewVersion() throws Exception {
+        JsonNode patch = objectMapper.readTree("[]");
+        when(patchCoalescer.patch(1L, 2L, patch))
+            .thenReturn(new TranscriptPatchCoalescer.PatchResult(1L, 3L, testContent));
+
+        TranscriptPatchResultDTO result = transcriptService.patchTranscript(1L, 2L, patch);
+
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getVersion()).isEqualTo(3L);
+    }
+
     @Test
     void updateTranscript_WhenTranscriptDoesNotExist_ShouldThrowException() {
         when(transcriptRepository.findById(1L)).thenReturn(Optional.empty());
@@ -0,0 +1,186 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.dto.VoiceImportStatusDTO;
+import ai.bluefields.podcastgen.exception.RequestSlotTimeoutException;
+import ai.bluefields.podcastgen.model.Voice;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoiceImportServiceImplTest {
+
+    private static final String HEADER = "\uFEFFName;Tags;external_voice_ID;voice_type;user_ID;audio_preview_path;"
+        + "stability;similarity_boostspeak;style_exaggeration;speaker_boost";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ElevenLabsClient elevenLabsClient;
+
+    @Mock
+    private ElevenLabsCircuitBreaker circuitBreaker;
+
+    @Mock
+    private VoiceSearchIndex voiceSearchIndex;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @TempDir
+    Path previewsDir;
+
+    private VoiceImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new VoiceImportServiceImpl(jdbcTemplate, elevenLabsClient, circuitBreaker,
+            new ObjectMapper(), voiceSearchIndex, cacheManager, previewsDir.toString(),
+            "eleven_multilingual_v2", 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_ShouldUpsertInBatchesAndGeneratePreviewsForNewVoices() throws Exception {
+        String csv = String.join("\n", HEADER,
+            "Daniel;News,British,Male;voice-1;STANDARD;;/voice-previews/voice-1.mp3;0.35;0.75;0.45;TRUE",
+            "Alice;News,British,Female;voice-2;STANDARD;;;0.35;0.75;0.45;TRUE",
+            "Matilda;\"Narrative, Story\",Female;voice-3;;;;;;;");
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+            .thenReturn(List.of("voice-2"), List.of());
+        when(circuitBreaker.tryAcquirePermission()).thenReturn(true);
+        when(elevenLabsClient.textToSpeech(eq("voice-2"), anyString()))
+            .thenReturn(ResponseEntity.ok(new byte[]{1, 2, 3}));
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                batchSizes.add(((Collection<?>) invocation.getArgument(1)).size());
+                return new int[0][];
+            });
+        VoiceImportServiceImpl.ImportJob job = new VoiceImportServiceImpl.ImportJob("job-1");
+
+        importService.importCsv(new BufferedReader(new StringReader(csv)), job);
+
+        VoiceImportStatusDTO status = job.toDto();
+        assertThat(status.getRowsRead()).isEqualTo(3);
+        assertThat(status.getVoicesUpserted()).isEqualTo(3);
+        assertThat(status.getPreviewsGenerated()).isEqualTo(1);
+        assertThat(status.getErrors()).isEmpty();
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(Files.readAllBytes(previewsDir.resolve("voice-2.mp3"))).containsExactly(1, 2, 3);
+
+        ArgumentCaptor<String> request = ArgumentCaptor.forClass(String.class);
+        verify(elevenLabsClient).textToSpeech(eq("voice-2"), request.capture());
+        assertThat(request.getValue()).contains("\"stability\":0.35");
+        verify(circuitBreaker).recordSuccess();
+
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("audio_preview_path = ?"), updates.capture());
+        assertThat(updates.getValue()).hasSize(1);
+        assertThat(updates.getValue().get(0)).containsExactly("/api/uploads/voice-previews/voice-2.mp3", "voice-2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_WhenNoRequestSlotFreesUp_ShouldNotCountItAgainstElevenLabs() throws Exception {
+        String csv = String.join("\n", HEADER, "Alice;News,British,Female;voice-2;STANDARD;;;0.35;0.75;0.45;TRUE");
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+            .thenReturn(List.of("voice-2"));
+        when(circuitBreaker.tryAcquirePermission()).thenReturn(true);
+        when(elevenLabsClient.textToSpeech(eq("voice-2"), anyString()))
+            .thenThrow(new RequestSlotTimeoutException("Timed out waiting for a free ElevenLabs request slot"));
+        VoiceImportServiceImpl.ImportJob job = new VoiceImportServiceImpl.ImportJob("job-1");
+
+        importService.importCsv(new BufferedReader(new StringReader(csv)), job);
+
+        assertThat(job.toDto().getPreviewsFailed()).isEqualTo(1);
+        verify(circuitBreaker).releasePermission();
+        verify(circuitBreaker, never()).recordFailure(any());
+    }
+
+    @Test
+    void importCsv_WhenRowInvalid_ShouldSkipItAndReportLine() throws Exception {
+        String csv = String.join("\n", HEADER,
+            "Nobody;News,British;voice-1;STANDARD;;;;;;",
+            "",
+            "Robot;Male;voice-2;ROBOTIC;;;;;;");
+        VoiceImportServiceImpl.ImportJob job = new VoiceImportServiceImpl.ImportJob("job-1");
+
+        importService.importCsv(new BufferedReader(new StringReader(csv)), job);
+
+        VoiceImportStatusDTO status = job.toDto();
+        assertThat(status.getRowsRead()).isEqualTo(2);
+        assertThat(status.getRowsSkipped()).isEqualTo(2);
+        assertThat(status.getErrors()).containsExactly(
+            "line 2: missing gender, add a gender column or a Male/Female tag",
+            "line 4: unknown voice type 'ROBOTIC'");
+        verifyNoInteractions(elevenLabsClient);
+    }
+
+    @Test
+    void importCsv_WhenRequiredColumnMissing_ShouldFail() {
+        String csv = "Name;Tags\nDaniel;Male";
+
+        assertThatThrownBy(() -> importService.importCsv(new BufferedReader(new StringReader(csv)),
+            new VoiceImportServiceImpl.ImportJob("job-1")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("external_voice_ID");
+    }
+
+    @Test
+    void toRow_ShouldReadStandardVoiceListShape() {
+        VoiceImportServiceImpl.Columns columns = VoiceImportServiceImpl.Columns.of(
+            VoiceImportServiceImpl.parseLine(HEADER.substring(1), ';'));
+
+        VoiceImportServiceImpl.ImportRow row = columns.toRow(VoiceImportServiceImpl.parseLine(
+            "J. Audiobook;Narrative & Story, British, Professional,Young,Male;4u5cJuSmHP9d6YRolsOu;STANDARD;;;"
+                + "0.35;0.75;0.45;TRUE", ';'));
+
+        assertThat(row.name()).isEqualTo("J. Audiobook");
+        assertThat(row.tags()).containsExactly("Narrative & Story", "British", "Professional", "Young", "Male");
+        assertThat(row.externalVoiceId()).isEqualTo("4u5cJuSmHP9d6YRolsOu");
+        assertThat(row.voiceType()).isEqualTo(Voice.VoiceType.STANDARD);
+        assertThat(row.gender()).isEqualTo(Voice.Gender.male);
+        assertThat(row.userId()).isNull();
+        assertThat(row.audioPreviewPath()).isNull();
+        assertThat(row.settings()).isEqualTo(new VoiceImportServiceImpl.VoiceSettings(0.35, 0.75, 0.45, true));
+    }
+
+    @Test
+    void parseLine_ShouldHonourQuotedFields() {
+        assertThat(VoiceImportServiceImpl.parseLine("a;\"b;c\";\"say \"\"hi\"\"\";", ';'))
+            .containsExactly("a", "b;c", "say \"hi\"", "");
+    }
+}
@@ -0,0 +1,86 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoicePreviewCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    @TempDir
+    Path previewsDir;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private VoicePreviewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VoicePreviewCache(TTL, 100, nanos::get);
+    }
+
+    @Test
+    void take_ShouldReturnPreviewsInOrderUntilExhausted() throws Exception {
+        cache.put("female", 35, "warm, calm", List.of(preview("p2"), preview("p3")));
+
+        assertThat(cache.take("female", 35, "warm, calm")).get()
+            .extracting(VoicePreviewCache.Preview::previewId).isEqualTo("p2");
+        assertThat(cache.take("female", 35, "warm, calm")).get()
+            .extracting(VoicePreviewCache.Preview::previewId).isEqualTo("p3");
+        assertThat(cache.take("female", 35, "warm, calm")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void take_ShouldIgnoreCaseAndWhitespaceOfDescription() throws Exception {
+        cache.put("Female", 35, "  Warm,   calm ", List.of(preview("p2")));
+
+        assertThat(cache.take("female", 35, "warm, calm")).isPresent();
+    }
+
+    @Test
+    void take_WhenDescriptionDiffers_ShouldReturnEmpty() throws Exception {
+        cache.put("female", 35, "warm, calm", List.of(preview("p2")));
+
+        assertThat(cache.take("female", 36, "warm, calm")).isEmpty();
+        assertThat(cache.take("male", 35, "warm, calm")).isEmpty();
+    }
+
+    @Test
+    void expiry_ShouldDeleteFilesOfUntakenPreviewsOnly() throws Exception {
+        VoicePreviewCache.Preview taken = preview("p2");
+        VoicePreviewCache.Preview unused = preview("p3");
+        cache.put("female", 35, "warm", List.of(taken, unused));
+        cache.take("female", 35, "warm");
+
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+        cache.cleanUp();
+
+        assertThat(taken.file()).exists();
+        assertThat(unused.file()).doesNotExist();
+        assertThat(cache.take("female", 35, "warm")).isEmpty();
+    }
+
+    @Test
+    void destroy_ShouldDeleteFilesOfUntakenPreviews() throws Exception {
+        VoicePreviewCache.Preview unused = preview("p2");
+        cache.put("male", 50, "deep", List.of(unused));
+
+        cache.destroy();
+
+        assertThat(unused.file()).doesNotExist();
+    }
+
+    private VoicePreviewCache.Preview preview(String id) throws Exception {
+        Path file = Files.write(previewsDir.resolve(id + ".mp3"), new byte[]{1});
+        return new VoicePreviewCache.Preview(id, "/api/uploads/voice-previews/" + id + ".mp3", file);
+    }
+}
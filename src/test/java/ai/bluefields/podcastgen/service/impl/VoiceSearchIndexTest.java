@@ -0,0 +1,203 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.dto.VoiceSearchCriteria;
+import ai.bluefields.podcastgen.model.Voice;
+import ai.bluefields.podcastgen.repository.VoiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoiceSearchIndexTest {
+
+    // The index hands out copies, so results are matched to the fixtures by id
+    private static final Comparator<Voice> BY_ID = Comparator.comparing(Voice::getId);
+
+    @Mock
+    private VoiceRepository voiceRepository;
+
+    private VoiceSearchIndex index;
+
+    private Voice warmBritish;
+    private Voice warmAmerican;
+    private Voice deepBritish;
+
+    @BeforeEach
+    void setUp() {
+        warmBritish = voice(1L, "Alice", Voice.Gender.female, "user-1", "warm", "british", "calm");
+        warmAmerican = voice(2L, "Bob", Voice.Gender.male, "user-1", "Warm", "american");
+        deepBritish = voice(3L, "Carl", Voice.Gender.male, "user-2", "deep", "british");
+        when(voiceRepository.findAll()).thenReturn(List.of(warmBritish, warmAmerican, deepBritish));
+        index = new VoiceSearchIndex(voiceRepository);
+    }
+
+    @Test
+    void search_WhenMatchAll_ShouldRequireEveryTag() {
+        List<Voice> result = index.search(criteria("warm", "british"));
+
+        assertThat(result).usingElementComparator(BY_ID).containsExactly(warmBritish);
+    }
+
+    @Test
+    void search_WhenMatchAny_ShouldRankVoicesMatchingMoreTagsFirst() {
+        VoiceSearchCriteria criteria = criteria("warm", "british");
+        criteria.setMatch(VoiceSearchCriteria.TagMatch.ANY);
+
+        List<Voice> result = index.search(criteria);
+
+        assertThat(result.get(0).getId()).isEqualTo(warmBritish.getId());
+        assertThat(result).usingElementComparator(BY_ID)
+            .containsExactlyInAnyOrder(warmBritish, warmAmerican, deepBritish);
+    }
+
+    @Test
+    void search_WhenPrefix_ShouldMatchTagsStartingWithQuery() {
+        VoiceSearchCriteria criteria = criteria("brit");
+        criteria.setPrefix(true);
+
+        assertThat(index.search(criteria)).usingElementComparator(BY_ID)
+            .containsExactlyInAnyOrder(warmBritish, deepBritish);
+        assertThat(index.search(criteria("brit"))).isEmpty();
+    }
+
+    @Test
+    void search_WhenFuzzy_ShouldTolerateOneTypo() {
+        VoiceSearchCriteria criteria = criteria("britsh");
+        criteria.setFuzzy(true);
+
+        assertThat(index.search(criteria)).usingElementComparator(BY_ID)
+            .containsExactlyInAnyOrder(warmBritish, deepBritish);
+    }
+
+    @Test
+    void search_WhenAttributeFilters_ShouldIntersectWithTags() {
+        VoiceSearchCriteria criteria = criteria("british");
+        criteria.setGender(Voice.Gender.male);
+        criteria.setUserId("user-2");
+
+        assertThat(index.search(criteria)).usingElementComparator(BY_ID).containsExactly(deepBritish);
+    }
+
+    @Test
+    void search_WhenNoTags_ShouldFilterByAttributesOnly() {
+        VoiceSearchCriteria criteria = criteria();
+        criteria.setUserId("user-1");
+
+        assertThat(index.search(criteria)).usingElementComparator(BY_ID)
+            .containsExactlyInAnyOrder(warmBritish, warmAmerican);
+    }
+
+    @Test
+    void search_WhenCharacteristicsGiven_ShouldRankByOverlap() {
+        VoiceSearchCriteria criteria = criteria();
+        criteria.setCharacteristics("A deep, British voice");
+
+        List<Voice> result = index.search(criteria);
+
+        assertThat(result).usingElementComparator(BY_ID).startsWith(deepBritish, warmBritish);
+    }
+
+    @Test
+    void search_WhenLimitGiven_ShouldReturnBestResultsOnly() {
+        VoiceSearchCriteria criteria = criteria();
+        criteria.setCharacteristics("warm british calm");
+        criteria.setLimit(1);
+
+        assertThat(index.search(criteria)).usingElementComparator(BY_ID).containsExactly(warmBritish);
+    }
+
+    @Test
+    void upsertAfterCommit_WhenNoTransaction_ShouldUpdateIndexImmediately() {
+        index.search(criteria());
+        warmAmerican.setTags(new String[]{"raspy"});
+
+        index.upsertAfterCommit(warmAmerican);
+
+        assertThat(index.search(criteria("raspy"))).usingElementComparator(BY_ID).containsExactly(warmAmerican);
+        assertThat(index.search(criteria("american"))).isEmpty();
+        verify(voiceRepository, times(1)).findAll();
+    }
+
+    @Test
+    void search_WhenCallerChangesResult_ShouldNotChangeTheIndex() {
+        index.search(criteria("warm", "british")).get(0).setTags(new String[]{"raspy"});
+
+        assertThat(index.search(criteria("raspy"))).isEmpty();
+        assertThat(index.search(criteria("warm", "british"))).singleElement()
+            .satisfies(voice -> assertThat(voice.getTags()).containsExactly("warm", "british", "calm"));
+    }
+
+    @Test
+    void upsertAfterCommit_WhenVoiceChangesAfterwards_ShouldKeepTheUpsertedState() {
+        index.search(criteria());
+        warmAmerican.setTags(new String[]{"raspy"});
+        index.upsertAfterCommit(warmAmerican);
+
+        warmAmerican.setTags(new String[]{"gravelly"});
+
+        assertThat(index.search(criteria("raspy"))).usingElementComparator(BY_ID).containsExactly(warmAmerican);
+        assertThat(index.search(criteria("gravelly"))).isEmpty();
+    }
+
+    @Test
+    void removeAfterCommit_WhenNoTransaction_ShouldDropVoice() {
+        index.search(criteria());
+
+        index.removeAfterCommit(warmBritish.getId());
+
+        assertThat(index.search(criteria("british"))).usingElementComparator(BY_ID).containsExactly(deepBritish);
+    }
+
+    @Test
+    void rebuild_WhenVoicesChangeWhileTableIsRead_ShouldKeepTheChanges() {
+        Voice newVoice = voice(4L, "Dana", Voice.Gender.female, "user-3", "bright");
+        when(voiceRepository.findAll()).thenAnswer(invocation -> {
+            // Committed after the snapshot was taken
+            index.upsertAfterCommit(newVoice);
+            index.removeAfterCommit(deepBritish.getId());
+            return List.of(warmBritish, warmAmerican, deepBritish);
+        });
+
+        index.rebuild();
+
+        assertThat(index.search(criteria("bright"))).usingElementComparator(BY_ID).containsExactly(newVoice);
+        assertThat(index.search(criteria("british"))).usingElementComparator(BY_ID).containsExactly(warmBritish);
+        verify(voiceRepository, times(1)).findAll();
+    }
+
+    @Test
+    void withinOneEdit_ShouldAcceptSingleEditsOnly() {
+        assertThat(VoiceSearchIndex.withinOneEdit("warm", "warm")).isTrue();
+        assertThat(VoiceSearchIndex.withinOneEdit("warm", "worm")).isTrue();
+        assertThat(VoiceSearchIndex.withinOneEdit("warm", "warms")).isTrue();
+        assertThat(VoiceSearchIndex.withinOneEdit("warm", "arm")).isTrue();
+        assertThat(VoiceSearchIndex.withinOneEdit("warm", "wrma")).isFalse();
+        assertThat(VoiceSearchIndex.withinOneEdit("warm", "warmer")).isFalse();
+    }
+
+    private static VoiceSearchCriteria criteria(String... tags) {
+        VoiceSearchCriteria criteria = new VoiceSearchCriteria();
+        criteria.setTags(List.of(tags));
+        return criteria;
+    }
+
+    private static Voice voice(Long id, String name, Voice.Gender gender, String userId, String... tags) {
+        Voice voice = new Voice();
+        voice.setId(id);
+        voice.setName(name);
+        voice.setExternalVoiceId("ext-" + id);
+        voice.setVoiceType(Voice.VoiceType.STANDARD);
+        voice.setGender(gender);
+        voice.setUserId(userId);
+        voice.setTags(tags);
+        return voice;
+    }
+}
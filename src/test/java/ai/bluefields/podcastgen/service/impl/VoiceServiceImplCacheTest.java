@@ -0,0 +1,144 @@
+package ai.bluefields.podcastgen.service.impl;
+
+import ai.bluefields.podcastgen.config.CacheConfig;
+import ai.bluefields.podcastgen.model.Voice;
+import ai.bluefields.podcastgen.repository.ParticipantRepository;
+import ai.bluefields.podcastgen.repository.VoiceRepository;
+import ai.bluefields.podcastgen.service.VoiceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(VoiceServiceImplCacheTest.TestConfig.class)
+class VoiceServiceImplCacheTest {
+
+    @Configuration
+    @Import({CacheConfig.class, VoiceServiceImpl.class})
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private VoiceService voiceService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private VoiceRepository voiceRepository;
+
+    @MockBean
+    private ElevenLabsClient elevenLabsClient;
+
+    @MockBean
+    private VoiceSearchIndex voiceSearchIndex;
+
+    @MockBean
+    private ParticipantRepository participantRepository;
+
+    private Voice voice;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        voice = new Voice();
+        voice.setId(1L);
+        voice.setName("Narrator");
+        voice.setExternalVoiceId("ext-1");
+        voice.setVoiceType(Voice.VoiceType.STANDARD);
+        voice.setGender(Voice.Gender.female);
+    }
+
+    @Test
+    void getVoicesByGender_WhenCalledTwice_ShouldQueryRepositoryOnce() {
+        when(voiceRepository.findByGender(Voice.Gender.female)).thenReturn(List.of(voice));
+
+        voiceService.getVoicesByGender(Voice.Gender.female);
+        List<Voice> result = voiceService.getVoicesByGender(Voice.Gender.female);
+
+        assertThat(result).containsExactly(voice);
+        verify(voiceRepository, times(1)).findByGender(Voice.Gender.female);
+        assertThat(meterRegistry.get("app.cache.hit.ratio").tag("cache", CacheConfig.VOICES).gauge().value())
+            .isGreaterThan(0.0);
+    }
+
+    @Test
+    void createVoice_ShouldEvictCachedQueries() {
+        when(voiceRepository.findByTag("warm")).thenReturn(List.of(voice));
+        when(voiceRepository.findByUserId("user-1")).thenReturn(List.of());
+        when(voiceRepository.save(any(Voice.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        voiceService.getVoicesByTag("warm");
+        voiceService.getVoicesByUserId("user-1");
+        voiceService.createVoice(voice);
+        voiceService.getVoicesByTag("warm");
+        voiceService.getVoicesByUserId("user-1");
+
+        verify(voiceRepository, times(2)).findByTag("warm");
+        verify(voiceRepository, times(2)).findByUserId("user-1");
+    }
+
+    @Test
+    void getVoicesByTagAndExternalId_WithSameArgument_ShouldNotShareCacheEntries() {
+        when(voiceRepository.findByTag("ext-1")).thenReturn(List.of());
+        when(voiceRepository.findByExternalVoiceId("ext-1")).thenReturn(Optional.of(voice));
+
+        voiceService.getVoicesByTag("ext-1");
+
+        assertThat(voiceService.getVoiceByExternalId("ext-1")).contains(voice);
+    }
+
+    @Test
+    void setDefaultVoice_WhenGivenCachedVoice_ShouldFlagTheLoadedEntityOnly() {
+        Voice loaded = voice.copy();
+        when(voiceRepository.findById(1L)).thenReturn(Optional.of(voice), Optional.of(loaded));
+        when(voiceRepository.save(any(Voice.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Voice cached = voiceService.getVoiceById(1L).orElseThrow();
+
+        Voice result = voiceService.setDefaultVoice(cached);
+
+        assertThat(result).isSameAs(loaded);
+        assertThat(loaded.isDefault()).isTrue();
+        assertThat(cached.isDefault()).isFalse();
+        verify(voiceRepository, never()).save(cached);
+    }
+
+    @Test
+    void updateVoice_ShouldApplyChangesToTheLoadedEntity() {
+        Voice loaded = voice.copy();
+        loaded.setCreatedAt(ZonedDateTime.now().minusDays(1));
+        when(voiceRepository.findById(1L)).thenReturn(Optional.of(loaded));
+        when(voiceRepository.save(any(Voice.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Voice changes = voice.copy();
+        changes.setName("Storyteller");
+
+        Voice result = voiceService.updateVoice(changes);
+
+        assertThat(result).isSameAs(loaded);
+        assertThat(loaded.getName()).isEqualTo("Storyteller");
+        assertThat(loaded.getCreatedAt()).isNotNull();
+        verify(voiceRepository, never()).save(changes);
+    }
+}
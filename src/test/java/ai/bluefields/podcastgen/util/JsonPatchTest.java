@@ -0,0 +1,69 @@
+package ai.bluefields.podcastgen.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void apply_ShouldSupportAllOperationsWithoutModifyingTarget() throws Exception {
+        JsonNode document = objectMapper.readTree("""
+            {"title": "Episode", "messages": [{"content": "a"}, {"content": "b"}]}
+            """);
+        JsonNode original = document.deepCopy();
+
+        JsonNode result = JsonPatch.apply(document, objectMapper.readTree("""
+            [
+                {"op": "test", "path": "/title", "value": "Episode"},
+                {"op": "replace", "path": "/messages/0/content", "value": "a2"},
+                {"op": "add", "path": "/messages/1", "value": {"content": "inserted"}},
+                {"op": "remove", "path": "/messages/2"},
+                {"op": "copy", "from": "/title", "path": "/subtitle"},
+                {"op": "move", "from": "/subtitle", "path": "/a~1b"}
+            ]
+            """));
+
+        assertThat(result).isEqualTo(objectMapper.readTree("""
+            {"title": "Episode", "a/b": "Episode", "messages": [{"content": "a2"}, {"content": "inserted"}]}
+            """));
+        assertThat(document).isEqualTo(original);
+    }
+
+    @Test
+    void apply_ShouldShareUntouchedSubtrees() throws Exception {
+        JsonNode document = objectMapper.readTree("""
+            {"messages": [{"content": "a"}, {"content": "b"}]}
+            """);
+
+        JsonNode result = JsonPatch.apply(document, objectMapper.readTree("""
+            [{"op": "replace", "path": "/messages/0/content", "value": "a2"}]
+            """));
+
+        assertThat(result.at("/messages/1")).isSameAs(document.at("/messages/1"));
+        assertThat(result.at("/messages/0")).isNotSameAs(document.at("/messages/0"));
+    }
+
+    @Test
+    void apply_WhenAnOperationFails_ShouldRejectWholePatch() throws Exception {
+        JsonNode document = objectMapper.readTree("""
+            {"messages": [{"content": "a"}]}
+            """);
+
+        assertThatThrownBy(() -> JsonPatch.apply(document, objectMapper.readTree("""
+            [
+                {"op": "replace", "path": "/messages/0/content", "value": "changed"},
+                {"op": "test", "path": "/messages/0/content", "value": "a"}
+            ]
+            """))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonPatch.apply(document, objectMapper.readTree("""
+            [{"op": "remove", "path": "/messages/5"}]
+            """))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(document.at("/messages/0/content").asText()).isEqualTo("a");
+    }
+}